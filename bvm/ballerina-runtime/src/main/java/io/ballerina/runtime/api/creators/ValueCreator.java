@@ -49,6 +49,7 @@ import io.ballerina.runtime.internal.ValueUtils;
 import io.ballerina.runtime.internal.XmlFactory;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.ConcurrentTableValueImpl;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.FPValue;
 import io.ballerina.runtime.internal.values.HandleValue;
@@ -828,6 +829,29 @@ public class ValueCreator {
         return new TableValueImpl(tableType, (ArrayValue) data, (ArrayValue) fieldNames);
     }
 
+    /**
+     * Create a table value that can be updated concurrently from multiple strands, using the given type. Rows of the
+     * table are not kept in insertion order and iterating the table is weakly consistent.
+     *
+     * @param tableType table type.
+     * @return concurrent table value for given type.
+     */
+    public static BTable createConcurrentTableValue(TableType tableType) {
+        return new ConcurrentTableValueImpl(tableType);
+    }
+
+    /**
+     * Create a table value that can be updated concurrently from multiple strands, using the given type. Rows of the
+     * table are not kept in insertion order and iterating the table is weakly consistent.
+     *
+     * @param tableType        table type.
+     * @param concurrencyLevel estimated number of strands updating the table at the same time.
+     * @return concurrent table value for given type.
+     */
+    public static BTable createConcurrentTableValue(TableType tableType, int concurrencyLevel) {
+        return new ConcurrentTableValueImpl(tableType, concurrencyLevel);
+    }
+
     private ValueCreator() {
     }
 }
@@ -17,6 +17,7 @@
  */
 package io.ballerina.runtime.api.utils;
 
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.JsonType;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.StructureType;
@@ -28,14 +29,24 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.JsonStreamReader;
+import io.ballerina.runtime.internal.Utf8JsonGenerator;
+import io.ballerina.runtime.internal.Utf8JsonParser;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 
 /**
  * Class @{@link JsonParser} provides APIs to handle json values.
@@ -125,6 +136,93 @@ public class JsonUtils {
         return JsonParser.parse(reader, mode);
     }
 
+    /**
+     * Parses the UTF-8 encoded JSON content in the given bytes. The bytes are parsed directly, without decoding them
+     * into chars first, hence this is faster than parsing an {@link InputStream} of the same content.
+     *
+     * @param bytes UTF-8 encoded JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes) throws BError {
+        return Utf8JsonParser.parse(bytes, 0, bytes.length, NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given bytes. The bytes are parsed directly, without decoding them
+     * into chars first.
+     *
+     * @param bytes UTF-8 encoded JSON content
+     * @param mode  the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return Utf8JsonParser.parse(bytes, 0, bytes.length, mode);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content remaining in the given {@link ByteBuffer}. The position of the buffer is
+     * not changed.
+     *
+     * @param buffer UTF-8 encoded JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return Utf8JsonParser.parse(buffer, mode);
+    }
+
+    /**
+     * Reads the contents in the given {@link Reader} as a value of the given type. Records, maps and arrays of the
+     * target type are created while reading, without creating a JSON value first.
+     *
+     * @param reader     reader which contains the JSON content
+     * @param targetType type of the value
+     * @return value of the target type
+     * @throws BError for any parsing error, or if the top level value cannot be converted to the target type
+     * @throws BallerinaException if a field value of a record or map cannot be converted, the message starts with
+     *                            the name of the field as with {@link #convertJSON(Object, Type)}
+     */
+    public static Object parse(Reader reader, Type targetType) throws BError {
+        return new JsonStreamReader(reader).read(targetType);
+    }
+
+    /**
+     * Reads the contents in the given {@link InputStream} as a value of the given type. Records, maps and arrays of
+     * the target type are created while reading, without creating a JSON value first.
+     *
+     * @param in          input stream which contains the JSON content
+     * @param charsetName the character set name of the input stream
+     * @param targetType  type of the value
+     * @return value of the target type
+     * @throws BError for any parsing error, or if the top level value cannot be converted to the target type
+     * @throws BallerinaException if a field value of a record or map cannot be converted, the message starts with
+     *                            the name of the field as with {@link #convertJSON(Object, Type)}
+     */
+    public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
+        try {
+            return parse(new InputStreamReader(in, charsetName), targetType);
+        } catch (UnsupportedEncodingException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error in parsing JSON data: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Reads the contents in the given {@link Reader}, which is a JSON array, one element at a time. Each element is
+     * created as a value of the given type when it is iterated, hence arrays larger than the available memory can be
+     * processed.
+     *
+     * @param reader      reader which contains the JSON array
+     * @param elementType type of the array elements
+     * @return iterator of the array elements, which throws a {@link BError} for any parsing error or an element that
+     *         cannot be converted, and a {@link BallerinaException} for a field value that cannot be converted
+     */
+    public static Iterator<Object> parseArrayElements(Reader reader, Type elementType) {
+        return new JsonStreamReader(reader).readArrayElements(elementType);
+    }
+
     /**
      * Parses {@link BTable} to JSON.
      *
@@ -214,8 +312,22 @@ public class JsonUtils {
      * @throws BError If error occur while serialize json construct.
      */
     public static void serialize(Object json, OutputStream out) throws BError {
+        serialize(json, out, Charset.defaultCharset());
+    }
+
+    /**
+     * Serialize the JSON constructs to be written out to a given {@link OutputStream}.
+     *
+     * @param json    JSON construct
+     * @param out     Output source
+     * @param charset Character set
+     * @throws BError If error occur while serialize json construct.
+     */
+    public static void serialize(Object json, OutputStream out, Charset charset) throws BError {
         try {
-            JsonGenerator gen = new JsonGenerator(out);
+            // UTF-8 content is encoded directly into bytes, without writing chars to an encoding writer
+            JsonGenerator gen = StandardCharsets.UTF_8.equals(charset) ? new Utf8JsonGenerator(out) :
+                    new JsonGenerator(out, charset);
             gen.serialize(json);
             gen.flush();
         } catch (IOException e) {
@@ -224,16 +336,15 @@ public class JsonUtils {
     }
 
     /**
-     * Serialize the JSON constructs to be written out to a given {@link OutputStream}.
+     * Serialize the JSON constructs as UTF-8 to a given {@link WritableByteChannel}.
      *
      * @param json    JSON construct
-     * @param out     Output source
-     * @param charset Character set
+     * @param channel Output channel
      * @throws BError If error occur while serialize json construct.
      */
-    public static void serialize(Object json, OutputStream out, Charset charset) throws BError {
+    public static void serialize(Object json, WritableByteChannel channel) throws BError {
         try {
-            JsonGenerator gen = new JsonGenerator(out, charset);
+            JsonGenerator gen = new Utf8JsonGenerator(channel);
             gen.serialize(json);
             gen.flush();
         } catch (IOException e) {
@@ -241,6 +352,23 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Serialize the JSON constructs as UTF-8 to a byte array.
+     *
+     * @param json JSON construct
+     * @return UTF-8 encoded JSON content
+     * @throws BError If error occur while serialize json construct.
+     */
+    public static byte[] serializeToBytes(Object json) throws BError {
+        try {
+            Utf8JsonGenerator gen = new Utf8JsonGenerator();
+            gen.serialize(json);
+            return gen.toByteArray();
+        } catch (IOException e) {
+            throw new ErrorValue(StringUtils.fromString(e.getMessage()), e);
+        }
+    }
+
     /**
      * Serialize the JSON constructs to be written out to a given {@link Writer}.
      *
@@ -51,8 +51,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -110,34 +108,61 @@ public class StringUtils {
                     BLangExceptionHelper.getErrorDetails(RuntimeErrors.STRING_INDEX_OUT_OF_RANGE, index, s.length()));
         }
 
-        return StringUtils.fromString(String.valueOf(Character.toChars(s.getCodePoint((int) index))));
+        int codePoint = s.getCodePoint((int) index);
+        if (Character.isBmpCodePoint(codePoint) && !Character.isSurrogate((char) codePoint)) {
+            return new BmpStringValue(String.valueOf((char) codePoint));
+        }
+        return StringUtils.fromString(String.valueOf(Character.toChars(codePoint)));
     }
 
     public static BString fromString(String s) {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
-            }
+        int length = s.length();
+        int firstHighSurrogate = 0;
+        while (firstHighSurrogate < length && !Character.isHighSurrogate(s.charAt(firstHighSurrogate))) {
+            firstHighSurrogate++;
         }
-        if (highSurrogates == null) {
+        if (firstHighSurrogate == length) {
             return new BmpStringValue(s);
         }
+        return new NonBmpStringValue(s, getSurrogatePositions(s, firstHighSurrogate));
+    }
 
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
+    /**
+     * Create a ballerina string from a Java string that is known to have only basic multilingual plane characters,
+     * without scanning it for surrogate pairs. e.g. strings produced by formatting numbers.
+     *
+     * @param s Java string without surrogate pairs
+     * @return ballerina string
+     */
+    public static BString fromBmpString(String s) {
+        if (s == null) {
+            return null;
+        }
+        return new BmpStringValue(s);
+    }
 
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+    // Positions are code point indices, hence each surrogate pair before a position shifts it by one
+    private static int[] getSurrogatePositions(String s, int firstHighSurrogate) {
+        int length = s.length();
+        int count = 1;
+        for (int i = firstHighSurrogate + 1; i < length; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                count++;
+            }
+        }
+        int[] positions = new int[count];
+        positions[0] = firstHighSurrogate;
+        int found = 1;
+        for (int i = firstHighSurrogate + 1; found < count; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                positions[found] = i - found;
+                found++;
+            }
         }
-        return new NonBmpStringValue(s, highSurrogatesArr);
+        return positions;
     }
 
     public static BArray fromStringArray(String[] s) {
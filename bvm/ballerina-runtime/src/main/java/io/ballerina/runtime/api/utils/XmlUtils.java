@@ -29,6 +29,7 @@ import io.ballerina.runtime.internal.values.XmlQName;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Iterator;
 
 /**
  * Class @{@link XmlUtils} provides APIs to handle xml values.
@@ -88,6 +89,29 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create a XML sequence from a string, without building the children of elements until they are first accessed.
+     * Large documents can be navigated this way without creating the whole tree.
+     *
+     * @param xmlStr String representation of the XML
+     * @return XML sequence
+     */
+    public static BXml parseLazily(String xmlStr) {
+        return XmlFactory.parseLazily(xmlStr);
+    }
+
+    /**
+     * Reads the elements with the given name from a reader one at a time, such as the repeated entries of a feed.
+     * Only the element being returned is kept in memory.
+     *
+     * @param reader      XML reader
+     * @param elementName name of the elements, as {@code localName} or {@code {namespaceUri}localName}
+     * @return iterator of the XML elements
+     */
+    public static Iterator<BXml> parseElements(Reader reader, String elementName) {
+        return XmlFactory.parseElements(reader, elementName);
+    }
+
     /**
      * Converts a {@link io.ballerina.runtime.internal.values.TableValue} to {@link BXml}.
      *
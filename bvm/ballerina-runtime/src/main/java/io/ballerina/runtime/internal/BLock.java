@@ -19,53 +19,106 @@ package io.ballerina.runtime.internal;
 
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.metrics.Counter;
 
-import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock is reentrant and is acquired with a compare-and-set on the owner strand. Strands that fail to acquire
+ * the lock are queued and yielded, and the first one in the queue is unblocked when the lock is released.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    /**
+     * Counts the times a strand had to yield because the lock was held by another strand, across all the locks. Set
+     * once a metric provider sets the default registry, until then the contentions are not counted.
+     */
+    static volatile Counter contendedAcquisitions;
 
-    private ArrayDeque<Strand> waitingForLock;
+    /**
+     * Number of strands currently waiting for a lock, across all the locks.
+     */
+    static final AtomicInteger WAITING_STRANDS = new AtomicInteger();
+
+    private final AtomicReference<Strand> owner = new AtomicReference<>();
+
+    // Only accessed by the owner strand
+    private int holdCount;
+
+    private final Queue<Strand> waitingForLock = new ConcurrentLinkedQueue<>();
+
+    // Store this lock belongs to, used to check whether a strand holds any lock of a given module
+    final BLockStore lockStore;
 
     public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+        this(null);
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
-            return true;
-        }
+    BLock(BLockStore lockStore) {
+        this.lockStore = lockStore;
+    }
+
+    public boolean lock(Strand strand) {
+        while (true) {
+            Strand current = this.owner.get();
+            if (current == strand) {
+                this.holdCount++;
+                return true;
+            }
+            if (current == null && this.owner.compareAndSet(null, strand)) {
+                this.holdCount = 1;
+                strand.addAcquiredLock(this);
+                return true;
+            }
 
-        this.waitingForLock.offerLast(strand);
+            // Strand state change, done before queuing so that an unblock after dequeuing is not lost.
+            strand.setState(State.BLOCK_AND_YIELD);
+            strand.blockedOnExtern = false;
+            this.waitingForLock.offer(strand);
+            WAITING_STRANDS.incrementAndGet();
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
-        return false;
+            // The owner may have released the lock before this strand got queued, in which case nobody is going
+            // to unblock it. Retry if the strand can still be taken out of the queue, otherwise it has already
+            // been unblocked by the releasing strand.
+            if (this.owner.get() == null && this.waitingForLock.remove(strand)) {
+                WAITING_STRANDS.decrementAndGet();
+                strand.setState(State.RUNNABLE);
+                continue;
+            }
+            Counter contentions = contendedAcquisitions;
+            if (contentions != null) {
+                contentions.increment();
+            }
+            return false;
+        }
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
+    public void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        if (--this.holdCount > 0) {
+            return;
+        }
+        this.owner.get().removeAcquiredLock(this);
+        this.owner.set(null);
+        Strand strand = this.waitingForLock.poll();
+        if (strand != null) {
+            WAITING_STRANDS.decrementAndGet();
             strand.scheduler.unblockStrand(strand);
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.owner.get() == null;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner.get() == ctx;
     }
 }
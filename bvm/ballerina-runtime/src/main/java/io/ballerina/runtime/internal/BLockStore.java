@@ -21,9 +21,15 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  *
@@ -31,6 +37,10 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class BLockStore {
 
+    static {
+        DefaultMetricRegistry.addRegistryListener(BLockStore::registerMetrics);
+    }
+
     /**
      * The map of locks inferred.
      */
@@ -41,23 +51,33 @@ public class BLockStore {
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, new BLock(this));
     }
 
     public BLock getLockFromMap(String lockName) {
         return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
+            return new BLock(this);
         });
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
-        for (BLock lock : globalLockMap.values()) {
-            if (lock.isLockFree()) {
-                continue;
-            }
-            if (lock.lockedBySameContext(strand)) {
+        List<BLock> acquiredLocks = strand.acquiredLocks;
+        if (acquiredLocks == null) {
+            return;
+        }
+        for (int i = 0; i < acquiredLocks.size(); i++) {
+            if (acquiredLocks.get(i).lockStore == this) {
                 throw ErrorCreator.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
             }
         }
     }
+
+    private static void registerMetrics(MetricRegistry registry) {
+        BLock.contendedAcquisitions = Counter.builder("lock_contentions_total")
+                .description("Total number of times a strand had to wait to acquire a lock")
+                .register(registry);
+        PolledGauge.builder("lock_waiting_strands", BLock.WAITING_STRANDS, AtomicInteger::get)
+                .description("Number of strands currently waiting to acquire a lock")
+                .register(registry);
+    }
 }
@@ -18,7 +18,6 @@
 package io.ballerina.runtime.internal;
 
 import com.ctc.wstx.api.WstxOutputProperties;
-import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.values.XmlComment;
@@ -389,23 +388,22 @@ public class BallerinaXmlSerializer extends OutputStream {
                                               Map<String, String> nsPrefixMap,
                                               Map<String, String> attributeMap) {
         // Extract namespace entries
-        for (Map.Entry<BString, BString> attributeEntry : xmlValue.getAttributesMap().entrySet()) {
-            String key = attributeEntry.getKey().getValue();
+        xmlValue.forEachAttribute((qname, value) -> {
+            String key = qname.getValue();
             if (key.startsWith(XMLNS_NS_URI_PREFIX)) {
                 int closingCurly = key.indexOf('}');
                 String prefix = key.substring(closingCurly + 1);
-                if (prefix.equals(XML)) {
-                    continue;
+                if (!prefix.equals(XML)) {
+                    nsPrefixMap.put(prefix, value.getValue());
                 }
-                nsPrefixMap.put(prefix, attributeEntry.getValue().getValue());
             } else {
                 // If `xml` namespace URI is used, we need to add `xml` namespace prefix to prefixMap
                 if (key.startsWith(XML_NS_URI_PREFIX)) {
                     nsPrefixMap.put(XML, XMLConstants.XML_NS_URI);
                 }
-                attributeMap.put(key, attributeEntry.getValue().getValue());
+                attributeMap.put(key, value.getValue());
             }
-        }
+        });
 
         // Remove NS prefixes which points to default NS URI
         String defaultNs = nsPrefixMap.get(EMPTY_STR);
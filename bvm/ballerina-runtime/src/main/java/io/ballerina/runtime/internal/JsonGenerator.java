@@ -75,6 +75,12 @@ public class JsonGenerator {
         this.writer = writer;
     }
 
+    /**
+     * Creates a generator which writes the JSON constructs itself, instead of writing them to a {@link Writer}.
+     */
+    protected JsonGenerator() {
+    }
+
     private void setLevelInit(int index, boolean init) {
         this.checkAndResizeLevels(index);
         this.levelInit[index] = init;
@@ -93,10 +99,10 @@ public class JsonGenerator {
         }
     }
 
-    private void processStartLevel() throws IOException {
+    protected void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(", ");
+                this.writeSeparator();
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -106,33 +112,37 @@ public class JsonGenerator {
         this.currentLevel++;
     }
 
-    private void processEndLevel() {
+    protected void processEndLevel() {
         this.setLevelInit(this.currentLevel - 1, true);
         this.setLevelInit(this.currentLevel, false);
         this.currentLevel--;
     }
 
-    private void processFieldInit() throws IOException {
+    protected void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeSeparator();
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
         this.fieldActive = true;
     }
 
-    private void processValueInit() throws IOException {
+    protected void processValueInit() throws IOException {
         if (this.fieldActive) {
             this.fieldActive = false;
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeSeparator();
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
     }
 
+    protected void writeSeparator() throws IOException {
+        this.writer.write(", ");
+    }
+
     public void startObject() throws IOException {
         this.processStartLevel();
         this.writer.write('{');
@@ -309,6 +319,7 @@ public class JsonGenerator {
                 break;
             case TypeTags.MAP_TAG:
             case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
                 this.startObject();
                 for (Entry<BString, RefValue> entry : ((MapValueImpl<BString, RefValue>) json).entrySet()) {
                     this.writeFieldName(entry.getKey().getValue());
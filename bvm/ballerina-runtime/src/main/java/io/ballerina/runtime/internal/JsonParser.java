@@ -210,11 +210,12 @@ public class JsonParser {
 
         private Object currentJsonNode;
         private Deque<Object> nodesStack;
-        private Deque<String> fieldNames;
+        private Deque<BString> fieldNames;
 
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
         private int charBuffIndex;
+        private boolean nonBmpChars;
 
         private int index;
         private int line;
@@ -288,6 +289,8 @@ public class JsonParser {
         }
 
         private void append(char ch) {
+            // strings without surrogate pairs are created without scanning them again
+            this.nonBmpChars |= Character.isHighSurrogate(ch);
             try {
                 this.charBuff[this.charBuffIndex] = ch;
                 this.charBuffIndex++;
@@ -311,7 +314,7 @@ public class JsonParser {
 
             Object parentNode = this.nodesStack.pop();
             if (TypeChecker.getType(parentNode).getTag() == TypeTags.MAP_TAG) {
-                ((MapValueImpl<BString, Object>) parentNode).put(StringUtils.fromString(fieldNames.pop()),
+                ((MapValueImpl<BString, Object>) parentNode).put(fieldNames.pop(),
                                                                  currentJsonNode);
                 currentJsonNode = parentNode;
                 return FIELD_END_STATE;
@@ -557,11 +560,18 @@ public class JsonParser {
         private String value() {
             String result = new String(this.charBuff, 0, this.charBuffIndex);
             this.charBuffIndex = 0;
+            this.nonBmpChars = false;
             return result;
         }
 
+        private BString bStringValue() {
+            boolean isNonBmp = this.nonBmpChars;
+            String result = value();
+            return isNonBmp ? StringUtils.fromString(result) : StringUtils.fromBmpString(result);
+        }
+
         private void processFieldName() {
-            this.fieldNames.push(this.value());
+            this.fieldNames.push(this.bStringValue());
         }
 
         /**
@@ -675,7 +685,7 @@ public class JsonParser {
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
                         ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
-                                StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                                sm.fieldNames.pop(), sm.bStringValue());
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -707,7 +717,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((ArrayValue) sm.currentJsonNode).append(changeForBString(sm.value()));
+                        ((ArrayValue) sm.currentJsonNode).append(sm.bStringValue());
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_AE_ESC_CHAR_PROCESSING_STATE;
@@ -819,7 +829,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        sm.currentJsonNode = changeForBString(sm.value());
+                        sm.currentJsonNode = sm.bStringValue();
                         state = DOC_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_VAL_ESC_CHAR_PROCESSING_STATE;
@@ -873,7 +883,7 @@ public class JsonParser {
                             break;
                         case FIELD:
                             ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
+                                    this.fieldNames.pop(), Boolean.TRUE);
                             break;
                         case VALUE:
                             currentJsonNode = Boolean.TRUE;
@@ -888,7 +898,7 @@ public class JsonParser {
                             break;
                         case FIELD:
                             ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
+                                    this.fieldNames.pop(), Boolean.FALSE);
                             break;
                         case VALUE:
                             currentJsonNode = Boolean.FALSE;
@@ -903,7 +913,7 @@ public class JsonParser {
                             break;
                         case FIELD:
                             ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
+                                    this.fieldNames.pop(), null);
                             break;
                         case VALUE:
                             currentJsonNode = null;
@@ -942,7 +952,7 @@ public class JsonParser {
                     break;
                 case FIELD:
                     ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                            StringUtils.fromString(this.fieldNames.pop()), value);
+                            this.fieldNames.pop(), value);
                     break;
                 default:
                     currentJsonNode = value;
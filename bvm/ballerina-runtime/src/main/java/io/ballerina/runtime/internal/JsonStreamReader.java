@@ -0,0 +1,528 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static io.ballerina.runtime.internal.JsonUtils.getComplexObjectTypeName;
+import static io.ballerina.runtime.internal.JsonUtils.getTypeName;
+
+/**
+ * Pull based JSON reader which creates the values of a given target type directly from the JSON content.
+ * <p>
+ * Converting with {@link JsonParser} and {@link JsonUtils#convertJSON(Object, Type)} builds the whole JSON tree and
+ * then walks it again to create the target values. This reader creates records, maps and arrays of the target type as
+ * it reads, and skips the fields a record type does not declare without creating values for them. Scalar values are
+ * converted the same way as {@link JsonUtils#convertJSON(Object, Type)}. As in {@link JsonUtils#convertJSONToRecord},
+ * record fields missing in the JSON are set to their zero values and fields not declared in the record type are not
+ * added, even if the record is open.
+ * <p>
+ * A top level JSON array can also be read one element at a time with {@link #readArrayElements(Type)}, so that the
+ * whole array is never held in memory.
+ *
+ * @since 2201.0.1
+ */
+public class JsonStreamReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buff = new char[BUFFER_SIZE];
+    private int index;
+    private int count;
+    private int line = 1;
+    private int column;
+    private final StringBuilder sb = new StringBuilder();
+    private boolean nonBmpChars;
+
+    public JsonStreamReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the whole JSON document as a value of the given type.
+     *
+     * @param targetType type of the value
+     * @return value of the target type
+     * @throws BError if the content is not valid JSON or the top level value cannot be converted to the target type
+     * @throws BallerinaException if a field value of a record or map cannot be converted, the message names the field
+     */
+    public Object read(Type targetType) throws BError {
+        try {
+            Object value = readValue(targetType);
+            if (skipWhitespace() != EOF) {
+                throw new JsonReaderException("invalid JSON document");
+            }
+            return value;
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        } catch (JsonReaderException e) {
+            throw createParserError(e);
+        }
+    }
+
+    /**
+     * Reads a JSON document which is an array, one element at a time. Each element is created as a value of the given
+     * type when it is iterated, and is not referred by the reader afterwards.
+     *
+     * @param elementType type of the array elements
+     * @return iterator of the array elements
+     */
+    public Iterator<Object> readArrayElements(Type elementType) {
+        return new ArrayElementIterator(elementType);
+    }
+
+    private BError createParserError(JsonReaderException e) {
+        return ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line + " " +
+                                                                       "column: " + this.column));
+    }
+
+    private Object readValue(Type targetType) throws IOException, JsonReaderException {
+        switch (targetType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                return readRecord((RecordType) targetType);
+            case TypeTags.MAP_TAG:
+                return readMap((MapType) targetType);
+            case TypeTags.ARRAY_TAG:
+                return readArray((ArrayType) targetType);
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANY_TAG:
+                return readJson();
+            case TypeTags.UNION_TAG:
+                BUnionType unionType = (BUnionType) targetType;
+                if (unionType.isNullable() && skipWhitespace() == 'n') {
+                    return readJson();
+                }
+                Type memberType = getSingleNonNilMember(unionType);
+                if (memberType != null) {
+                    return readValue(memberType);
+                }
+                return JsonUtils.convertJSON(readJson(), targetType);
+            default:
+                // scalars and json values are converted in the same way as a parsed JSON tree
+                return JsonUtils.convertJSON(readJson(), targetType);
+        }
+    }
+
+    private static Type getSingleNonNilMember(BUnionType unionType) {
+        Type nonNilMember = null;
+        for (Type memberType : unionType.getMemberTypes()) {
+            if (memberType == PredefinedTypes.TYPE_NULL) {
+                continue;
+            }
+            if (nonNilMember != null) {
+                return null;
+            }
+            nonNilMember = memberType;
+        }
+        return nonNilMember;
+    }
+
+    private MapValueImpl<BString, Object> readRecord(RecordType recordType) throws IOException, JsonReaderException {
+        startStructure('{', JsonUtils.OBJECT);
+        MapValueImpl<BString, Object> record = new MapValueImpl<>(recordType);
+        Map<String, Field> fields = recordType.getFields();
+        if (!endsStructure('}')) {
+            do {
+                String fieldName = readFieldName();
+                Field field = fields.get(fieldName);
+                if (field != null) {
+                    record.put(StringUtils.fromString(fieldName), readFieldValue(fieldName, field.getFieldType()));
+                } else {
+                    skipValue();
+                }
+            } while (nextMember('}'));
+        }
+
+        for (Field field : fields.values()) {
+            BString fieldName = StringUtils.fromString(field.getFieldName());
+            if (!record.containsKey(fieldName)) {
+                record.put(fieldName, field.getFieldType().getZeroValue());
+            }
+        }
+        return record;
+    }
+
+    private MapValueImpl<BString, Object> readMap(MapType mapType) throws IOException, JsonReaderException {
+        startStructure('{', JsonUtils.OBJECT);
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType);
+        Type constraintType = mapType.getConstrainedType();
+        if (!endsStructure('}')) {
+            do {
+                String key = readFieldName();
+                map.put(StringUtils.fromString(key), readFieldValue(key, constraintType));
+            } while (nextMember('}'));
+        }
+        return map;
+    }
+
+    private ArrayValue readArray(ArrayType arrayType) throws IOException, JsonReaderException {
+        startStructure('[', JsonUtils.ARRAY);
+        ArrayValue array = new ArrayValueImpl(arrayType);
+        Type elementType = arrayType.getElementType();
+        if (!endsStructure(']')) {
+            do {
+                array.append(readValue(elementType));
+            } while (nextMember(']'));
+        }
+        return array;
+    }
+
+    private Object readFieldValue(String fieldName, Type fieldType) throws IOException, JsonReaderException {
+        try {
+            return readValue(fieldType);
+        } catch (RuntimeException e) {
+            // a BError of this field, or a BallerinaException of a nested field which already names that field
+            JsonUtils.handleError(e, fieldName);
+            return null;
+        }
+    }
+
+    private void startStructure(char start, String structureType) throws IOException, JsonReaderException {
+        int ch = skipWhitespace();
+        if (ch == start) {
+            read();
+            return;
+        }
+        if (ch == '"' || ch == '-' || Character.isLetterOrDigit(ch) || ch == '{' || ch == '[') {
+            // a valid JSON value of a different kind
+            throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.INCOMPATIBLE_TYPE,
+                                                           getComplexObjectTypeName(structureType),
+                                                           getTypeName(readJson()));
+        }
+        throw new JsonReaderException("expected '" + start + "'");
+    }
+
+    private boolean endsStructure(char end) throws IOException {
+        if (skipWhitespace() == end) {
+            read();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean nextMember(char end) throws IOException, JsonReaderException {
+        int ch = skipWhitespace();
+        read();
+        if (ch == ',') {
+            return true;
+        }
+        if (ch == end) {
+            return false;
+        }
+        throw new JsonReaderException("expected ',' or '" + end + "'");
+    }
+
+    private String readFieldName() throws IOException, JsonReaderException {
+        if (skipWhitespace() != '"') {
+            throw new JsonReaderException("expected '\"'");
+        }
+        read();
+        String fieldName = readStringContent();
+        if (skipWhitespace() != ':') {
+            throw new JsonReaderException("expected ':'");
+        }
+        read();
+        return fieldName;
+    }
+
+    /**
+     * Reads a value without a target type, in the same form {@link JsonParser} creates it.
+     */
+    private Object readJson() throws IOException, JsonReaderException {
+        int ch = skipWhitespace();
+        switch (ch) {
+            case '{':
+                return readMap(new BMapType(PredefinedTypes.TYPE_JSON));
+            case '[':
+                return readArray(new BArrayType(PredefinedTypes.TYPE_JSON));
+            case '"':
+                read();
+                String value = readStringContent();
+                return this.nonBmpChars ? StringUtils.fromString(value) : StringUtils.fromBmpString(value);
+            case EOF:
+                throw new JsonReaderException("invalid JSON document");
+            default:
+                return readNonStringValue();
+        }
+    }
+
+    private void skipValue() throws IOException, JsonReaderException {
+        int ch = skipWhitespace();
+        switch (ch) {
+            case '{':
+                read();
+                if (!endsStructure('}')) {
+                    do {
+                        readFieldName();
+                        skipValue();
+                    } while (nextMember('}'));
+                }
+                break;
+            case '[':
+                read();
+                if (!endsStructure(']')) {
+                    do {
+                        skipValue();
+                    } while (nextMember(']'));
+                }
+                break;
+            case '"':
+                read();
+                readStringContent();
+                break;
+            default:
+                readNonStringValue();
+                break;
+        }
+    }
+
+    private String readStringContent() throws IOException, JsonReaderException {
+        sb.setLength(0);
+        nonBmpChars = false;
+        while (true) {
+            int ch = read();
+            switch (ch) {
+                case '"':
+                    return sb.toString();
+                case '\\':
+                    sb.append(readEscapedChar());
+                    break;
+                case EOF:
+                    throw new JsonReaderException("expected '\"'");
+                default:
+                    nonBmpChars |= Character.isHighSurrogate((char) ch);
+                    sb.append((char) ch);
+                    break;
+            }
+        }
+    }
+
+    private char readEscapedChar() throws IOException, JsonReaderException {
+        int ch = read();
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw new JsonReaderException("expected the hexadecimal value of a unicode character");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                nonBmpChars |= Character.isHighSurrogate((char) codeUnit);
+                return (char) codeUnit;
+            default:
+                throw new JsonReaderException("expected escaped characters");
+        }
+    }
+
+    private Object readNonStringValue() throws IOException, JsonReaderException {
+        sb.setLength(0);
+        int ch = peek();
+        while (ch != EOF && ch != ',' && ch != '}' && ch != ']' && !isWhitespace(ch)) {
+            sb.append((char) read());
+            ch = peek();
+        }
+        String str = sb.toString();
+        switch (str) {
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            case "null":
+                return null;
+            case "":
+                throw new JsonReaderException("invalid JSON document");
+            default:
+                break;
+        }
+        try {
+            if (isNegativeZero(str)) {
+                return Double.parseDouble(str);
+            }
+            // as in JsonParser, only numbers with a fraction are decimals, hence an exponent without a fraction
+            // such as 1e3 is not a valid int and is rejected
+            if (str.indexOf('.') >= 0) {
+                return new DecimalValue(str);
+            }
+            return Long.parseLong(str);
+        } catch (NumberFormatException e) {
+            throw new JsonReaderException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
+    private static boolean isWhitespace(int ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private int skipWhitespace() throws IOException {
+        int ch = peek();
+        while (isWhitespace(ch)) {
+            read();
+            ch = peek();
+        }
+        return ch;
+    }
+
+    private int peek() throws IOException {
+        if (index == count && !fill()) {
+            return EOF;
+        }
+        return buff[index];
+    }
+
+    private int read() throws IOException {
+        if (index == count && !fill()) {
+            return EOF;
+        }
+        char ch = buff[index++];
+        if (ch == '\n') {
+            line++;
+            column = 0;
+        } else {
+            column++;
+        }
+        return ch;
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buff, 0, buff.length);
+        if (read <= 0) {
+            return false;
+        }
+        index = 0;
+        count = read;
+        return true;
+    }
+
+    /**
+     * Iterates the elements of a top level JSON array.
+     */
+    private class ArrayElementIterator implements Iterator<Object> {
+
+        private final Type elementType;
+        private boolean started;
+        private boolean hasNext;
+
+        ArrayElementIterator(Type elementType) {
+            this.elementType = elementType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                try {
+                    startStructure('[', JsonUtils.ARRAY);
+                    hasNext = !endsStructure(']');
+                    if (!hasNext) {
+                        endDocument();
+                    }
+                } catch (IOException e) {
+                    throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+                } catch (JsonReaderException e) {
+                    throw createParserError(e);
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                Object element = readValue(elementType);
+                hasNext = nextMember(']');
+                if (!hasNext) {
+                    endDocument();
+                }
+                return element;
+            } catch (IOException e) {
+                throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+            } catch (JsonReaderException e) {
+                throw createParserError(e);
+            }
+        }
+
+        private void endDocument() throws IOException, JsonReaderException {
+            if (skipWhitespace() != EOF) {
+                throw new JsonReaderException("invalid JSON document");
+            }
+        }
+    }
+
+    /**
+     * Represents an error in the JSON content.
+     */
+    private static class JsonReaderException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        JsonReaderException(String msg) {
+            super(msg);
+        }
+    }
+}
@@ -803,7 +803,7 @@ public class JsonUtils {
         }
     }
 
-    private static String getTypeName(Object jsonValue) {
+    static String getTypeName(Object jsonValue) {
         if (jsonValue == null) {
             return PredefinedTypes.TYPE_NULL.toString();
         }
@@ -811,11 +811,11 @@ public class JsonUtils {
         return TypeChecker.getType(jsonValue).toString();
     }
 
-    private static String getComplexObjectTypeName(String nodeType) {
+    static String getComplexObjectTypeName(String nodeType) {
         return "json-" + nodeType;
     }
 
-    private static void handleError(Exception e, String fieldName) {
+    static void handleError(Exception e, String fieldName) {
         String errorMsg = e.getCause() == null ? "error while mapping '" + fieldName + "': " : "";
         throw new BallerinaException(errorMsg + e.getMessage(), e);
     }
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.types.Type;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the results of checking whether a type is a subtype of another, keyed on the identity of the two
+ * types.
+ * <p>
+ * Only checks which start from the two types are cached. While a recursive type is checked, the pairs which are still
+ * being resolved are assumed to match, hence the results found on the way depend on those assumptions. Intersection
+ * types, such as readonly intersections, are separate instances from their effective types and are cached on their
+ * own.
+ * <p>
+ * The cache is direct mapped: a pair of types has a single slot, and a newer result replaces the one in the slot. The
+ * entries are immutable, so that slots can be read and written without locking. The number of slots can be set with
+ * the BALLERINA_TYPE_CHECK_CACHE_SIZE system variable, where 0 disables the cache.
+ *
+ * @since 2201.0.1
+ */
+public final class TypeCheckCache {
+
+    private static final int DEFAULT_SIZE = 4096;
+    private static final int MAX_SIZE = 1 << 20;
+    private static final PrintStream err = System.err;
+
+    private static final Entry[] entries = createEntries(
+            System.getenv(RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR));
+    private static final int mask = entries.length - 1;
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Returns the cached result of checking whether a type is a subtype of another.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return the result, or null if it is not cached
+     */
+    static Boolean get(Type sourceType, Type targetType) {
+        if (entries.length == 0) {
+            return null;
+        }
+
+        Entry entry = entries[index(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType) {
+            hits.increment();
+            return entry.isSubtype;
+        }
+        misses.increment();
+        return null;
+    }
+
+    static void put(Type sourceType, Type targetType, boolean isSubtype) {
+        if (entries.length == 0) {
+            return;
+        }
+        entries[index(sourceType, targetType)] = new Entry(sourceType, targetType, isSubtype);
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes all the cached results and resets the counters.
+     */
+    public static void clear() {
+        Arrays.fill(entries, null);
+        hits.reset();
+        misses.reset();
+    }
+
+    private static int index(Type sourceType, Type targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static Entry[] createEntries(String sizeConf) {
+        int size = DEFAULT_SIZE;
+        try {
+            if (sizeConf != null) {
+                size = Integer.parseInt(sizeConf);
+            }
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred while reading system variable:" +
+                    RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR + ", " + e.getMessage());
+        }
+        if (size <= 0) {
+            return new Entry[0];
+        }
+        // Round up to a power of two, so that the slot of a pair is found by masking its hash
+        return new Entry[Integer.highestOneBit(Math.min(size, MAX_SIZE) * 2 - 1)];
+    }
+
+    private static class Entry {
+
+        final Type sourceType;
+        final Type targetType;
+        final Boolean isSubtype;
+
+        Entry(Type sourceType, Type targetType, boolean isSubtype) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.isSubtype = isSubtype;
+        }
+    }
+}
@@ -56,6 +56,7 @@ import io.ballerina.runtime.internal.types.BTypeIdSet;
 import io.ballerina.runtime.internal.types.BTypedescType;
 import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.types.BXmlType;
+import io.ballerina.runtime.internal.types.UnionDispatchTable;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -266,7 +267,12 @@ public class TypeChecker {
      * @return true if the value belongs to the given type, false otherwise
      */
     public static boolean checkIsType(Object sourceVal, Type targetType) {
-        return checkIsType(null, sourceVal, getType(sourceVal), targetType);
+        Type sourceType = getType(sourceVal);
+        if (targetType.getTag() == TypeTags.UNION_TAG && UnionDispatchTable.isBasicTypeTag(sourceType.getTag()) &&
+                isBasicTypeUnionMember(sourceType, (BUnionType) targetType)) {
+            return true;
+        }
+        return checkIsType(null, sourceVal, sourceType, targetType);
     }
 
     /**
@@ -425,7 +431,7 @@ public class TypeChecker {
      */
     public static boolean checkDecimalEqual(DecimalValue lhsValue, DecimalValue rhsValue) {
         return isDecimalRealNumber(lhsValue) && isDecimalRealNumber(rhsValue) &&
-               lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) == 0;
+               lhsValue.compareTo(rhsValue) == 0;
     }
 
     /**
@@ -644,6 +650,9 @@ public class TypeChecker {
         }
 
         if (sourceTypeTag == TypeTags.UNION_TAG) {
+            if (unresolvedTypes == null) {
+                return checkIsStructuredType(sourceType, targetType);
+            }
             return isUnionTypeMatch((BUnionType) sourceType, targetType, unresolvedTypes);
         }
 
@@ -702,9 +711,29 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes == null) {
+                    return checkIsStructuredType(sourceType, targetType);
+                }
+                return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
+        }
+    }
+
+    // Checks which start from the two types do not depend on pairs of types being resolved, hence their results are
+    // the same each time and are cached.
+    private static boolean checkIsStructuredType(Type sourceType, Type targetType) {
+        Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean result;
+        if (sourceType.getTag() == TypeTags.UNION_TAG) {
+            result = isUnionTypeMatch((BUnionType) sourceType, targetType, null);
+        } else {
+            result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
         }
+        TypeCheckCache.put(sourceType, targetType, result);
+        return result;
     }
 
     private static boolean checkIsType(Object sourceVal, Type sourceType, Type targetType,
@@ -822,7 +851,7 @@ public class TypeChecker {
             case TypeTags.RECORD_TYPE_TAG:
                 return checkIsRecordType(sourceVal, sourceType, (BRecordType) targetType, unresolvedTypes);
             case TypeTags.UNION_TAG:
-                for (Type type : ((BUnionType) targetType).getMemberTypes()) {
+                for (Type type : ((BUnionType) targetType).getDispatchTable().getCandidateMembers(sourceTypeTag)) {
                     if (checkIsType(sourceVal, sourceType, type, unresolvedTypes)) {
                         return true;
                     }
@@ -870,14 +899,33 @@ public class TypeChecker {
             case TypeTags.FINITE_TYPE_TAG:
                 return isFiniteTypeMatch((BFiniteType) sourceType, targetType);
             default:
-                for (Type type : targetType.getMemberTypes()) {
-                    if (checkIsType(sourceType, type, unresolvedTypes)) {
-                        return true;
-                    }
+                if (UnionDispatchTable.isBasicTypeTag(sourceType.getTag())) {
+                    return isBasicTypeUnionMember(sourceType, targetType);
                 }
-                return false;
+                return isUnionMember(sourceType, targetType, unresolvedTypes);
+        }
+    }
+
+    // Whether a simple basic type belongs to a union depends only on its tag, hence the result is kept in the
+    // dispatch table of the union.
+    private static boolean isBasicTypeUnionMember(Type sourceType, BUnionType targetType) {
+        UnionDispatchTable dispatchTable = targetType.getDispatchTable();
+        int sourceTypeTag = sourceType.getTag();
+        Boolean isMember = dispatchTable.getBasicTypeMembership(sourceTypeTag);
+        if (isMember == null) {
+            isMember = isUnionMember(sourceType, targetType, new ArrayList<>());
+            dispatchTable.setBasicTypeMembership(sourceTypeTag, isMember);
+        }
+        return isMember;
+    }
 
+    private static boolean isUnionMember(Type sourceType, BUnionType targetType, List<TypePair> unresolvedTypes) {
+        for (Type type : targetType.getDispatchTable().getCandidateMembers(sourceType.getTag())) {
+            if (checkIsType(sourceType, type, unresolvedTypes)) {
+                return true;
+            }
         }
+        return false;
     }
 
     private static boolean checkIsMapType(Type sourceType, BMapType targetType, List<TypePair> unresolvedTypes) {
@@ -2221,10 +2269,12 @@ public class TypeChecker {
                 }
                 return false;
             case TypeTags.UNION_TAG:
+                List<Type> candidateMembers =
+                        ((BUnionType) targetType).getDispatchTable().getCandidateMembers(sourceTypeTag);
                 if (allowNumericConversion) {
                     List<Type> compatibleTypesWithNumConversion = new ArrayList<>();
                     List<Type> compatibleTypesWithoutNumConversion = new ArrayList<>();
-                    for (Type type : ((BUnionType) targetType).getMemberTypes()) {
+                    for (Type type : candidateMembers) {
                         List<TypeValuePair> tempList = new ArrayList<>(unresolvedValues.size());
                         tempList.addAll(unresolvedValues);
 
@@ -2240,7 +2290,7 @@ public class TypeChecker {
                     return compatibleTypesWithNumConversion.size() != 0 &&
                             compatibleTypesWithNumConversion.size() - compatibleTypesWithoutNumConversion.size() <= 1;
                 } else {
-                    for (Type type : ((BUnionType) targetType).getMemberTypes()) {
+                    for (Type type : candidateMembers) {
                         if (checkIsLikeType(errors, sourceValue, type, unresolvedValues, false, varName)) {
                             return true;
                         }
@@ -3048,7 +3098,7 @@ public class TypeChecker {
             if (!(rhsXMLItem.getQName().equals(lhsXMLItem.getQName()))) {
                 return false;
             }
-            if (!(rhsXMLItem.getAttributesMap().entrySet().equals(lhsXMLItem.getAttributesMap().entrySet()))) {
+            if (!rhsXMLItem.hasSameAttributes(lhsXMLItem)) {
                 return false;
             }
             return isEqual(rhsXMLItem.getChildrenSeq(), lhsXMLItem.getChildrenSeq());
@@ -273,8 +273,10 @@ public class TypeConverter {
 
         switch (targetTypeTag) {
             case TypeTags.UNION_TAG:
-                for (Type memType : ((BUnionType) targetType).getMemberTypes()) {
-                    if (TypeChecker.getType(inputValue) == memType) {
+                Type inputType = TypeChecker.getType(inputValue);
+                for (Type memType : ((BUnionType) targetType).getDispatchTable()
+                        .getConversionCandidateMembers(inputType.getTag())) {
+                    if (inputType == memType) {
                         return Set.of(memType);
                     }
                     convertibleTypes.addAll(getConvertibleTypes(inputValue, memType, varName,
@@ -0,0 +1,469 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.StreamingJsonValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * JSON generator which encodes the JSON constructs as UTF-8 directly into a byte buffer.
+ * <p>
+ * The buffer is written to an {@link OutputStream} or a {@link WritableByteChannel} whenever it is full, or, when
+ * there is no sink, it grows and holds the whole document until it is {@link #reset()}. The encoded field names of
+ * each record type are cached, hence serializing many values of the same record type only encodes the names of the
+ * fields once. The output is the same as the output of {@link JsonGenerator} using the UTF-8 charset.
+ *
+ * @since 2201.0.1
+ */
+public class Utf8JsonGenerator extends JsonGenerator {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    // Enough for the longest escape sequence, a four byte code point or a long
+    private static final int MAX_SEGMENT_SIZE = 20;
+    private static final byte[] SEPARATOR = {',', ' '};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private final WritableByteChannel channel;
+    private byte[] buffer;
+    private int count;
+
+    /**
+     * Creates a generator which keeps the generated content in memory.
+     */
+    public Utf8JsonGenerator() {
+        this(null, null);
+    }
+
+    public Utf8JsonGenerator(OutputStream out) {
+        this(out, null);
+    }
+
+    public Utf8JsonGenerator(WritableByteChannel channel) {
+        this(null, channel);
+    }
+
+    private Utf8JsonGenerator(OutputStream out, WritableByteChannel channel) {
+        this.out = out;
+        this.channel = channel;
+        this.buffer = new byte[DEFAULT_BUFFER_SIZE];
+    }
+
+    /**
+     * Returns the generated content which is not yet written out. For a generator without a sink, this is the whole
+     * generated content.
+     *
+     * @return UTF-8 encoded JSON content
+     */
+    public byte[] toByteArray() {
+        byte[] content = new byte[count];
+        System.arraycopy(buffer, 0, content, 0, count);
+        return content;
+    }
+
+    /**
+     * Discards the buffered content, so that the generator and its buffer can be reused for another document.
+     */
+    public void reset() {
+        this.count = 0;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, count, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void writeSeparator() throws IOException {
+        writeBytes(SEPARATOR);
+    }
+
+    @Override
+    public void startObject() throws IOException {
+        processStartLevel();
+        writeByte('{');
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        writeByte('}');
+        processEndLevel();
+    }
+
+    @Override
+    public void writeFieldName(String fieldName) throws IOException {
+        processFieldInit();
+        writeFieldNameValue(fieldName);
+    }
+
+    @Override
+    public void writeString(String value) throws IOException {
+        processValueInit();
+        writeStringValue(value);
+    }
+
+    @Override
+    public void writeStringEsc(char[] chs) throws IOException {
+        writeChars(new String(chs), true);
+    }
+
+    @Override
+    public void writeNumber(long value) throws IOException {
+        processValueInit();
+        writeLong(value);
+    }
+
+    @Override
+    public void writeNumber(double value) throws IOException {
+        processValueInit();
+        writeAscii(Double.toString(value));
+    }
+
+    @Override
+    public void writeNumber(BigDecimal value) throws IOException {
+        processValueInit();
+        writeAscii(value.toString());
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws IOException {
+        processValueInit();
+        writeBytes(value ? TRUE : FALSE);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        processValueInit();
+        writeBytes(NULL);
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        processStartLevel();
+        writeByte('[');
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        writeByte(']');
+        processEndLevel();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out == null && channel == null) {
+            return;
+        }
+        writeOut();
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void serialize(Object json) throws IOException {
+        if (json instanceof StreamingJsonValue) {
+            ((StreamingJsonValue) json).serialize(this);
+            return;
+        }
+        processValueInit();
+        writeValue(json);
+    }
+
+    // Writes a whole value, hence the separators of its members are written here instead of tracking the levels
+    @SuppressWarnings("unchecked")
+    private void writeValue(Object json) throws IOException {
+        if (json == null) {
+            writeBytes(NULL);
+            return;
+        }
+
+        Type type = TypeChecker.getType(json);
+        switch (type.getTag()) {
+            case TypeTags.ARRAY_TAG:
+                // nested streaming values are loaded to memory when their size is read
+                writeByte('[');
+                ArrayValue jsonArray = (ArrayValue) json;
+                for (int i = 0; i < jsonArray.size(); i++) {
+                    if (i > 0) {
+                        writeBytes(SEPARATOR);
+                    }
+                    writeValue(jsonArray.get(i));
+                }
+                writeByte(']');
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                writeBytes((Boolean) json ? TRUE : FALSE);
+                break;
+            case TypeTags.FLOAT_TAG:
+                writeAscii(Double.toString(((Number) json).doubleValue()));
+                break;
+            case TypeTags.DECIMAL_TAG:
+                writeAscii(((DecimalValue) json).value().toString());
+                break;
+            case TypeTags.INT_TAG:
+                writeLong(((Number) json).longValue());
+                break;
+            case TypeTags.BYTE_TAG:
+                writeLong(((Number) json).intValue());
+                break;
+            case TypeTags.MAP_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                Map<String, byte[]> fieldNames = type.getTag() == TypeTags.RECORD_TYPE_TAG ?
+                        getEncodedFieldNames((BRecordType) type) : null;
+                writeByte('{');
+                boolean first = true;
+                for (Entry<BString, Object> entry : ((MapValueImpl<BString, Object>) json).entrySet()) {
+                    if (!first) {
+                        writeBytes(SEPARATOR);
+                    }
+                    first = false;
+                    String fieldName = entry.getKey().getValue();
+                    byte[] encodedName = fieldNames == null ? null : fieldNames.get(fieldName);
+                    if (encodedName != null) {
+                        writeBytes(encodedName);
+                    } else {
+                        writeFieldNameValue(fieldName);
+                    }
+                    writeValue(entry.getValue());
+                }
+                writeByte('}');
+                break;
+            case TypeTags.STRING_TAG:
+                writeStringValue(((BString) json).getValue());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static Map<String, byte[]> getEncodedFieldNames(BRecordType recordType) {
+        // Kept by the record type, so that they are released along with it
+        Map<String, byte[]> fieldNames = recordType.getEncodedJsonFieldNames();
+        if (fieldNames != null) {
+            return fieldNames;
+        }
+        Map<String, byte[]> encodedNames = new HashMap<>();
+        Utf8JsonGenerator gen = new Utf8JsonGenerator();
+        try {
+            for (String fieldName : recordType.getFields().keySet()) {
+                gen.reset();
+                gen.writeFieldNameValue(fieldName);
+                encodedNames.put(fieldName, gen.toByteArray());
+            }
+        } catch (IOException e) {
+            // cannot happen, since there is no sink to write to
+            throw new IllegalStateException(e);
+        }
+        // Concurrent writers create the same names, hence it does not matter which of them is kept
+        recordType.setEncodedJsonFieldNames(encodedNames);
+        return encodedNames;
+    }
+
+    private void writeFieldNameValue(String fieldName) throws IOException {
+        writeStringValue(fieldName);
+        writeByte(':');
+    }
+
+    private void writeStringValue(String value) throws IOException {
+        writeByte('"');
+        // Same as JsonGenerator, the escaping of '/' and '\f' only applies to strings which need escaping otherwise
+        boolean escape = false;
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"' || ch == '\\' || ch == '\b' || ch == '\n' || ch == '\r' || ch == '\t') {
+                escape = true;
+                break;
+            }
+        }
+        writeChars(value, escape);
+        writeByte('"');
+    }
+
+    private void writeChars(String value, boolean escape) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (buffer.length - count < MAX_SEGMENT_SIZE) {
+                makeRoom();
+            }
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                if (escape) {
+                    char escaped = escapedChar(ch);
+                    if (escaped != 0) {
+                        buffer[count++] = '\\';
+                        ch = escaped;
+                    }
+                }
+                buffer[count++] = (byte) ch;
+            } else if (ch < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (ch >> 6));
+                buffer[count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                writeThreeBytes(ch);
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // unpaired surrogates are replaced in the same way as the UTF-8 encoder of a Writer
+                buffer[count++] = '?';
+            }
+        }
+    }
+
+    private void writeThreeBytes(char ch) {
+        buffer[count++] = (byte) (0xE0 | (ch >> 12));
+        buffer[count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+        buffer[count++] = (byte) (0x80 | (ch & 0x3F));
+    }
+
+    private static char escapedChar(char ch) {
+        switch (ch) {
+            case '"':
+                return '"';
+            case '\\':
+                return '\\';
+            case '/':
+                return '/';
+            case '\b':
+                return 'b';
+            case '\n':
+                return 'n';
+            case '\r':
+                return 'r';
+            case '\f':
+                return 'f';
+            case '\t':
+                return 't';
+            default:
+                return 0;
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        if (buffer.length - count < MAX_SEGMENT_SIZE) {
+            makeRoom();
+        }
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long remaining = value / 10; remaining != 0; remaining /= 10) {
+            digits++;
+        }
+        int index = count + digits;
+        count = index;
+        do {
+            buffer[--index] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+    }
+
+    private void writeAscii(String value) throws IOException {
+        int length = value.length();
+        if (buffer.length - count < length) {
+            makeRoom(length);
+        }
+        if (buffer.length - count < length) {
+            writeBytes(value.getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (count == buffer.length) {
+            makeRoom();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (buffer.length - count < bytes.length) {
+            makeRoom(bytes.length);
+        }
+        if (buffer.length - count < bytes.length) {
+            // larger than the buffer of a generator with a sink
+            writeOut(bytes, 0, bytes.length);
+            return;
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void makeRoom() throws IOException {
+        makeRoom(MAX_SEGMENT_SIZE);
+    }
+
+    private void makeRoom(int size) throws IOException {
+        if (out != null || channel != null) {
+            writeOut();
+            return;
+        }
+        byte[] newBuffer = new byte[Math.max(buffer.length * 2, count + size)];
+        System.arraycopy(buffer, 0, newBuffer, 0, count);
+        buffer = newBuffer;
+    }
+
+    private void writeOut() throws IOException {
+        writeOut(buffer, 0, count);
+        count = 0;
+    }
+
+    private void writeOut(byte[] bytes, int offset, int length) throws IOException {
+        if (out != null) {
+            out.write(bytes, offset, length);
+            return;
+        }
+        ByteBuffer src = ByteBuffer.wrap(bytes, offset, length);
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+}
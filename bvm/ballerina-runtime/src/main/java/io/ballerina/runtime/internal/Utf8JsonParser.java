@@ -0,0 +1,528 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * JSON parser which reads UTF-8 encoded JSON content directly from bytes.
+ * <p>
+ * {@link JsonParser} decodes the content into chars and runs a state machine on each of them. This parser works on
+ * the bytes instead. String values are scanned eight bytes at a time to find the closing quote, and strings which only
+ * have ASCII chars are created without decoding. Integers are accumulated while scanning, without creating a string
+ * for them. Nested values are tracked with an explicit stack, so that deeply nested documents do not need a deep
+ * call stack.
+ * <p>
+ * The created JSON values, and the errors for invalid content, are the same as the ones of {@link JsonParser}.
+ *
+ * @since 2201.0.1
+ */
+public class Utf8JsonParser {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+                                                                                       ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long QUOTES = 0x2222222222222222L;
+    private static final long REV_SOLS = 0x5C5C5C5C5C5C5C5CL;
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+    // Integers with up to this many digits cannot overflow a long
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int limit;
+    private final Type definedJsonType;
+    private final JsonUtils.NonStringValueProcessingMode mode;
+    private int pos;
+    private char[] charBuff = new char[64];
+
+    private Utf8JsonParser(byte[] bytes, int offset, int length, JsonUtils.NonStringValueProcessingMode mode) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.mode = mode;
+        switch (mode) {
+            case FROM_JSON_DECIMAL_STRING:
+                this.definedJsonType = PredefinedTypes.TYPE_JSON_DECIMAL;
+                break;
+            case FROM_JSON_FLOAT_STRING:
+                this.definedJsonType = PredefinedTypes.TYPE_JSON_FLOAT;
+                break;
+            default:
+                this.definedJsonType = PredefinedTypes.TYPE_JSON;
+                break;
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given bytes.
+     *
+     * @param bytes  UTF-8 encoded JSON content
+     * @param offset index of the first byte of the content
+     * @param length number of bytes of the content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length, JsonUtils.NonStringValueProcessingMode mode)
+            throws BError {
+        return new Utf8JsonParser(bytes, offset, length, mode).parse();
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content remaining in the given buffer.
+     *
+     * @param buffer UTF-8 encoded JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), mode);
+        }
+        byte[] content = new byte[buffer.remaining()];
+        buffer.duplicate().get(content);
+        return parse(content, 0, content.length, mode);
+    }
+
+    private Object parse() throws BError {
+        try {
+            return parseDocument();
+        } catch (JsonParserException e) {
+            throw createParserError(e.getMessage());
+        }
+    }
+
+    private Object parseDocument() throws JsonParserException {
+        Deque<Object> containers = new ArrayDeque<>();
+        Deque<BString> fieldNames = new ArrayDeque<>();
+        while (true) {
+            Object value;
+            int ch = skipWhitespace();
+            switch (ch) {
+                case '{':
+                    pos++;
+                    MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(definedJsonType));
+                    int next = skipWhitespace();
+                    if (next == '}') {
+                        pos++;
+                        value = map;
+                        break;
+                    }
+                    if (next != '"') {
+                        throw new JsonParserException("expected '\"' or '}'");
+                    }
+                    containers.push(map);
+                    fieldNames.push(parseFieldName());
+                    continue;
+                case '[':
+                    pos++;
+                    ArrayValueImpl array = new ArrayValueImpl(new BArrayType(definedJsonType));
+                    if (skipWhitespace() == ']') {
+                        pos++;
+                        value = array;
+                        break;
+                    }
+                    containers.push(array);
+                    continue;
+                case '"':
+                    pos++;
+                    value = parseString();
+                    break;
+                case -1:
+                    throw new JsonParserException(containers.isEmpty() ? "empty JSON document" :
+                                                          "unexpected end of JSON document");
+                default:
+                    value = parseNonStringValue();
+                    break;
+            }
+
+            // Add the value to the enclosing structures, closing the ones that end with it
+            while (true) {
+                if (containers.isEmpty()) {
+                    if (skipWhitespace() != -1) {
+                        throw new JsonParserException("JSON document has already ended");
+                    }
+                    return value;
+                }
+                Object parent = containers.peek();
+                boolean isMap = parent instanceof MapValueImpl;
+                if (isMap) {
+                    ((MapValueImpl<BString, Object>) parent).put(fieldNames.pop(), value);
+                } else {
+                    ((ArrayValueImpl) parent).append(value);
+                }
+
+                ch = skipWhitespace();
+                pos++;
+                if (ch == ',') {
+                    if (isMap) {
+                        fieldNames.push(parseFieldName());
+                    }
+                    break;
+                }
+                if (ch == (isMap ? '}' : ']')) {
+                    value = containers.pop();
+                    continue;
+                }
+                pos--;
+                if (ch == -1) {
+                    throw new JsonParserException("unexpected end of JSON document");
+                }
+                throw new JsonParserException(isMap ? "expected ',' or '}'" : "expected ',' or ']'");
+            }
+        }
+    }
+
+    private BString parseFieldName() throws JsonParserException {
+        if (skipWhitespace() != '"') {
+            throw new JsonParserException("expected '\"'");
+        }
+        pos++;
+        BString fieldName = parseString();
+        if (skipWhitespace() != ':') {
+            throw new JsonParserException("expected ':'");
+        }
+        pos++;
+        return fieldName;
+    }
+
+    private int skipWhitespace() {
+        while (pos < limit) {
+            byte b = bytes[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return b & 0xFF;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    private BString parseString() throws JsonParserException {
+        int start = pos;
+        int end = findSpecialByte(start);
+        if (end < limit && bytes[end] == '"') {
+            pos = end + 1;
+            // only ASCII chars, which map one to one from ISO-8859-1
+            return StringUtils.fromBmpString(new String(bytes, start, end - start, StandardCharsets.ISO_8859_1));
+        }
+        return parseEscapedString(start, end);
+    }
+
+    /**
+     * Finds the first quote, reverse solidus or non ASCII byte, starting from the given index.
+     */
+    private int findSpecialByte(int index) {
+        while (index + Long.BYTES <= limit) {
+            long word = (long) LONG_VIEW.get(bytes, index);
+            long special = (word & HIGH_BITS) | zeroBytes(word ^ QUOTES) | zeroBytes(word ^ REV_SOLS);
+            if (special != 0) {
+                // bytes are read in little endian order, so the lowest set bit is in the first special byte
+                return index + (Long.numberOfTrailingZeros(special) >>> 3);
+            }
+            index += Long.BYTES;
+        }
+        while (index < limit) {
+            byte b = bytes[index];
+            if (b == '"' || b == '\\' || b < 0) {
+                return index;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    // Sets the high bit of each zero byte. Bytes above the first zero byte may be set as well.
+    private static long zeroBytes(long word) {
+        return (word - ONES) & ~word & HIGH_BITS;
+    }
+
+    private BString parseEscapedString(int start, int asciiEnd) throws JsonParserException {
+        int length = 0;
+        ensureCharBuffCapacity(asciiEnd - start + 16);
+        for (int i = start; i < asciiEnd; i++) {
+            charBuff[length++] = (char) bytes[i];
+        }
+        boolean nonBmp = false;
+        pos = asciiEnd;
+        while (true) {
+            if (pos >= limit) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+            ensureCharBuffCapacity(length + 2);
+            int b = bytes[pos++];
+            if (b == '"') {
+                break;
+            }
+            if (b == '\\') {
+                char ch = parseEscapedChar();
+                nonBmp |= Character.isHighSurrogate(ch);
+                charBuff[length++] = ch;
+            } else if (b >= 0) {
+                charBuff[length++] = (char) b;
+            } else {
+                int codePoint = decodeUtf8(b);
+                if (Character.isBmpCodePoint(codePoint)) {
+                    charBuff[length++] = (char) codePoint;
+                } else {
+                    nonBmp = true;
+                    charBuff[length++] = Character.highSurrogate(codePoint);
+                    charBuff[length++] = Character.lowSurrogate(codePoint);
+                }
+            }
+        }
+        String value = new String(charBuff, 0, length);
+        return nonBmp ? StringUtils.fromString(value) : StringUtils.fromBmpString(value);
+    }
+
+    private void ensureCharBuffCapacity(int capacity) {
+        if (charBuff.length < capacity) {
+            char[] newBuff = new char[Math.max(capacity, charBuff.length * 2)];
+            System.arraycopy(charBuff, 0, newBuff, 0, charBuff.length);
+            charBuff = newBuff;
+        }
+    }
+
+    private char parseEscapedChar() throws JsonParserException {
+        if (pos >= limit) {
+            throw new JsonParserException("expected 'escaped characters'");
+        }
+        byte b = bytes[pos++];
+        switch (b) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) b;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = pos < limit ? Character.digit(bytes[pos++], 16) : -1;
+                    if (digit < 0) {
+                        throw new JsonParserException("expected 'hexadecimal value of an unicode character'");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            default:
+                throw new JsonParserException("expected 'escaped characters'");
+        }
+    }
+
+    /**
+     * Decodes a multi byte UTF-8 sequence starting with the given byte. Malformed sequences are decoded as the
+     * replacement character, in the same way as decoding with a {@link java.io.Reader}.
+     */
+    private int decodeUtf8(int first) {
+        int lead = first & 0xFF;
+        int continuationCount;
+        int codePoint;
+        int minCodePoint;
+        if ((lead & 0xE0) == 0xC0) {
+            continuationCount = 1;
+            codePoint = lead & 0x1F;
+            minCodePoint = 0x80;
+        } else if ((lead & 0xF0) == 0xE0) {
+            continuationCount = 2;
+            codePoint = lead & 0x0F;
+            minCodePoint = 0x800;
+        } else if ((lead & 0xF8) == 0xF0) {
+            continuationCount = 3;
+            codePoint = lead & 0x07;
+            minCodePoint = 0x10000;
+        } else {
+            return REPLACEMENT_CHAR;
+        }
+        for (int i = 0; i < continuationCount; i++) {
+            if (pos >= limit || (bytes[pos] & 0xC0) != 0x80) {
+                return REPLACEMENT_CHAR;
+            }
+            codePoint = (codePoint << 6) | (bytes[pos++] & 0x3F);
+        }
+        if (codePoint < minCodePoint || codePoint > Character.MAX_CODE_POINT ||
+                (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            return REPLACEMENT_CHAR;
+        }
+        return codePoint;
+    }
+
+    private Object parseNonStringValue() throws JsonParserException {
+        int start = pos;
+        boolean hasFraction = false;
+        while (pos < limit) {
+            byte b = bytes[pos];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                break;
+            }
+            hasFraction |= b == '.';
+            pos++;
+        }
+        int end = pos;
+        if (end == start) {
+            // A separator or the end of a container where a value is expected, as in '[1,]' or '{"a":}'
+            throw new JsonParserException("expected a value, found '" + (char) bytes[start] + "'");
+        }
+
+        switch (bytes[start]) {
+            case 't':
+                if (matches(start, end, "true")) {
+                    return Boolean.TRUE;
+                }
+                break;
+            case 'f':
+                if (matches(start, end, "false")) {
+                    return Boolean.FALSE;
+                }
+                break;
+            case 'n':
+                if (matches(start, end, "null")) {
+                    return null;
+                }
+                break;
+            default:
+                if (!hasFraction && mode == JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING) {
+                    return parseInteger(start, end);
+                }
+                break;
+        }
+        return parseNumber(start, end, hasFraction);
+    }
+
+    private boolean matches(int start, int end, String literal) {
+        if (end - start != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (bytes[start + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a plain integer without creating a string for it. Any other token, including integers which do not fit
+     * in a long, is left to {@link #parseNumber(int, int, boolean)}, which reports the error if there is one.
+     */
+    private Object parseInteger(int start, int end) throws JsonParserException {
+        int i = start;
+        boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+        if (i == end || end - i > MAX_SAFE_LONG_DIGITS) {
+            return parseNumber(start, end, false);
+        }
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return parseNumber(start, end, false);
+            }
+            result = result * 10 + digit;
+        }
+        if (negative) {
+            // negative zero can only be represented as a float
+            return result == 0 ? (Object) (-0.0d) : (Object) (-result);
+        }
+        return result;
+    }
+
+    private Object parseNumber(int start, int end, boolean hasFraction) throws JsonParserException {
+        String str = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        try {
+            switch (mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if ('-' == str.charAt(0) && 0 == Double.parseDouble(str)) {
+                        return Double.parseDouble(str);
+                    }
+                    return hasFraction ? new DecimalValue(str) : (Object) Long.parseLong(str);
+            }
+        } catch (NumberFormatException e) {
+            throw unrecognizedToken(start, end);
+        }
+    }
+
+    private JsonParserException unrecognizedToken(int start, int end) {
+        return new JsonParserException("unrecognized token '" +
+                                               new String(bytes, start, end - start, StandardCharsets.UTF_8) + "'");
+    }
+
+    private BError createParserError(String message) {
+        // The location is only needed for errors, hence it is computed here instead of while parsing
+        int line = 1;
+        int errorPos = Math.min(pos, limit);
+        int lineStart = offset;
+        for (int i = offset; i < errorPos; i++) {
+            if (bytes[i] == '\n') {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+        // columns are counted in chars, up to and including the one the error is at
+        int column = new String(bytes, lineStart, errorPos - lineStart, StandardCharsets.UTF_8).length() + 1;
+        return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + line + " column: " + column));
+    }
+
+    /**
+     * Represents an error in the JSON content.
+     */
+    private static class JsonParserException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        JsonParserException(String msg) {
+            super(msg);
+        }
+    }
+}
@@ -24,8 +24,6 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.util.PrimitiveIterator;
-
 import static io.ballerina.runtime.api.PredefinedTypes.TYPE_NULL;
 
 /**
@@ -226,13 +224,7 @@ public class ValueComparisonUtils {
                 case TypeTags.FLOAT_TAG:
                     return compareFloatValues((double) lhsValue, (double) rhsValue, inRelationalExpr, isAscending);
                 case TypeTags.DECIMAL_TAG:
-                    if (TypeChecker.checkDecimalEqual((DecimalValue) lhsValue, (DecimalValue) rhsValue)) {
-                        return 0;
-                    }
-                    if (checkDecimalGreaterThan((DecimalValue) lhsValue, (DecimalValue) rhsValue)) {
-                        return 1;
-                    }
-                    return -1;
+                    return compareDecimalValues((DecimalValue) lhsValue, (DecimalValue) rhsValue);
                 case TypeTags.ARRAY_TAG:
                 case TypeTags.TUPLE_TAG:
                     return compareArrayValues(lhsValue, rhsValue, lhsTypeTag, direction);
@@ -243,25 +235,42 @@ public class ValueComparisonUtils {
                 TypeChecker.getType(rhsValue));
     }
 
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
+    /**
+     * Compares the given strings by the code points of their characters.
+     *
+     * @param str1 first string
+     * @param str2 second string
+     * @return a negative integer, zero or a positive integer as the first string is less than, equal to, or greater
+     * than the second
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            if (str1.charAt(i) != str2.charAt(i)) {
+                // UTF-16 order differs from the code point order only for surrogates, which are compared as part of
+                // the code point they start
+                return Integer.compare(str1.codePointAt(i), str2.codePointAt(i));
             }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
+        }
+        return Integer.compare(str1.length(), str2.length());
+    }
 
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
-            }
+    /**
+     * Compares the given decimal values.
+     *
+     * @param lhsValue first decimal value
+     * @param rhsValue second decimal value
+     * @return a negative integer, zero or a positive integer as the first value is less than, equal to, or greater
+     * than the second
+     */
+    public static int compareDecimalValues(DecimalValue lhsValue, DecimalValue rhsValue) {
+        if (TypeChecker.checkDecimalEqual(lhsValue, rhsValue)) {
+            return 0;
         }
-        if (iterator2.hasNext()) {
-            return -1;
+        if (checkDecimalGreaterThan(lhsValue, rhsValue)) {
+            return 1;
         }
-        return 0;
+        return -1;
     }
 
     private static int compareFloatValues(double lhsValue, double rhsValue, boolean inRelationalExpr,
@@ -304,7 +313,7 @@ public class ValueComparisonUtils {
             case ZERO:
             case OTHER:
                 return rhsValue.valueKind == DecimalValueKind.NEGATIVE_INFINITY || (isDecimalRealNumber(rhsValue) &&
-                        lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) > 0);
+                        lhsValue.compareTo(rhsValue) > 0);
             default:
                 return false;
         }
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+/**
+ * Finds where the content of each top level element of an XML fragment starts and ends in the source.
+ * <p>
+ * Only the markup boundaries are recognized, hence the content is expected to be well-formed. The fragment is parsed
+ * by a {@code XMLStreamReader} at the same time, which reports any error in the content.
+ *
+ * @since 2201.0.1
+ */
+class XmlContentScanner {
+
+    private final String source;
+    private final int end;
+    private int pos;
+    private int contentStart;
+    private int contentEnd;
+
+    XmlContentScanner(String source, int start, int end) {
+        this.source = source;
+        this.pos = start;
+        this.end = end;
+    }
+
+    /**
+     * Moves to the next top level element of the fragment.
+     *
+     * @return false if there are no more elements
+     */
+    boolean nextElement() {
+        while (true) {
+            int tagStart = source.indexOf('<', pos);
+            if (tagStart < 0 || tagStart >= end) {
+                pos = end;
+                return false;
+            }
+            pos = tagStart;
+            if (!skipNonElementMarkup()) {
+                break;
+            }
+        }
+
+        boolean selfClosing = skipTag();
+        contentStart = pos;
+        if (selfClosing) {
+            contentEnd = pos;
+            return true;
+        }
+
+        int depth = 1;
+        while (true) {
+            int tagStart = source.indexOf('<', pos);
+            if (tagStart < 0 || tagStart >= end) {
+                throw new IllegalStateException("unterminated element in the xml content");
+            }
+            pos = tagStart;
+            if (skipNonElementMarkup()) {
+                continue;
+            }
+            if (source.startsWith("</", pos)) {
+                contentEnd = pos;
+                skipTag();
+                if (--depth == 0) {
+                    return true;
+                }
+            } else if (!skipTag()) {
+                depth++;
+            }
+        }
+    }
+
+    int contentStart() {
+        return contentStart;
+    }
+
+    int contentEnd() {
+        return contentEnd;
+    }
+
+    // Skips a comment, CDATA section, processing instruction or declaration, if the markup at pos is one of them
+    private boolean skipNonElementMarkup() {
+        if (source.startsWith("<!--", pos)) {
+            pos = skipPast("-->", pos + 4);
+        } else if (source.startsWith("<![CDATA[", pos)) {
+            pos = skipPast("]]>", pos + 9);
+        } else if (source.startsWith("<?", pos)) {
+            pos = skipPast("?>", pos + 2);
+        } else if (source.startsWith("<!", pos)) {
+            // the document type declaration is only allowed before the root element
+            pos = skipPast(">", pos + 2);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private int skipPast(String terminator, int from) {
+        int index = source.indexOf(terminator, from);
+        if (index < 0 || index >= end) {
+            throw new IllegalStateException("unterminated markup in the xml content");
+        }
+        return index + terminator.length();
+    }
+
+    /**
+     * Skips a start or end tag, of which attribute values may contain '>'.
+     *
+     * @return true if the tag is an empty element tag
+     */
+    private boolean skipTag() {
+        char quote = 0;
+        for (int i = pos + 1; i < end; i++) {
+            char ch = source.charAt(i);
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '"' || ch == '\'') {
+                quote = ch;
+            } else if (ch == '>') {
+                pos = i + 1;
+                return source.charAt(i - 1) == '/';
+            }
+        }
+        throw new IllegalStateException("unterminated tag in the xml content");
+    }
+}
@@ -49,6 +49,7 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import javax.xml.XMLConstants;
@@ -139,6 +140,42 @@ public class XmlFactory {
         }
     }
 
+    /**
+     * Create a XML sequence from a string, of which the children of elements are only built when they are first
+     * accessed. The string is kept until all the elements are built.
+     *
+     * @param xmlStr String representation of the XML
+     * @return XML sequence
+     */
+    public static BXml parseLazily(String xmlStr) {
+        try {
+            if (xmlStr.isEmpty()) {
+                return new XmlSequence();
+            }
+
+            return XmlTreeBuilder.lazy(xmlStr).parse();
+        } catch (BError e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ErrorCreator.createError(StringUtils.fromString(("failed to parse xml: " + e.getMessage())));
+        }
+    }
+
+    /**
+     * Create an iterator which reads the elements with the given name from a reader, one element at a time.
+     *
+     * @param reader      XML reader
+     * @param elementName name of the elements, in the same form as {@code BXmlItem#getElementName()}
+     * @return iterator of the XML elements
+     */
+    public static Iterator<BXml> parseElements(Reader reader, String elementName) {
+        try {
+            return new XmlTreeBuilder(reader).parseElements(elementName);
+        } catch (Throwable e) {
+            throw ErrorCreator.createError(StringUtils.fromString("failed to create xml: " + e.getMessage()));
+        }
+    }
+
     /**
      * Concatenate two XML sequences and produce a single sequence.
      *
@@ -17,16 +17,15 @@
  */
 package io.ballerina.runtime.internal;
 
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlSequence;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
-import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.XmlComment;
 import io.ballerina.runtime.internal.values.XmlItem;
 import io.ballerina.runtime.internal.values.XmlPi;
-import io.ballerina.runtime.internal.values.XmlQName;
 import io.ballerina.runtime.internal.values.XmlSequence;
 
 import java.io.Reader;
@@ -36,8 +35,10 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import javax.xml.namespace.QName;
@@ -56,6 +57,10 @@ import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 
 /**
  * XML tree builder for Ballerina xml node structure using {@code XMLStreamReader}.
+ * <p>
+ * A builder created with {@link #lazy(String)} builds the top level items of the document and defers the children of
+ * each element until they are first accessed. The children are then built from the source string in the same way,
+ * hence only the part of the tree which is navigated is created.
  *
  * @since 1.2.0
  */
@@ -63,6 +68,7 @@ public class XmlTreeBuilder {
 
     // XMLInputFactory2
     private static final XMLInputFactory xmlInputFactory;
+    private static final String LAZY_CONTENT_ELEMENT = "lazy-content";
 
     static {
         xmlInputFactory = XMLInputFactory.newInstance();
@@ -73,13 +79,62 @@ public class XmlTreeBuilder {
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<BXmlSequence> seqDeque;
     private Deque<List<BXml>> siblingDeque;
+    // Names repeat across the elements of a document, hence a single instance of each name is shared by them
+    private Map<QName, QName> elementNames;
+    private Map<QName, BString> attributeNames;
+    private Map<String, BString> namespaceAttributeNames;
+    private Map<String, BString> namespaceUris;
+
+    // Only set when building lazily
+    private String source;
+    private XmlContentScanner contentScanner;
+    private Map<String, String> inScopeNamespaces;
+    private boolean wrappedContent;
+    private boolean wrapperRead;
 
     public XmlTreeBuilder(String str) {
         this(new StringReader(str));
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        init(stringReader);
+    }
+
+    private XmlTreeBuilder(String source, int start, int end, Map<String, String> inScopeNamespaces) {
+        this.source = source;
+        this.contentScanner = new XmlContentScanner(source, start, end);
+        this.inScopeNamespaces = inScopeNamespaces;
+        // The content of an element is wrapped, so that it has a single root which declares the namespaces in scope
+        this.wrappedContent = inScopeNamespaces != null;
+        if (wrappedContent) {
+            init(new ContentReader(createWrapperStartTag(inScopeNamespaces), source, start, end,
+                                   "</" + LAZY_CONTENT_ELEMENT + ">"));
+        } else {
+            this.inScopeNamespaces = new HashMap<>();
+            init(new StringReader(source));
+        }
+    }
+
+    /**
+     * Creates a builder which defers building the children of elements until they are accessed.
+     *
+     * @param str the XML document
+     * @return XML tree builder
+     */
+    public static XmlTreeBuilder lazy(String str) {
+        if (str.contains("<!DOCTYPE")) {
+            // entities declared in the document type are not available when building the children separately
+            return new XmlTreeBuilder(str);
+        }
+        return new XmlTreeBuilder(str, 0, str.length(), null);
+    }
+
+    private void init(Reader stringReader) {
         namespaces = new HashMap<>();
+        elementNames = new HashMap<>();
+        attributeNames = new HashMap<>();
+        namespaceAttributeNames = new HashMap<>();
+        namespaceUris = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
 
@@ -105,9 +160,17 @@ public class XmlTreeBuilder {
                 int next = xmlStreamReader.next();
                 switch (next) {
                     case START_ELEMENT:
+                        if (wrappedContent && !wrapperRead) {
+                            wrapperRead = true;
+                            break;
+                        }
                         readElement(xmlStreamReader);
                         break;
                     case END_ELEMENT:
+                        if (source != null) {
+                            // only the wrapper ends here, the other elements are ended when deferring their children
+                            break;
+                        }
                         endElement();
                         break;
                     case PROCESSING_INSTRUCTION:
@@ -136,6 +199,88 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Reads the elements with the given name one at a time, in document order. Each element is built with all its
+     * children when the iterator reaches it, and the rest of the document is only read, hence documents larger than
+     * the available memory can be processed. Elements nested in a returned element are not returned separately.
+     *
+     * @param elementName name of the elements, in the same form as {@code BXmlItem#getElementName()}
+     * @return iterator of the elements
+     */
+    public Iterator<BXml> parseElements(String elementName) {
+        return new Iterator<>() {
+            private BXml nextElement;
+
+            @Override
+            public boolean hasNext() {
+                if (nextElement == null) {
+                    nextElement = readNextElement(elementName);
+                }
+                return nextElement != null;
+            }
+
+            @Override
+            public BXml next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                BXml element = nextElement;
+                nextElement = null;
+                return element;
+            }
+        };
+    }
+
+    private BXml readNextElement(String elementName) {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                if (xmlStreamReader.next() == START_ELEMENT &&
+                        xmlStreamReader.getName().toString().equals(elementName)) {
+                    return readElementTree();
+                }
+            }
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("failed to create xml: " + e.getMessage()));
+        }
+        return null;
+    }
+
+    private BXml readElementTree() throws XMLStreamException {
+        List<BXml> siblings = new ArrayList<>();
+        siblingDeque.push(siblings);
+        seqDeque.push(new XmlSequence(siblings));
+        readElement(xmlStreamReader);
+        int depth = 1;
+        while (depth > 0) {
+            switch (xmlStreamReader.next()) {
+                case START_ELEMENT:
+                    depth++;
+                    readElement(xmlStreamReader);
+                    break;
+                case END_ELEMENT:
+                    depth--;
+                    endElement();
+                    break;
+                case PROCESSING_INSTRUCTION:
+                    readPI(xmlStreamReader);
+                    break;
+                case COMMENT:
+                    readComment(xmlStreamReader);
+                    break;
+                case CDATA:
+                case CHARACTERS:
+                    readText(xmlStreamReader);
+                    break;
+                default:
+                    break;
+            }
+        }
+        siblingDeque.pop();
+        seqDeque.pop();
+        return siblings.get(0);
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -165,11 +310,16 @@ public class XmlTreeBuilder {
         this.seqDeque.pop();
     }
 
-    private void readElement(XMLStreamReader xmlStreamReader) {
-        QName elemName = xmlStreamReader.getName();
-        XmlQName name = new XmlQName(elemName.getLocalPart(),
-                                     elemName.getNamespaceURI(), elemName.getPrefix());
-        XmlItem xmlItem = (XmlItem) XmlFactory.createXMLElement(name, name, null);
+    private void readElement(XMLStreamReader xmlStreamReader) throws XMLStreamException {
+        QName elemName = internElementName(xmlStreamReader.getName());
+        XmlItem xmlItem = new XmlItem(elemName, false);
+
+        if (source != null) {
+            siblingDeque.peek().add(xmlItem);
+            populateAttributeMap(xmlStreamReader, xmlItem, elemName);
+            deferChildren(xmlStreamReader, xmlItem);
+            return;
+        }
 
         seqDeque.push(xmlItem.getChildrenSeq());
 
@@ -177,35 +327,98 @@ public class XmlTreeBuilder {
         populateAttributeMap(xmlStreamReader, xmlItem, elemName);
         siblingDeque.push(xmlItem.getChildrenSeq().getChildrenList());
     }
+
+    private void deferChildren(XMLStreamReader xmlStreamReader, XmlItem xmlItem) throws XMLStreamException {
+        Map<String, String> elementNamespaces = inScopeNamespaces;
+        int namespaceCount = xmlStreamReader.getNamespaceCount();
+        if (namespaceCount > 0) {
+            elementNamespaces = new HashMap<>(inScopeNamespaces);
+            for (int i = 0; i < namespaceCount; i++) {
+                String prefix = xmlStreamReader.getNamespacePrefix(i);
+                String uri = xmlStreamReader.getNamespaceURI(i);
+                elementNamespaces.put(prefix == null ? "" : prefix, uri == null ? "" : uri);
+            }
+        }
+
+        // The reader still reads the content, so that errors in it are reported when the document is parsed
+        int depth = 1;
+        while (depth > 0) {
+            int next = xmlStreamReader.next();
+            if (next == START_ELEMENT) {
+                depth++;
+            } else if (next == END_ELEMENT) {
+                depth--;
+            }
+        }
+
+        if (!contentScanner.nextElement()) {
+            throw new IllegalStateException("xml content does not match the parsed elements");
+        }
+        int start = contentScanner.contentStart();
+        int end = contentScanner.contentEnd();
+        if (start == end) {
+            return;
+        }
+        String content = source;
+        Map<String, String> contentNamespaces = elementNamespaces;
+        xmlItem.setLazyChildren(() -> new XmlTreeBuilder(content, start, end, contentNamespaces).parseContent());
+    }
+
+    private List<BXml> parseContent() {
+        return ((XmlSequence) parse()).getChildrenList();
+    }
+
+    private static String createWrapperStartTag(Map<String, String> namespaces) {
+        StringBuilder startTag = new StringBuilder("<").append(LAZY_CONTENT_ELEMENT);
+        for (Map.Entry<String, String> namespace : namespaces.entrySet()) {
+            String prefix = namespace.getKey();
+            String uri = namespace.getValue();
+            if (prefix.isEmpty()) {
+                startTag.append(" xmlns=\"");
+            } else if (!uri.isEmpty()) {
+                startTag.append(" xmlns:").append(prefix).append("=\"");
+            } else {
+                continue;
+            }
+            startTag.append(uri.replace("&", "&amp;").replace("<", "&lt;").replace("\"", "&quot;")).append('"');
+        }
+        return startTag.append('>').toString();
+    }
     // need to duplicate the same in xmlItem.setAttribute
 
     // todo: need to write a comment explaining each step
     private void populateAttributeMap(XMLStreamReader xmlStreamReader, XmlItem xmlItem, QName elemName) {
-        MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
-        Set<QName> usedNS = new HashSet<>(); // Track namespace prefixes found in this element.
+        Set<QName> usedNS = null; // Track namespace prefixes found in this element.
 
         int count = xmlStreamReader.getAttributeCount();
         for (int i = 0; i < count; i++) {
             QName attributeName = xmlStreamReader.getAttributeName(i);
-            attributesMap.put(StringUtils.fromString(attributeName.toString()),
-                              StringUtils.fromString(xmlStreamReader.getAttributeValue(i)));
+            xmlItem.populateAttribute(attributeNames.computeIfAbsent(attributeName,
+                                                                     name -> StringUtils.fromString(name.toString())),
+                                      StringUtils.fromString(xmlStreamReader.getAttributeValue(i)));
             if (!attributeName.getPrefix().isEmpty()) {
+                if (usedNS == null) {
+                    usedNS = new HashSet<>();
+                }
                 usedNS.add(attributeName);
             }
         }
 
         if (!elemName.getPrefix().isEmpty()) {
+            if (usedNS == null) {
+                usedNS = new HashSet<>();
+            }
             usedNS.add(elemName);
         }
-        for (QName qName : usedNS) {
-            String prefix = qName.getPrefix();
-            String namespaceURI = qName.getNamespaceURI();
-            if (namespaceURI.isEmpty()) {
-                namespaceURI = namespaces.getOrDefault(prefix, "");
+        if (usedNS != null) {
+            for (QName qName : usedNS) {
+                String prefix = qName.getPrefix();
+                String namespaceURI = qName.getNamespaceURI();
+                if (namespaceURI.isEmpty()) {
+                    namespaceURI = namespaces.getOrDefault(prefix, "");
+                }
+                xmlItem.populateAttribute(namespaceAttributeName(prefix), namespaceUri(namespaceURI));
             }
-
-            BString xmlnsPrefix = StringUtils.fromString(XmlItem.XMLNS_NS_URI_PREFIX + prefix);
-            attributesMap.put(xmlnsPrefix, StringUtils.fromString(namespaceURI));
         }
 
         int namespaceCount = xmlStreamReader.getNamespaceCount();
@@ -213,12 +426,62 @@ public class XmlTreeBuilder {
             String uri = xmlStreamReader.getNamespaceURI(i);
             String prefix = xmlStreamReader.getNamespacePrefix(i);
             if (prefix == null || prefix.isEmpty()) {
-                attributesMap.put(StringUtils.fromString(XmlItem.XMLNS_NS_URI_PREFIX + "xmlns"),
-                                  StringUtils.fromString(uri));
-            } else {
-                attributesMap.put(StringUtils.fromString(XmlItem.XMLNS_NS_URI_PREFIX + prefix),
-                                  StringUtils.fromString(uri));
+                prefix = XmlItem.XMLNS;
+            }
+            xmlItem.populateAttribute(namespaceAttributeName(prefix), namespaceUri(uri));
+        }
+    }
+
+    private QName internElementName(QName name) {
+        QName interned = elementNames.putIfAbsent(name, name);
+        // Names which only differ by the prefix are equal, but they are created with their own prefix
+        return interned == null || !interned.getPrefix().equals(name.getPrefix()) ? name : interned;
+    }
+
+    private BString namespaceAttributeName(String prefix) {
+        return namespaceAttributeNames.computeIfAbsent(
+                prefix, key -> StringUtils.fromString(XmlItem.XMLNS_NS_URI_PREFIX + key));
+    }
+
+    private BString namespaceUri(String uri) {
+        return namespaceUris.computeIfAbsent(uri, StringUtils::fromString);
+    }
+
+    /**
+     * Reads a range of the source string between a prefix and a suffix, without copying the range.
+     */
+    private static class ContentReader extends Reader {
+
+        private final String[] segments;
+        private final int[] starts;
+        private final int[] ends;
+        private int segment = 0;
+        private int pos;
+
+        ContentReader(String prefix, String source, int start, int end, String suffix) {
+            this.segments = new String[]{prefix, source, suffix};
+            this.starts = new int[]{0, start, 0};
+            this.ends = new int[]{prefix.length(), end, suffix.length()};
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            while (pos == ends[segment] - starts[segment]) {
+                if (segment == segments.length - 1) {
+                    return -1;
+                }
+                segment++;
+                pos = 0;
             }
+            int count = Math.min(len, ends[segment] - starts[segment] - pos);
+            int from = starts[segment] + pos;
+            segments[segment].getChars(from, from + count, cbuf, off);
+            pos += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
         }
     }
 }
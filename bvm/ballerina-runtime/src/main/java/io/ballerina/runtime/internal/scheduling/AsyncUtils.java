@@ -19,15 +19,20 @@
 package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.types.BFunctionType;
 import io.ballerina.runtime.internal.values.FutureValue;
 
+import java.io.PrintStream;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -35,6 +40,11 @@ import java.util.function.Supplier;
  */
 public class AsyncUtils {
 
+    private static final PrintStream err = System.err;
+
+    // Iterations over at least this many items may call isolated functions concurrently, where 0 disables it
+    private static volatile int concurrentIterationThreshold = getConcurrentIterationThreshold();
+
     /**
      * Block the current strand to execute asynchronously.
      *
@@ -157,6 +167,121 @@ public class AsyncUtils {
         invokeFunctionPointerAsync(func, strand, strandName, metadata, argsSupplier.get(), callback, scheduler);
     }
 
+    /**
+     * Invoke Function Pointer given number of times, making each call right away on the current thread instead of
+     * scheduling it. The current strand is blocked only if a call yields, in which case the remaining calls are made
+     * by a new strand once that call completes, and the return value is set when all the calls complete.
+     *
+     * @param func                Function Pointer to be invoked.
+     * @param strandName          Name for the strands which are used to execute the function pointer. This is
+     *                            optional and can be null.
+     * @param metadata            Meta data of the strands.
+     * @param noOfIterations      Number of iterations need to call the function pointer.
+     * @param argsProvider        Provides the arguments of the call for an iteration. The first argument is replaced
+     *                            by the strand of the call.
+     * @param resultConsumer      Consumer used to process the return value of the call for an iteration.
+     * @param returnValueSupplier Supplier used to set the final return value for the parent function invocation, if
+     *                            the strand is blocked.
+     */
+    public static void invokeFunctionPointerIteratively(BFunctionPointer<?, ?> func, String strandName,
+                                                        StrandMetadata metadata, int noOfIterations,
+                                                        IntFunction<Object[]> argsProvider,
+                                                        ObjIntConsumer<Object> resultConsumer,
+                                                        Supplier<Object> returnValueSupplier) {
+        if (noOfIterations <= 0) {
+            return;
+        }
+        Strand strand = Scheduler.getStrand();
+        FunctionIteration.Completion completion = new FunctionIteration.Completion(strand, returnValueSupplier, 1);
+        new FunctionIteration(func, strandName, metadata, 0, noOfIterations, argsProvider, resultConsumer,
+                              completion).run(strand);
+    }
+
+    /**
+     * Invoke Function Pointer given number of times, splitting the iterations into ranges which are driven by
+     * separate strands, so that the calls are made concurrently. This will block the current strand until all the
+     * calls complete. The result consumer is called concurrently, but only once for each iteration.
+     *
+     * @param func                Function Pointer to be invoked.
+     * @param strandName          Name for the strands which are used to execute the function pointer. This is
+     *                            optional and can be null.
+     * @param metadata            Meta data of the strands.
+     * @param noOfIterations      Number of iterations need to call the function pointer.
+     * @param argsProvider        Provides the arguments of the call for an iteration. The first argument is replaced
+     *                            by the strand of the call.
+     * @param resultConsumer      Consumer used to process the return value of the call for an iteration.
+     * @param returnValueSupplier Supplier used to set the final return value for the parent function invocation.
+     * @see #isConcurrentIterationAllowed(BFunctionPointer, int)
+     */
+    public static void invokeFunctionPointerConcurrently(BFunctionPointer<?, ?> func, String strandName,
+                                                         StrandMetadata metadata, int noOfIterations,
+                                                         IntFunction<Object[]> argsProvider,
+                                                         ObjIntConsumer<Object> resultConsumer,
+                                                         Supplier<Object> returnValueSupplier) {
+        if (noOfIterations <= 0) {
+            return;
+        }
+        Strand strand = Scheduler.getStrand();
+        blockStrand(strand);
+        int noOfRanges = Math.min(Runtime.getRuntime().availableProcessors(), noOfIterations);
+        FunctionIteration.Completion completion =
+                new FunctionIteration.Completion(strand, returnValueSupplier, noOfRanges);
+        for (int i = 0; i < noOfRanges; i++) {
+            int start = (int) ((long) noOfIterations * i / noOfRanges);
+            int end = (int) ((long) noOfIterations * (i + 1) / noOfRanges);
+            new FunctionIteration(func, strandName, metadata, start, end, argsProvider, resultConsumer,
+                                  completion).resume();
+        }
+    }
+
+    /**
+     * Checks whether the calls of an iteration can be made concurrently. This is enabled by the
+     * BALLERINA_CONCURRENT_ITERATION_THRESHOLD system variable, for iterations over at least that many items, and
+     * only for isolated functions, as they can be safely called from different threads at the same time.
+     *
+     * @param func           Function Pointer to be invoked.
+     * @param noOfIterations Number of iterations need to call the function pointer.
+     * @return true if the calls can be made with
+     * {@link #invokeFunctionPointerConcurrently(BFunctionPointer, String, StrandMetadata, int, IntFunction,
+     * ObjIntConsumer, Supplier)}
+     */
+    public static boolean isConcurrentIterationAllowed(BFunctionPointer<?, ?> func, int noOfIterations) {
+        return concurrentIterationThreshold > 0 && noOfIterations >= concurrentIterationThreshold &&
+                SymbolFlags.isFlagOn(((BFunctionType) func.getType()).getFlags(), SymbolFlags.ISOLATED);
+    }
+
+    /**
+     * Sets the number of items from which the calls of an iteration can be made concurrently, overriding the
+     * BALLERINA_CONCURRENT_ITERATION_THRESHOLD system variable.
+     *
+     * @param threshold minimum number of items of an iteration which calls isolated functions concurrently, where 0
+     *                  disables concurrent iteration
+     * @return the previous threshold
+     */
+    public static int setConcurrentIterationThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("concurrent iteration threshold cannot be negative: " + threshold);
+        }
+        int previous = concurrentIterationThreshold;
+        concurrentIterationThreshold = threshold;
+        return previous;
+    }
+
+    private static int getConcurrentIterationThreshold() {
+        String threshold = System.getenv(RuntimeConstants.BALLERINA_CONCURRENT_ITERATION_THRESHOLD_ENV_VAR);
+        if (threshold == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(threshold);
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred while reading system variable:" +
+                    RuntimeConstants.BALLERINA_CONCURRENT_ITERATION_THRESHOLD_ENV_VAR + ", " + e.getMessage());
+            return 0;
+        }
+    }
+
     private static class Unblocker implements java.util.function.BiConsumer<Object, Throwable> {
 
         private Strand strand;
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.ArrayDeque;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_MAX_YIELD_DEPTH;
+
+/**
+ * Thread local pool of the frame arrays used by strands to save their frames when yielding.
+ * <p>
+ * Frame arrays are taken from the pool when a strand yields for the first time and are returned once the strand
+ * is done. Strands are completed on the scheduler threads that also run them, hence the arrays are reused by the
+ * same threads that release them.
+ *
+ * @since 2201.0.1
+ */
+class FramePool {
+
+    private static final int MAX_POOLED_FRAMES = 64;
+
+    private static final ThreadLocal<ArrayDeque<Object[]>> pool =
+            ThreadLocal.withInitial(() -> new ArrayDeque<>(MAX_POOLED_FRAMES));
+
+    private FramePool() {
+    }
+
+    static Object[] acquire() {
+        Object[] frames = pool.get().pollLast();
+        return frames != null ? frames : new Object[BALLERINA_MAX_YIELD_DEPTH];
+    }
+
+    static void release(Object[] frames) {
+        if (frames == null || frames.length != BALLERINA_MAX_YIELD_DEPTH) {
+            return;
+        }
+        // Frames are always saved from index zero onwards, hence the used slots are the leading non-null ones.
+        for (int i = 0; i < frames.length && frames[i] != null; i++) {
+            frames[i] = null;
+        }
+        ArrayDeque<Object[]> framesPool = pool.get();
+        if (framesPool.size() < MAX_POOLED_FRAMES) {
+            framesPool.addLast(frames);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.values.FutureValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Calls a function pointer for a range of iterations, running each call right away on the thread of the strand that
+ * drives the iteration.
+ * <p>
+ * The calls are made on a child strand, which is reused as long as the calls complete without yielding. A call that
+ * yields is handed over to the scheduler, and the rest of the range is driven by a new strand once it completes.
+ *
+ * @since 2201.0.1
+ */
+class FunctionIteration implements Callback {
+
+    private final BFunctionPointer<?, ?> func;
+    private final String strandName;
+    private final StrandMetadata metadata;
+    private final Type returnType;
+    private final IntFunction<Object[]> argsProvider;
+    private final ObjIntConsumer<Object> resultConsumer;
+    private final Completion completion;
+    private final int end;
+    private int next;
+    private FutureValue inlineFuture;
+    private volatile Strand driver;
+    private volatile BError error;
+
+    FunctionIteration(BFunctionPointer<?, ?> func, String strandName, StrandMetadata metadata, int start, int end,
+                      IntFunction<Object[]> argsProvider, ObjIntConsumer<Object> resultConsumer,
+                      Completion completion) {
+        this.func = func;
+        this.strandName = strandName;
+        this.metadata = metadata;
+        this.returnType = ((BFunctionType) func.getType()).retType;
+        this.argsProvider = argsProvider;
+        this.resultConsumer = resultConsumer;
+        this.completion = completion;
+        this.next = start;
+        this.end = end;
+    }
+
+    /**
+     * Makes the calls on the given strand, until all of them complete or one of them yields. The strand is blocked
+     * in the latter case.
+     *
+     * @param strand the strand driving the iteration
+     * @return true if all the calls completed
+     */
+    boolean run(Strand strand) {
+        Scheduler scheduler = strand.scheduler;
+        while (next < end) {
+            if (inlineFuture == null) {
+                inlineFuture = scheduler.createFuture(strand, null, null, returnType, strandName, metadata);
+            }
+            Object[] args = argsProvider.apply(next);
+            args[0] = inlineFuture.strand;
+            SchedulerItem item = new SchedulerItem(func.getFunction(), args, inlineFuture);
+            inlineFuture.strand.schedulerItem = item;
+            inlineFuture.strand.strandGroup = strand.strandGroup;
+
+            Object result = scheduler.runInline(item);
+            if (!item.isYielded()) {
+                resultConsumer.accept(result, next++);
+                continue;
+            }
+
+            // The driving strand has to be blocked before the call can complete on another thread
+            if (strand == completion.parent) {
+                AsyncUtils.blockStrand(strand);
+            } else {
+                strand.setState(State.BLOCK_AND_YIELD);
+            }
+            inlineFuture.callback = this;
+            inlineFuture = null;
+            scheduler.submitYielded(item, result);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Continues the iteration on the driver strand, which is scheduled when this is first called.
+     */
+    void resume() {
+        Strand strand = driver;
+        if (strand != null) {
+            strand.scheduler.unblockStrand(strand);
+            return;
+        }
+        Strand parent = completion.parent;
+        parent.scheduler.schedule(new Object[1], this::drive, parent, completion, null, PredefinedTypes.TYPE_NULL,
+                                  strandName, metadata);
+    }
+
+    private Object drive(Object args) {
+        driver = (Strand) ((Object[]) args)[0];
+        if (error != null) {
+            throw error;
+        }
+        run(driver);
+        return null;
+    }
+
+    @Override
+    public void notifySuccess(Object result) {
+        resultConsumer.accept(result, next++);
+        resume();
+    }
+
+    @Override
+    public void notifyFailure(BError error) {
+        this.error = error;
+        resume();
+    }
+
+    /**
+     * Sets the return value of the strand that started an iteration once all the driver strands of it complete.
+     */
+    static class Completion implements Callback {
+
+        private final Strand parent;
+        private final Supplier<Object> returnValueSupplier;
+        private final AtomicInteger remaining;
+        private volatile BError error;
+
+        Completion(Strand parent, Supplier<Object> returnValueSupplier, int noOfDrivers) {
+            this.parent = parent;
+            this.returnValueSupplier = returnValueSupplier;
+            this.remaining = new AtomicInteger(noOfDrivers);
+        }
+
+        @Override
+        public void notifySuccess(Object result) {
+            complete();
+        }
+
+        @Override
+        public void notifyFailure(BError error) {
+            this.error = error;
+            complete();
+        }
+
+        private void complete() {
+            if (remaining.decrementAndGet() > 0) {
+                return;
+            }
+            if (error != null) {
+                parent.panic = error;
+            } else {
+                parent.returnValue = returnValueSupplier.get();
+            }
+            parent.scheduler.unblockStrand(parent);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be picked by the strand executor threads of a {@link Scheduler}.
+ * <p>
+ * An item group is added only when it is not already scheduled, hence a group is never present in the queue more
+ * than once and is never executed by two threads at the same time.
+ *
+ * @since 2201.0.1
+ */
+interface RunnableQueue {
+
+    /**
+     * Registers the calling thread as a strand executor thread of this queue.
+     */
+    void registerWorker();
+
+    /**
+     * Adds a runnable item group.
+     *
+     * @param group item group that is ready for execution
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next runnable item group, waiting if necessary until one becomes available.
+     *
+     * @return next runnable item group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    /**
+     * Adds the given number of {@link ItemGroup#POISON_PILL}s so that each executor thread exits once.
+     *
+     * @param count number of executor threads to stop
+     */
+    void poison(int count);
+
+    boolean isEmpty();
+
+    /**
+     * Returns the number of runnable item groups. This is only used for monitoring, hence the value may not be
+     * exact while the queue is being updated.
+     *
+     * @return number of runnable item groups
+     */
+    int size();
+}
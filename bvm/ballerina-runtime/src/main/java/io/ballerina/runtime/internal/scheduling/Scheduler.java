@@ -30,15 +30,17 @@ import io.ballerina.runtime.internal.util.RuntimeUtils;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
 
 import java.io.PrintStream;
+import java.util.ArrayDeque;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -46,7 +48,6 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
-import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_MAX_YIELD_DEPTH;
 import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
 
 /**
@@ -66,7 +67,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private final Strand previousStrand;
@@ -83,6 +84,34 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    private static String schedulerPolicyConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    /**
+     * Scheduler policy that makes each executor thread keep its own run queue and steal from others when idle.
+     * This can be selected by setting the BALLERINA_SCHEDULER_POLICY system variable.
+     */
+    private static final String WORK_STEALING_POLICY = "work-stealing";
+    private static final String SHARED_QUEUE_POLICY = "shared";
+
+    /**
+     * Runs the strands on virtual threads instead of a fixed pool of platform threads. This can be selected by
+     * setting the BALLERINA_STRAND_EXECUTOR system variable to 'virtual' and requires JDK 21 or later.
+     */
+    private static final boolean useVirtualThreads = isVirtualThreadExecutorSelected();
+    private static final String VIRTUAL_THREAD_EXECUTOR = "virtual";
+    private static final String PLATFORM_THREAD_EXECUTOR = "platform";
+
+    /**
+     * Number of threads taking from the runnable list, each of them needs a poison pill to stop.
+     */
+    private volatile int executorCount;
+
+    /**
+     * Created only when a metric provider is configured, hence scheduler metrics cost nothing otherwise. Set by the
+     * thread that configures the provider while the executors are running.
+     */
+    private volatile SchedulerMetrics metrics;
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
     private AtomicReference<ItemGroup> objectGroup = new AtomicReference<>();
@@ -93,7 +122,9 @@ public class Scheduler {
 
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
+        this.executorCount = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads);
         this.listenerRegistry = new ListenerRegistry();
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
@@ -161,6 +192,35 @@ public class Scheduler {
         return future;
     }
 
+    /**
+     * Executes the given item right away on the current thread, instead of adding it to the runnable list. If the
+     * item yields, it has to be handed over with {@link #submitYielded(SchedulerItem, Object)}.
+     *
+     * @param item item to be executed
+     * @return the result of the item execution
+     */
+    Object runInline(SchedulerItem item) {
+        StrandHolder holder = strandHolder.get();
+        Strand current = holder.strand;
+        holder.strand = item.future.strand;
+        try {
+            return item.execute();
+        } finally {
+            holder.strand = current;
+        }
+    }
+
+    /**
+     * Hands over an item which yielded while running inline, so that it is resumed as if it had been scheduled.
+     *
+     * @param item   item which yielded
+     * @param result the result of the item execution
+     */
+    void submitYielded(SchedulerItem item, Object result) {
+        totalStrands.incrementAndGet();
+        postProcess(item, result, null);
+    }
+
     public FutureValue scheduleToObjectGroup(Object[] params, Function function, Strand parent,
                                              Callback callback, Map<String, Object> properties, Type returnType,
                                              String strandName, StrandMetadata metadata) {
@@ -264,6 +324,37 @@ public class Scheduler {
     }
 
     public void start() {
+        Consumer<MetricRegistry> metricsListener = this::setMetricRegistry;
+        DefaultMetricRegistry.addRegistryListener(metricsListener);
+        try {
+            runExecutors();
+        } finally {
+            DefaultMetricRegistry.removeRegistryListener(metricsListener);
+            // The registered metrics refer to this scheduler, hence they must not outlive it
+            setMetricRegistry(null);
+        }
+    }
+
+    synchronized void setMetricRegistry(MetricRegistry registry) {
+        SchedulerMetrics previous = this.metrics;
+        this.metrics = registry != null ? new SchedulerMetrics(this, registry) : null;
+        if (previous != null) {
+            previous.unregister();
+        }
+    }
+
+    private void runExecutors() {
+        if (useVirtualThreads && numThreads > 1) {
+            ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("jbal-strand-exec-");
+            if (executor != null) {
+                // A single dispatcher takes the groups from the runnable list.
+                this.executorCount = 1;
+                dispatch(executor);
+                return;
+            }
+            err.println("ballerina: virtual threads are not supported by the current Java runtime, " +
+                    "continuing with platform threads");
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
@@ -291,8 +382,8 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
+        runnableList.registerWorker();
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -305,38 +396,87 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group);
+        }
+    }
+
+    /**
+     * Dispatches the runnable item groups to the given executor, which runs each group on a new virtual thread.
+     * A strand that blocks inside a Java call then only parks its virtual thread instead of holding one of the
+     * scheduler threads.
+     */
+    private void dispatch(ExecutorService executor) {
+        while (true) {
+            ItemGroup group;
+            try {
+                group = runnableList.take();
+            } catch (InterruptedException ignored) {
+                continue;
+            }
 
-                item = group.get();
+            if (group == POISON_PILL) {
+                break;
+            }
 
+            executor.execute(() -> {
                 try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
-
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+                    runGroup(group);
+                } catch (Throwable t) {
+                    RuntimeUtils.printCrashLog(t);
+                }
+            });
+        }
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            RuntimeUtils.printCrashLog(e);
+        }
+    }
+
+    /**
+     * Executes the items of the given group until the group runs out of runnable items.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        boolean isItemsEmpty = group.items.isEmpty();
+        while (!isItemsEmpty) {
+            Object result = null;
+            Throwable panic = null;
+            SchedulerMetrics schedulerMetrics = this.metrics;
+            long startTime = schedulerMetrics != null ? System.nanoTime() : 0;
+
+            item = group.get();
+
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+            } finally {
+                strandHolder.get().strand = previousStrand;
             }
+            if (schedulerMetrics != null) {
+                schedulerMetrics.itemExecuted(startTime);
+                schedulerMetrics.yielded(item.getState());
+            }
+            postProcess(item, result, panic);
+            group.lock();
+            if ((isItemsEmpty = group.items.isEmpty())) {
+                group.scheduled.set(false);
+            }
+            group.unlock();
         }
     }
 
@@ -354,6 +494,10 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                item.countedBy = this.metrics;
+                if (item.countedBy != null) {
+                    item.countedBy.blockedStrands.incrementAndGet();
+                }
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
@@ -363,6 +507,11 @@ public class Scheduler {
                 if (waitContext.runnable) {
                     waitContext.completed = true;
                     reschedule(item);
+                } else {
+                    item.countedBy = this.metrics;
+                    if (item.countedBy != null) {
+                        item.countedBy.blockedOnStrands.incrementAndGet();
+                    }
                 }
                 waitContext.unLock();
                 break;
@@ -398,6 +547,11 @@ public class Scheduler {
                                 ctx.runnable = true;
                             } else {
                                 ctx.completed = true;
+                                SchedulerMetrics countedBy = ctx.schedulerItem.countedBy;
+                                if (countedBy != null) {
+                                    countedBy.blockedOnStrands.decrementAndGet();
+                                    ctx.schedulerItem.countedBy = null;
+                                }
                                 reschedule(ctx.schedulerItem);
                             }
                         }
@@ -442,9 +596,14 @@ public class Scheduler {
 
     public void unblockStrand(Strand strand) {
         strand.lock();
-        if (strand.schedulerItem.parked) {
-            strand.schedulerItem.parked = false;
-            reschedule(strand.schedulerItem);
+        SchedulerItem item = strand.schedulerItem;
+        if (item.parked) {
+            item.parked = false;
+            if (item.countedBy != null) {
+                item.countedBy.blockedStrands.decrementAndGet();
+                item.countedBy = null;
+            }
+            reschedule(item);
         } else {
             // item not returned to scheduler, yet.
             // scheduler will simply reschedule since this is already unlocked.
@@ -455,6 +614,7 @@ public class Scheduler {
 
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
+        FramePool.release(justCompleted.frames);
         justCompleted.frames = null;
         justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
@@ -515,15 +675,20 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[BALLERINA_MAX_YIELD_DEPTH];
-        return future;
+        // Frames are allocated lazily by the strand on the first yield
+        return new FutureValue(newStrand, callback, constraint);
+    }
+
+    int getRunnableGroupCount() {
+        return runnableList.size();
+    }
+
+    int getActiveStrandCount() {
+        return totalStrands.get();
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
-        }
+        runnableList.poison(executorCount);
     }
 
     public void setListenerDeclarationFound(boolean listenerDeclarationFound) {
@@ -554,6 +719,35 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static boolean isVirtualThreadExecutorSelected() {
+        String executorConf = System.getenv(RuntimeConstants.BALLERINA_STRAND_EXECUTOR_ENV_VAR);
+        if (executorConf == null || PLATFORM_THREAD_EXECUTOR.equals(executorConf)) {
+            return false;
+        }
+        if (VIRTUAL_THREAD_EXECUTOR.equals(executorConf)) {
+            return true;
+        }
+        // Log and continue with default
+        err.println("ballerina: invalid value '" + executorConf + "' for system variable:" +
+                RuntimeConstants.BALLERINA_STRAND_EXECUTOR_ENV_VAR + ", expected '" + PLATFORM_THREAD_EXECUTOR +
+                "' or '" + VIRTUAL_THREAD_EXECUTOR + "'");
+        return false;
+    }
+
+    private static RunnableQueue createRunnableQueue(int numThreads) {
+        if (schedulerPolicyConf == null || SHARED_QUEUE_POLICY.equals(schedulerPolicyConf)) {
+            return new SharedRunnableQueue();
+        }
+        if (WORK_STEALING_POLICY.equals(schedulerPolicyConf)) {
+            return new WorkStealingRunnableQueue(numThreads);
+        }
+        // Log and continue with default
+        err.println("ballerina: invalid value '" + schedulerPolicyConf + "' for system variable:" +
+                RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", expected '" + SHARED_QUEUE_POLICY +
+                "' or '" + WORK_STEALING_POLICY + "'");
+        return new SharedRunnableQueue();
+    }
+
     /**
      * The registry for runtime dynamic listeners.
      */
@@ -590,6 +784,11 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
+    /**
+     * Metrics that counted this item as parked or blocked on, the same instance has to be decremented once the item
+     * is rescheduled even if the metrics were replaced or removed in between.
+     */
+    SchedulerMetrics countedBy;
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
@@ -638,7 +837,7 @@ class ItemGroup {
      * Keep the list of items that should run on same thread.
      * Using a stack to get advantage of the locality.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    final ArrayDeque<SchedulerItem> items;
 
     /**
      * Indicates this item is already in runnable list/executing or not.
@@ -650,10 +849,13 @@ class ItemGroup {
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
-        items.push(item);
+        // Most of the groups only ever hold a single item
+        this.items = new ArrayDeque<>(1);
+        this.items.push(item);
     }
 
     public ItemGroup() {
+        this.items = new ArrayDeque<>();
     }
 
     public void add(SchedulerItem item) {
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics published by the {@link Scheduler}.
+ * <p>
+ * An instance is created only once a metric provider sets the default {@link MetricRegistry}, until then the
+ * scheduler does not collect anything. The metrics are tagged with an id of the scheduler and are unregistered once
+ * the scheduler stops.
+ *
+ * @since 2201.0.1
+ */
+class SchedulerMetrics {
+
+    private static final String TAG_STATE = "state";
+    private static final String TAG_SCHEDULER = "scheduler";
+    private static final AtomicInteger nextSchedulerId = new AtomicInteger();
+
+    final AtomicInteger blockedStrands = new AtomicInteger();
+    final AtomicInteger blockedOnStrands = new AtomicInteger();
+
+    private final MetricRegistry registry;
+    private final PolledGauge[] polledGauges;
+    private final Counter yields;
+    private final Counter blocks;
+    private final Counter blockOns;
+    private final Gauge executionTime;
+
+    SchedulerMetrics(Scheduler scheduler, MetricRegistry registry) {
+        // More than one scheduler may run at a time, e.g. the one that stops the modules
+        String schedulerId = Integer.toString(nextSchedulerId.incrementAndGet());
+        this.registry = registry;
+        this.polledGauges = new PolledGauge[]{
+                PolledGauge.builder("scheduler_runnable_groups", scheduler, Scheduler::getRunnableGroupCount)
+                        .description("Number of strand groups waiting in the runnable list")
+                        .tag(TAG_SCHEDULER, schedulerId)
+                        .register(registry),
+                PolledGauge.builder("scheduler_active_strands", scheduler, Scheduler::getActiveStrandCount)
+                        .description("Number of strands that are scheduled and not yet completed")
+                        .tag(TAG_SCHEDULER, schedulerId)
+                        .register(registry),
+                PolledGauge.builder("scheduler_parked_strands", blockedStrands, AtomicInteger::get)
+                        .description("Number of strands parked until they are unblocked")
+                        .tag(TAG_SCHEDULER, schedulerId)
+                        .tag(TAG_STATE, "block_and_yield")
+                        .register(registry),
+                PolledGauge.builder("scheduler_parked_strands", blockedOnStrands, AtomicInteger::get)
+                        .description("Number of strands parked until they are unblocked")
+                        .tag(TAG_SCHEDULER, schedulerId)
+                        .tag(TAG_STATE, "block_on_and_yield")
+                        .register(registry)
+        };
+
+        this.yields = Counter.builder("scheduler_strand_yields_total")
+                .description("Total number of times strands yielded")
+                .tag(TAG_SCHEDULER, schedulerId)
+                .tag(TAG_STATE, "yield")
+                .register(registry);
+        this.blocks = Counter.builder("scheduler_strand_yields_total")
+                .description("Total number of times strands yielded")
+                .tag(TAG_SCHEDULER, schedulerId)
+                .tag(TAG_STATE, "block_and_yield")
+                .register(registry);
+        this.blockOns = Counter.builder("scheduler_strand_yields_total")
+                .description("Total number of times strands yielded")
+                .tag(TAG_SCHEDULER, schedulerId)
+                .tag(TAG_STATE, "block_on_and_yield")
+                .register(registry);
+        this.executionTime = Gauge.builder("scheduler_item_execution_time_seconds")
+                .description("Time taken by a strand to run until it yields or completes")
+                .tag(TAG_SCHEDULER, schedulerId)
+                .summarize(StatisticConfig.DEFAULT)
+                .register(registry);
+    }
+
+    /**
+     * Removes the metrics of the scheduler from the registry, so that the registry no longer refers to it.
+     */
+    void unregister() {
+        for (PolledGauge polledGauge : polledGauges) {
+            registry.unregister(polledGauge);
+        }
+        registry.unregister(yields);
+        registry.unregister(blocks);
+        registry.unregister(blockOns);
+        registry.unregister(executionTime);
+    }
+
+    void itemExecuted(long startTime) {
+        executionTime.setValue((System.nanoTime() - startTime) / 1E9);
+    }
+
+    void yielded(State state) {
+        switch (state) {
+            case BLOCK_AND_YIELD:
+                blocks.increment();
+                break;
+            case BLOCK_ON_AND_YIELD:
+                blockOns.increment();
+                break;
+            case YIELD:
+                yields.increment();
+                break;
+            default:
+                break;
+        }
+    }
+}
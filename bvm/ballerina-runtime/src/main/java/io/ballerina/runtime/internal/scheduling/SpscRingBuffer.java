@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free single-producer/single-consumer queue backed by a ring buffer.
+ * <p>
+ * {@link #offer(Object)} must only be called by a single producer thread at a time and {@link #poll()} by a single
+ * consumer thread at a time. When the ring buffer is full, the producer links a new buffer of the same size instead
+ * of blocking, hence offering never fails. The consumer follows the link once it has taken all the elements of the
+ * old buffer.
+ *
+ * @param <E> type of the elements
+ * @since 2201.0.1
+ */
+class SpscRingBuffer<E> {
+
+    private static final Object JUMP = new Object();
+
+    private final int mask;
+
+    // Producer side
+    private AtomicReferenceArray<Object> producerBuffer;
+    private long producerIndex;
+    private volatile long producedCount;
+
+    // Consumer side
+    private AtomicReferenceArray<Object> consumerBuffer;
+    private long consumerIndex;
+    private volatile long consumedCount;
+
+    /**
+     * Creates a queue.
+     *
+     * @param capacity capacity of each ring buffer, must be a power of two
+     */
+    SpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        // The additional slot holds the link to the next buffer
+        AtomicReferenceArray<Object> buffer = new AtomicReferenceArray<>(capacity + 1);
+        this.producerBuffer = buffer;
+        this.consumerBuffer = buffer;
+    }
+
+    void offer(E element) {
+        AtomicReferenceArray<Object> buffer = this.producerBuffer;
+        long index = this.producerIndex;
+        int offset = (int) (index & mask);
+        // The slot at the current index is always free. Keep writing to this buffer only while the next slot is
+        // also free, so that a jump marker can be placed when it is full.
+        if (buffer.get((int) ((index + 1) & mask)) == null) {
+            buffer.lazySet(offset, element);
+        } else {
+            AtomicReferenceArray<Object> newBuffer = new AtomicReferenceArray<>(buffer.length());
+            newBuffer.lazySet(offset, element);
+            buffer.lazySet(mask + 1, newBuffer);
+            buffer.lazySet(offset, JUMP);
+            this.producerBuffer = newBuffer;
+        }
+        this.producerIndex = index + 1;
+        this.producedCount = index + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    E poll() {
+        AtomicReferenceArray<Object> buffer = this.consumerBuffer;
+        long index = this.consumerIndex;
+        int offset = (int) (index & mask);
+        Object element = buffer.get(offset);
+        if (element == null) {
+            return null;
+        }
+        if (element == JUMP) {
+            buffer = (AtomicReferenceArray<Object>) buffer.get(mask + 1);
+            this.consumerBuffer = buffer;
+            element = buffer.get(offset);
+        }
+        buffer.lazySet(offset, null);
+        this.consumerIndex = index + 1;
+        this.consumedCount = index + 1;
+        return (E) element;
+    }
+
+    /**
+     * Checks whether all the offered elements have been taken. This can be called from any thread.
+     *
+     * @return true if there are no elements left to be taken
+     */
+    boolean isEmpty() {
+        return this.consumedCount == this.producedCount;
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BLock;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -72,6 +73,7 @@ public class Strand {
     public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
+    public List<BLock> acquiredLocks;
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public boolean cancel;
@@ -92,7 +94,7 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
+        this.channelDetails = Collections.emptySet();
         this.state = RUNNABLE;
         this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
@@ -168,6 +170,27 @@ public class Strand {
         this.globalProps.put(key, value);
     }
 
+    /**
+     * Records a lock acquired by this strand. Locks are released in the reverse order of acquiring.
+     *
+     * @param lock acquired lock
+     */
+    public void addAcquiredLock(BLock lock) {
+        if (this.acquiredLocks == null) {
+            this.acquiredLocks = new ArrayList<>(2);
+        }
+        this.acquiredLocks.add(lock);
+    }
+
+    public void removeAcquiredLock(BLock lock) {
+        int lastIndex = this.acquiredLocks.size() - 1;
+        if (this.acquiredLocks.get(lastIndex) == lock) {
+            this.acquiredLocks.remove(lastIndex);
+        } else {
+            this.acquiredLocks.remove(lock);
+        }
+    }
+
     public boolean isInTransaction() {
         return this.currentTrxContext != null && this.currentTrxContext.isTransactional();
     }
@@ -346,9 +369,25 @@ public class Strand {
     }
 
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails.isEmpty()) {
+            this.channelDetails = new HashSet<>();
+        }
         Collections.addAll(this.channelDetails, channels);
     }
 
+    /**
+     * Saves the frame of a yielding function. The frame array is allocated only when the strand yields for the
+     * first time, since most of the strands complete without yielding.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (this.frames == null) {
+            this.frames = FramePool.acquire();
+        }
+        this.frames[this.resumeIndex++] = frame;
+    }
+
     private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
         WorkerDataChannel dataChannel;
         if (channel.channelInSameStrand) {
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors that start a new virtual thread per task.
+ * <p>
+ * The runtime is compiled against Java 11, hence the virtual thread API is looked up reflectively and is only
+ * available when running on a JDK that supports virtual threads (JDK 21 or later).
+ *
+ * @since 2201.0.1
+ */
+class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates a thread-per-task executor backed by virtual threads.
+     *
+     * @param namePrefix prefix of the virtual thread names
+     * @return the executor, or {@code null} if virtual threads are not supported by the running JVM
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // Not supported, or supported only as a preview feature which has not been enabled.
+            return null;
+        }
+    }
+}
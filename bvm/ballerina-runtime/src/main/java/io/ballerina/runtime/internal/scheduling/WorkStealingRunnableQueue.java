@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunnableQueue} that keeps a separate queue per executor thread.
+ * <p>
+ * Groups made runnable from an executor thread (new strands, yielded or unblocked strands) are added to the local
+ * queue of that thread, so they are most likely picked by the same thread again. Groups added from other threads go
+ * to a shared injection queue. An executor thread that runs out of local work takes from the injection queue and
+ * then steals from the other executor threads before parking.
+ *
+ * @since 2201.0.1
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    /**
+     * Number of local takes after which the injection queue is checked first, so that work submitted from
+     * non-executor threads is not starved by busy local queues.
+     */
+    private static final int GLOBAL_CHECK_INTERVAL = 61;
+    private static final int SPIN_COUNT = 64;
+
+    private final Queue<ItemGroup> globalQueue = new ConcurrentLinkedQueue<>();
+    private final WorkerQueue[] workerQueues;
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final ThreadLocal<WorkerQueue> currentWorker = new ThreadLocal<>();
+
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition notEmpty = idleLock.newCondition();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+
+    WorkStealingRunnableQueue(int numThreads) {
+        this.workerQueues = new WorkerQueue[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            workerQueues[i] = new WorkerQueue(i);
+        }
+    }
+
+    @Override
+    public void registerWorker() {
+        if (currentWorker.get() != null) {
+            return;
+        }
+        int index = registeredWorkers.getAndIncrement();
+        if (index < workerQueues.length) {
+            currentWorker.set(workerQueues[index]);
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        WorkerQueue self = currentWorker.get();
+        if (self != null) {
+            self.queue.add(group);
+        } else {
+            globalQueue.add(group);
+        }
+        if (idleWorkers.get() > 0) {
+            idleLock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        WorkerQueue self = currentWorker.get();
+        while (true) {
+            for (int i = 0; i < SPIN_COUNT; i++) {
+                ItemGroup group = poll(self);
+                if (group != null) {
+                    return group;
+                }
+                Thread.onSpinWait();
+            }
+
+            idleLock.lockInterruptibly();
+            try {
+                // Register as idle before the final check. A producer that adds after this check will see the
+                // idle count and signal only after we start waiting, since it has to acquire the same lock.
+                idleWorkers.incrementAndGet();
+                try {
+                    ItemGroup group = poll(self);
+                    if (group != null) {
+                        return group;
+                    }
+                    notEmpty.await();
+                } finally {
+                    idleWorkers.decrementAndGet();
+                }
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    private ItemGroup poll(WorkerQueue self) {
+        ItemGroup group;
+        if (self == null) {
+            group = globalQueue.poll();
+            return group != null ? group : steal(-1);
+        }
+
+        if (++self.ticks % GLOBAL_CHECK_INTERVAL == 0 && (group = globalQueue.poll()) != null) {
+            return group;
+        }
+        if ((group = self.queue.poll()) != null) {
+            return group;
+        }
+        if ((group = globalQueue.poll()) != null) {
+            return group;
+        }
+        return steal(self.index);
+    }
+
+    private ItemGroup steal(int selfIndex) {
+        int count = workerQueues.length;
+        int start = ThreadLocalRandom.current().nextInt(count);
+        for (int i = 0; i < count; i++) {
+            int victim = (start + i) % count;
+            if (victim == selfIndex) {
+                continue;
+            }
+            ItemGroup group = workerQueues[victim].queue.poll();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void poison(int count) {
+        // Poison pills are never stolen, each executor thread picks exactly one from the injection queue and exits.
+        for (int i = 0; i < count; i++) {
+            globalQueue.add(POISON_PILL);
+        }
+        idleLock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!globalQueue.isEmpty()) {
+            return false;
+        }
+        for (WorkerQueue workerQueue : workerQueues) {
+            if (!workerQueue.queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        int size = globalQueue.size();
+        for (WorkerQueue workerQueue : workerQueues) {
+            size += workerQueue.queue.size();
+        }
+        return size;
+    }
+
+    /**
+     * Local run queue of a single executor thread.
+     */
+    private static class WorkerQueue {
+        final int index;
+        final Queue<ItemGroup> queue = new ConcurrentLinkedQueue<>();
+        int ticks;
+
+        WorkerQueue(int index) {
+            this.index = index;
+        }
+    }
+}
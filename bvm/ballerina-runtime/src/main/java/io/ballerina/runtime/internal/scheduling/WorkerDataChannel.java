@@ -19,12 +19,11 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
@@ -34,21 +33,27 @@ import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
-    private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private static final int RING_BUFFER_CAPACITY = 16;
+    private static final Object NIL = new Object();
+
+    // A channel has exactly one sending worker and one receiving worker, so data is passed through a lock-free
+    // single producer/single consumer queue. The channel lock is only taken to park and unblock strands and to handle
+    // sync sends, flushes, errors and panics. The sender counter is only updated by the sender side and the receiver
+    // counter only by the receiver side.
+    private volatile Strand receiver;
+    private volatile WaitingSender waitingSender;
+    private volatile WaitingSender flushSender;
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
 
     private Lock channelLock;
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final SpscRingBuffer<Object> channel = new SpscRingBuffer<>(RING_BUFFER_CAPACITY);
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -70,18 +75,18 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
+        this.channel.offer(data == null ? NIL : data);
+        this.senderCounter++;
+        // The receiver publishes itself before checking the queue for the last time, so either it sees the data
+        // offered above or it is seen here.
+        if (this.receiver != null) {
+            try {
+                acquireChannelLock();
+                unblockReceiver();
+            } finally {
+                releaseChannelLock();
             }
-        } finally {
-            releaseChannelLock();
         }
     }
 
@@ -96,15 +101,15 @@ public class WorkerDataChannel {
         try {
             acquireChannelLock();
             if (!reschedule) {
-                // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
+                // this is a new message, not a reschedule. The waiting sender is set before the data is offered
+                // since the receiver may take the data without the channel lock.
                 this.waitingSender = new WaitingSender(strand, -1);
+                this.channel.offer(new WorkerResult(data, true));
+                this.senderCounter++;
 
                 if (this.receiver != null) {
                     // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
+                    unblockReceiver();
                 } else if (this.panic != null) {
                     Throwable panic = this.panic;
                     this.panic = null;
@@ -120,10 +125,10 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && !this.channel.isEmpty()) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && !this.channel.isEmpty()) {
                 ErrorValue ret = this.error;
                 return ret;
             }
@@ -135,45 +140,87 @@ public class WorkerDataChannel {
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
-        try {
-            acquireChannelLock();
-            WorkerResult result = this.channel.peek();
+        while (true) {
+            Object result = this.channel.poll();
             if (result != null) {
                 this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+                if (result instanceof WorkerResult) {
+                    notifySyncSender();
+                    return ((WorkerResult) result).value;
                 }
-                return result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                throw this.panic;
-            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                return error;
-            } else {
+                notifyFlushSender();
+                return result == NIL ? null : result;
+            }
+
+            try {
+                acquireChannelLock();
+                if (!this.channel.isEmpty()) {
+                    continue;
+                } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
+                    this.receiverCounter++;
+                    throw this.panic;
+                } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
+                    this.receiverCounter++;
+                    return error;
+                }
+
                 this.receiver = strand;
                 strand.setState(BLOCK_AND_YIELD);
-                return null;
+                if (this.channel.isEmpty()) {
+                    return null;
+                }
+                // data was sent before the sender could see this receiver, take it instead of waiting
+                this.receiver = null;
+                strand.setState(RUNNABLE);
+            } finally {
+                releaseChannelLock();
+            }
+        }
+    }
+
+    private void unblockReceiver() {
+        Strand waiting = this.receiver;
+        if (waiting != null) {
+            this.receiver = null;
+            waiting.scheduler.unblockStrand(waiting);
+        }
+    }
+
+    private void notifySyncSender() {
+        try {
+            acquireChannelLock();
+            // sync sender will pick the this.error as result, which is null
+            Strand waiting = this.waitingSender.waitingStrand;
+            waiting.scheduler.unblockStrand(waiting);
+            this.waitingSender = null;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private void notifyFlushSender() {
+        // The flushing sender publishes itself before checking the receiver counter, so either it sees the counter
+        // updated by the caller or it is seen here. Whichever side clears the flush sender counts the flush.
+        WaitingSender flushing = this.flushSender;
+        if (flushing == null || flushing.flushCount != this.receiverCounter) {
+            return;
+        }
+        try {
+            acquireChannelLock();
+            if (this.flushSender != flushing) {
+                return;
+            }
+            Strand flushStrand = flushing.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.flushedCount++;
+            if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                    flushStrand.isBlocked()) {
+                //will continue if this is a sync wait, will try to flush again if blocked on flush
+                flushStrand.scheduler.unblockStrand(flushStrand);
             }
+            flushStrand.flushDetail.flushLock.unlock();
+            this.flushSender = null;
         } finally {
             releaseChannelLock();
         }
@@ -187,10 +234,7 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.error = error;
         this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        unblockReceiver();
         releaseChannelLock();
     }
 
@@ -234,13 +278,15 @@ public class WorkerDataChannel {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
+            }
+            // Publish the flushing sender before checking the receiver counter, see notifyFlushSender
+            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            if (this.receiverCounter == this.senderCounter) {
+                this.flushSender = null;
                 strand.flushDetail.flushLock.lock();
                 strand.flushDetail.flushedCount++;
                 strand.flushDetail.flushLock.unlock();
-                return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
             return null;
         } finally {
             releaseChannelLock();
@@ -263,10 +309,7 @@ public class WorkerDataChannel {
             acquireChannelLock();
             this.panic  = panic;
             this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
@@ -299,11 +342,8 @@ public class WorkerDataChannel {
     }
 
     /**
-     * This represents a worker result value. This is done as a value to be used in the
-     * queues used for worker communication. In this way, the queue can distinguish the
-     * case of a value not there when the peek, by returning null, and then, if they
-     * return a WorkerResult, the value inside it can be either null or not to mention
-     * Ballerina null value and non-null value.
+     * This represents a worker result value of a sync send. Values of async sends are queued as they are, with
+     * Ballerina nil queued as a marker, so that the queue can still return null when the channel is empty.
      */
     public static class WorkerResult {
 
@@ -51,6 +51,8 @@ public class BRecordType extends BStructureType implements RecordType {
     private final boolean readonly;
     private IntersectionType immutableType;
     private IntersectionType intersectionType = null;
+    // Field names encoded as JSON, created when a value of this type is first written by Utf8JsonGenerator
+    private volatile Map<String, byte[]> encodedJsonFieldNames;
 
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
@@ -139,6 +141,20 @@ public class BRecordType extends BStructureType implements RecordType {
         return TypeTags.RECORD_TYPE_TAG;
     }
 
+    @Override
+    public void setFields(Map<String, Field> fields) {
+        super.setFields(fields);
+        this.encodedJsonFieldNames = null;
+    }
+
+    public Map<String, byte[]> getEncodedJsonFieldNames() {
+        return encodedJsonFieldNames;
+    }
+
+    public void setEncodedJsonFieldNames(Map<String, byte[]> encodedJsonFieldNames) {
+        this.encodedJsonFieldNames = encodedJsonFieldNames;
+    }
+
     @Override
     public String getAnnotationKey() {
         return Utils.decodeIdentifier(this.typeName);
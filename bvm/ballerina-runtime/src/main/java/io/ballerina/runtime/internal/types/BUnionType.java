@@ -58,6 +58,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
     private String cachedToString;
     private boolean resolving;
     public boolean resolvingReadonly;
+    private volatile UnionDispatchTable dispatchTable;
 
     private static final String INT_CLONEABLE = "__Cloneable";
     private static final String CLONEABLE = "Cloneable";
@@ -182,6 +183,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         if (members.isEmpty()) {
             this.memberTypes = members;
+            this.dispatchTable = null;
             return;
         }
         this.resolvingReadonly = true;
@@ -196,6 +198,20 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         this.isCyclic = isCyclic;
     }
 
+    /**
+     * Returns the table used to narrow down the member types to be checked for a value.
+     *
+     * @return dispatch table of the union
+     */
+    public UnionDispatchTable getDispatchTable() {
+        UnionDispatchTable table = this.dispatchTable;
+        if (table == null) {
+            table = new UnionDispatchTable(getMemberTypes());
+            this.dispatchTable = table;
+        }
+        return table;
+    }
+
     public boolean isNilable() {
         if (memberTypes == null || memberTypes.isEmpty()) {
             return true;
@@ -237,6 +253,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
     }
 
     private void setFlagsBasedOnMembers() {
+        this.dispatchTable = null;
         if (this.resolving) {
             return;
         }
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Dispatch table of a union type, which narrows down the member types to be checked for a value by the tag of the
+ * type of the value.
+ * <p>
+ * Each tag belongs to a basic type, such as mapping or list, and a value only belongs to, or can be converted to, a
+ * member of the same basic type. Integers, floats and decimals are treated as a single basic type, since they can be
+ * converted to one another. Members such as unions, finite types and intersections may contain values of any basic
+ * type and are kept for all tags. For the simple basic types the result of checking whether the type is a subtype of
+ * the union depends only on the tag, and is kept as well.
+ * <p>
+ * Conversions are narrowed down separately, as a value may be converted to a member of another basic type. A list is
+ * converted to a table, and the conversion to a table member is decided by its constraint alone, hence table members
+ * are candidates for a conversion of a value of any type.
+ * <p>
+ * The entries are built lazily when a tag is first looked up.
+ *
+ * @since 2201.0.1
+ */
+public final class UnionDispatchTable {
+
+    private static final int NO_BASIC_TYPE = 0;
+    private static final int NUMBER = 1;
+    private static final int STRING = 2;
+    private static final int BOOLEAN = 3;
+    private static final int NIL = 4;
+    private static final int XML = 5;
+    private static final int MAPPING = 6;
+    private static final int LIST = 7;
+    private static final int TABLE = 8;
+    private static final int OBJECT = 9;
+    private static final int ERROR = 10;
+    private static final int FUNCTION = 11;
+    private static final int FUTURE = 12;
+    private static final int STREAM = 13;
+    private static final int TYPEDESC = 14;
+    private static final int HANDLE = 15;
+
+    private static final int TAG_COUNT = TypeTags.PARAMETERIZED_TYPE_TAG + 1;
+
+    private final List<Type> memberTypes;
+    private final AtomicReferenceArray<List<Type>> candidateMembers = new AtomicReferenceArray<>(TAG_COUNT);
+    private final AtomicReferenceArray<List<Type>> conversionCandidateMembers = new AtomicReferenceArray<>(TAG_COUNT);
+    private final AtomicReferenceArray<Boolean> basicTypeMembership = new AtomicReferenceArray<>(
+            TypeTags.NULL_TAG + 1);
+
+    UnionDispatchTable(List<Type> memberTypes) {
+        this.memberTypes = memberTypes;
+    }
+
+    /**
+     * Returns the member types which may contain a value of a type with the given tag, in the order of the members.
+     *
+     * @param sourceTypeTag tag of the type of the value
+     * @return member types to be checked
+     */
+    public List<Type> getCandidateMembers(int sourceTypeTag) {
+        if (sourceTypeTag < 0 || sourceTypeTag >= TAG_COUNT) {
+            return memberTypes;
+        }
+
+        List<Type> candidates = candidateMembers.get(sourceTypeTag);
+        if (candidates == null) {
+            candidates = findCandidateMembers(getBasicType(sourceTypeTag), false);
+            candidateMembers.set(sourceTypeTag, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the member types to which a value of a type with the given tag may be converted, in the order of the
+     * members.
+     *
+     * @param sourceTypeTag tag of the type of the value
+     * @return member types to be checked for the conversion
+     */
+    public List<Type> getConversionCandidateMembers(int sourceTypeTag) {
+        if (sourceTypeTag < 0 || sourceTypeTag >= TAG_COUNT) {
+            return memberTypes;
+        }
+
+        List<Type> candidates = conversionCandidateMembers.get(sourceTypeTag);
+        if (candidates == null) {
+            candidates = findCandidateMembers(getBasicType(sourceTypeTag), true);
+            conversionCandidateMembers.set(sourceTypeTag, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks whether the result of a type check against the union is kept for the types with the given tag. These
+     * are the simple basic types, of which all types with the same tag contain the same values.
+     *
+     * @param sourceTypeTag tag of the source type
+     * @return true if the result is kept for the tag
+     */
+    public static boolean isBasicTypeTag(int sourceTypeTag) {
+        return sourceTypeTag >= TypeTags.INT_TAG && sourceTypeTag <= TypeTags.NULL_TAG;
+    }
+
+    /**
+     * Returns whether the types with the given simple basic type tag are subtypes of the union.
+     *
+     * @param sourceTypeTag tag of the source type
+     * @return the result, or null if it is not known yet
+     */
+    public Boolean getBasicTypeMembership(int sourceTypeTag) {
+        return basicTypeMembership.get(sourceTypeTag);
+    }
+
+    public void setBasicTypeMembership(int sourceTypeTag, boolean isMember) {
+        basicTypeMembership.set(sourceTypeTag, isMember);
+    }
+
+    private List<Type> findCandidateMembers(int basicType, boolean forConversion) {
+        if (basicType == NO_BASIC_TYPE) {
+            return memberTypes;
+        }
+
+        List<Type> candidates = new ArrayList<>(memberTypes.size());
+        for (Type memberType : memberTypes) {
+            int memberBasicType = getBasicType(memberType.getTag());
+            if (memberBasicType == NO_BASIC_TYPE || memberBasicType == basicType ||
+                    (forConversion && memberBasicType == TABLE)) {
+                candidates.add(memberType);
+            }
+        }
+        return candidates.size() == memberTypes.size() ? memberTypes : candidates;
+    }
+
+    private static int getBasicType(int tag) {
+        switch (tag) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+                return NUMBER;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                return STRING;
+            case TypeTags.BOOLEAN_TAG:
+                return BOOLEAN;
+            case TypeTags.NULL_TAG:
+                return NIL;
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                return XML;
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                return MAPPING;
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                return LIST;
+            case TypeTags.TABLE_TAG:
+                return TABLE;
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.SERVICE_TAG:
+                return OBJECT;
+            case TypeTags.ERROR_TAG:
+                return ERROR;
+            case TypeTags.FUNCTION_POINTER_TAG:
+                return FUNCTION;
+            case TypeTags.FUTURE_TAG:
+                return FUTURE;
+            case TypeTags.STREAM_TAG:
+                return STREAM;
+            case TypeTags.TYPEDESC_TAG:
+                return TYPEDESC;
+            case TypeTags.HANDLE_TAG:
+                return HANDLE;
+            default:
+                return NO_BASIC_TYPE;
+        }
+    }
+}
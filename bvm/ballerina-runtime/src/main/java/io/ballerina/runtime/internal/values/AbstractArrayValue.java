@@ -21,13 +21,12 @@ import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.internal.IteratorUtils;
-import io.ballerina.runtime.internal.JsonGenerator;
+import io.ballerina.runtime.internal.Utf8JsonGenerator;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -122,15 +121,13 @@ public abstract class AbstractArrayValue implements ArrayValue {
 
     @Override
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        Utf8JsonGenerator gen = new Utf8JsonGenerator();
         try {
             gen.serialize(this);
-            gen.flush();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return byteOut.toString();
+        return gen.toString();
     }
 
     /**
@@ -135,6 +135,30 @@ public class ArrayValueImpl extends AbstractArrayValue {
         this.typedesc = getTypedescValue(arrayType, this);
     }
 
+    public ArrayValueImpl(long[] values, ArrayType type) {
+        this.intValues = values;
+        this.size = values.length;
+        this.arrayType = type;
+        this.elementType = type.getElementType();
+        this.typedesc = getTypedescValue(arrayType, this);
+    }
+
+    public ArrayValueImpl(double[] values, ArrayType type) {
+        this.floatValues = values;
+        this.size = values.length;
+        this.arrayType = type;
+        this.elementType = type.getElementType();
+        this.typedesc = getTypedescValue(arrayType, this);
+    }
+
+    public ArrayValueImpl(BString[] values, ArrayType type) {
+        this.bStringValues = values;
+        this.size = values.length;
+        this.arrayType = type;
+        this.elementType = type.getElementType();
+        this.typedesc = getTypedescValue(arrayType, this);
+    }
+
     public ArrayValueImpl(ArrayType type) {
         this.arrayType = type;
         this.elementType = type.getElementType();
@@ -44,6 +44,9 @@ import io.ballerina.runtime.api.values.BString;
      @Override
      public BString concat(BString str) {
          StringValue stringValue = (StringValue) str;
+         if (isLazyConcat(this, stringValue)) {
+             return new RopeStringValue(this, stringValue);
+         }
          if (stringValue.isNonBmp) {
              int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
              int[] newSurrogates = new int[otherSurrogates.length];
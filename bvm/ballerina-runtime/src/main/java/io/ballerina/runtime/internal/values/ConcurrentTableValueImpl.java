@@ -0,0 +1,440 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.CycleUtils;
+import io.ballerina.runtime.internal.TableUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A table that can be updated concurrently from multiple strands.
+ * <p>
+ * Rows are spread over a fixed number of shards by the hash of the first key field, and each shard is a regular
+ * table guarded by its own read-write lock. Operations on a single key only lock the shard the key belongs to.
+ * Rows of a table without a key sequence are spread by the adding thread instead.
+ * <p>
+ * Unlike {@link TableValueImpl}, rows are not kept in insertion order across shards. Iteration visits the shards one
+ * after the other and takes a snapshot of each shard when it reaches it, hence it is weakly consistent: it never
+ * fails due to concurrent updates, but may or may not reflect updates made after it was created. Aggregate operations
+ * such as {@link #size()} and {@link #values()} are weakly consistent in the same way.
+ *
+ * @param <K> the type of keys maintained by this table
+ * @param <V> the type of the rows
+ * @since 2201.0.1
+ */
+public class ConcurrentTableValueImpl<K, V> extends TableValueImpl<K, V> {
+
+    private static final int MAX_SHARD_COUNT = 1 << 10;
+
+    private final Shard<K, V>[] shards;
+    private final int shardMask;
+    private final BString firstKeyField;
+    private final boolean multiKey;
+
+    public ConcurrentTableValueImpl(TableType type) {
+        this(type, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates a concurrent table.
+     *
+     * @param type             type of the table
+     * @param concurrencyLevel estimated number of strands updating the table at the same time, the number of shards
+     *                         is the next power of two
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentTableValueImpl(TableType type, int concurrencyLevel) {
+        // The rows are kept by the shards alone
+        super(type, false);
+        int shardCount = shardCount(concurrencyLevel);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            this.shards[i] = new Shard<>(new TableValueImpl<>(type));
+        }
+        this.shardMask = shardCount - 1;
+
+        String[] keyFields = type.getFieldNames();
+        if (keyFields != null && keyFields.length > 0) {
+            this.firstKeyField = StringUtils.fromString(keyFields[0]);
+            this.multiKey = keyFields.length > 1;
+        } else {
+            this.firstKeyField = null;
+            this.multiKey = false;
+        }
+    }
+
+    private static int shardCount(int concurrencyLevel) {
+        if (concurrencyLevel <= 1) {
+            return 1;
+        }
+        if (concurrencyLevel >= MAX_SHARD_COUNT) {
+            return MAX_SHARD_COUNT;
+        }
+        return Integer.highestOneBit(concurrencyLevel - 1) << 1;
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        return new ShardedTableIterator();
+    }
+
+    @Override
+    public Object copy(Map<Object, Object> refs) {
+        if (isFrozen()) {
+            return this;
+        }
+
+        if (refs.containsKey(this)) {
+            return refs.get(this);
+        }
+
+        ConcurrentTableValueImpl<K, V> clone = new ConcurrentTableValueImpl<>((TableType) getType(), shards.length);
+        IteratorValue itr = getIterator();
+        while (itr.hasNext()) {
+            TupleValueImpl tupleValue = (TupleValueImpl) itr.next();
+            Object value = tupleValue.get(1);
+            value = value instanceof RefValue ? ((RefValue) value).copy(refs) : value;
+            clone.add((V) value);
+        }
+        return clone;
+    }
+
+    @Override
+    public V get(Object key) {
+        Shard<K, V> shard = shardForKey(key);
+        shard.lock.readLock().lock();
+        try {
+            return shard.table.get(key);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public V put(V value) {
+        Shard<K, V> shard = shardForRow(value);
+        shard.lock.writeLock().lock();
+        try {
+            return shard.table.put(value);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Shard<K, V> shard = shardForKey(key);
+        shard.lock.writeLock().lock();
+        try {
+            return shard.table.put(key, value);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(V data) {
+        Shard<K, V> shard = shardForRow(data);
+        shard.lock.writeLock().lock();
+        try {
+            shard.table.add(data);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        Shard<K, V> shard = shardForKey(key);
+        shard.lock.writeLock().lock();
+        try {
+            return shard.table.remove(key);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (firstKeyField == null) {
+            return false;
+        }
+        Shard<K, V> shard = shardForKey(key);
+        shard.lock.readLock().lock();
+        try {
+            return shard.table.containsKey(key);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public V getOrThrow(Object key) {
+        Shard<K, V> shard = shardForKey(key);
+        shard.lock.readLock().lock();
+        try {
+            return shard.table.getOrThrow(key);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public V removeOrThrow(Object key) {
+        Shard<K, V> shard = shardForKey(key);
+        shard.lock.writeLock().lock();
+        try {
+            return shard.table.removeOrThrow(key);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public V fillAndGet(Object key) {
+        Shard<K, V> shard = shardForKey(key);
+        shard.lock.writeLock().lock();
+        try {
+            return shard.table.fillAndGet(key);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long getNextKey() {
+        long nextKey = -1;
+        for (Shard<K, V> shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                if (!shard.table.isEmpty()) {
+                    nextKey = Math.max(nextKey, shard.table.getNextKey());
+                }
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        // an empty table either supports nextKey() and starts from zero, or reports why it does not
+        return nextKey == -1 ? shards[0].table.getNextKey() : nextKey;
+    }
+
+    @Override
+    public Type getKeyType() {
+        return shards[0].table.getKeyType();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (Shard<K, V> shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                entrySet.addAll(shard.table.entrySet());
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        return entrySet;
+    }
+
+    @Override
+    public Collection<V> values() {
+        ArrayList<V> values = new ArrayList<>();
+        for (Shard<K, V> shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                values.addAll(shard.table.values());
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public K[] getKeys() {
+        List<K> keys = new ArrayList<>();
+        for (Shard<K, V> shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                keys.addAll(Arrays.asList(shard.table.getKeys()));
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        return (K[]) keys.toArray();
+    }
+
+    @Override
+    public void clear() {
+        handleFrozenTableValue();
+        for (Shard<K, V> shard : shards) {
+            shard.lock.writeLock().lock();
+            try {
+                shard.table.clear();
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Shard<K, V> shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                size += shard.table.size();
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void freezeDirect() {
+        if (isFrozen()) {
+            return;
+        }
+
+        for (Shard<K, V> shard : shards) {
+            shard.lock.writeLock().lock();
+            try {
+                shard.table.freezeDirect();
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+        }
+        super.freezeDirect();
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        StringJoiner sj = new StringJoiner(",");
+        for (V value : values()) {
+            sj.add(StringUtils.getStringValue(value, new CycleUtils.Node(this, parent)));
+        }
+        return "[" + sj + "]";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        StringJoiner sj = new StringJoiner(",");
+        StringJoiner keyJoiner = new StringJoiner(",");
+        String[] keyFields = ((TableType) getType()).getFieldNames();
+        if (keyFields != null) {
+            for (String keyField : keyFields) {
+                keyJoiner.add(keyField);
+            }
+        }
+        for (V value : values()) {
+            sj.add(StringUtils.getExpressionStringValue(value, new CycleUtils.Node(this, parent)));
+        }
+        return "table key(" + keyJoiner + ") [" + sj + "]";
+    }
+
+    private Shard<K, V> shardForKey(Object key) {
+        if (multiKey && key instanceof BArray) {
+            // multiple field keys are tuples, rows are spread by the first field alone
+            key = ((BArray) key).get(0);
+        }
+        return shardForHash(TableUtils.hash(key, null).hashCode());
+    }
+
+    private Shard<K, V> shardForRow(V data) {
+        if (firstKeyField == null) {
+            return shardForHash(Long.hashCode(Thread.currentThread().getId()));
+        }
+        return shardForHash(TableUtils.hash(((MapValue) data).get(firstKeyField), null).hashCode());
+    }
+
+    private Shard<K, V> shardForHash(int hash) {
+        return shards[(hash ^ (hash >>> 16)) & shardMask];
+    }
+
+    private class ShardedTableIterator implements IteratorValue {
+        private int nextShard = 0;
+        private List<Object> rows = List.of();
+        private int cursor = 0;
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return rows.get(cursor++);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (cursor == rows.size()) {
+                if (nextShard == shards.length) {
+                    return false;
+                }
+                rows = snapshot(shards[nextShard++]);
+                cursor = 0;
+            }
+            return true;
+        }
+
+        private List<Object> snapshot(Shard<K, V> shard) {
+            shard.lock.readLock().lock();
+            try {
+                List<Object> shardRows = new ArrayList<>(shard.table.size());
+                IteratorValue itr = shard.table.getIterator();
+                while (itr.hasNext()) {
+                    shardRows.add(itr.next());
+                }
+                return shardRows;
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+    }
+
+    private static final class Shard<K, V> {
+        final TableValueImpl<K, V> table;
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        Shard(TableValueImpl<K, V> table) {
+            this.table = table;
+        }
+    }
+}
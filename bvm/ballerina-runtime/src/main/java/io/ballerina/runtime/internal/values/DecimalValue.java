@@ -54,19 +54,50 @@ public class DecimalValue implements SimpleValue, BDecimal {
 
     private static final DecimalValue NaN = new DecimalValue("-1", DecimalValueKind.NOT_A_NUMBER);
 
+    // Marks a value which does not have a compact representation
+    private static final long INFLATED = Long.MIN_VALUE;
+    // Integers up to this magnitude have an exact double representation
+    private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+    // A compact value has at most 18 digits, hence any sum or product of two such values fits in a long before
+    // checking the bound, and does not need rounding to the 34 digits of the decimal128 precision.
+    private static final int MAX_COMPACT_DIGITS = 18;
+    private static final long MAX_COMPACT_VALUE = 999_999_999_999_999_999L;
+    private static final long[] POWERS_OF_TEN = new long[MAX_COMPACT_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
     // Variable used to track the kind of a decimal value.
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
-    private final BigDecimal value;
+    // Values of which the unscaled value has at most 18 digits are kept as the unscaled value and the scale, and the
+    // arithmetic on two such values is done on longs. The BigDecimal is only created when it is requested.
+    private final long unscaledValue;
+    private final int scale;
+    private BigDecimal value;
 
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        this.unscaledValue = compactValueOf(value);
+        this.scale = value.scale();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
+    private DecimalValue(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
     public DecimalValue(String value) {
         // Check whether the number provided is a hexadecimal value.
         if (isHexValueString(value)) {
@@ -83,6 +114,8 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw exception;
             }
         }
+        this.unscaledValue = compactValueOf(this.value);
+        this.scale = this.value.scale();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -155,7 +188,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal decimal = this.value;
+        if (decimal == null) {
+            decimal = BigDecimal.valueOf(unscaledValue, scale);
+            this.value = decimal;
+        }
+        return decimal;
     }
 
     /**
@@ -173,11 +211,15 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_INT);
         }
 
+        if (scale == 0 && unscaledValue >= -MAX_EXACT_DOUBLE_INTEGER && unscaledValue <= MAX_EXACT_DOUBLE_INTEGER) {
+            // Converted to a double exactly, hence rounding it as below gives the same value
+            return unscaledValue;
+        }
         if (!isDecimalWithinIntRange(this)) {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
         }
-        return (long) Math.rint(value.doubleValue());
+        return (long) Math.rint(decimalValue().doubleValue());
     }
 
     /**
@@ -186,7 +228,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is in int range
      */
     public static boolean isDecimalWithinIntRange(DecimalValue decimalValue) {
-        BigDecimal value = decimalValue.value;
+        BigDecimal value = decimalValue.decimalValue();
         return value.compareTo(RuntimeConstants.BINT_MAX_VALUE_BIG_DECIMAL_RANGE_MAX) < 0 &&
                value.compareTo(RuntimeConstants.BINT_MIN_VALUE_BIG_DECIMAL_RANGE_MIN) > 0;
     }
@@ -206,9 +248,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_BYTE);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        int intVal = (int) Math.rint(decimalValue().doubleValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(decimalValue(), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -226,7 +268,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -234,6 +276,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (unscaledValue != INFLATED) {
+            return unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -256,7 +301,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -268,7 +313,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return decimalValue().toString() + "d";
     }
 
     /**
@@ -276,7 +321,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -317,6 +362,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue sum = addCompact(this, augend.unscaledValue, augend.scale);
+                    if (sum != null) {
+                        return sum;
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
@@ -355,6 +404,11 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue difference = subtrahend.unscaledValue == INFLATED ? null :
+                            addCompact(this, -subtrahend.unscaledValue, subtrahend.scale);
+                    if (difference != null) {
+                        return difference;
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -381,7 +435,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
                         multiplicand.valueKind == DecimalValueKind.NOT_A_NUMBER) {
                     return NaN;
                 }
-                if (multiplicand.decimalValue().compareTo(BigDecimal.ZERO) > 0) {
+                if (multiplicand.signum() > 0) {
                     return POSITIVE_INF;
                 }
                 return NEGATIVE_INF;
@@ -390,7 +444,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
                         multiplicand.valueKind == DecimalValueKind.NOT_A_NUMBER) {
                     return NaN;
                 }
-                if (multiplicand.decimalValue().compareTo(BigDecimal.ZERO) > 0) {
+                if (multiplicand.signum() > 0) {
                     return NEGATIVE_INF;
                 }
                 return POSITIVE_INF;
@@ -398,10 +452,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue product = multiplyCompact(this, multiplicand);
+                    if (product != null) {
+                        return product;
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
-                if (this.decimalValue().compareTo(BigDecimal.ZERO) > 0) {
+                if (this.signum() > 0) {
                     return multiplicand;
                 }
                 return multiplicand.negate();
@@ -424,22 +482,22 @@ public class DecimalValue implements SimpleValue, BDecimal {
             case POSITIVE_INFINITY:
                 if (divisor.valueKind == DecimalValueKind.ZERO ||
                         (divisor.valueKind == DecimalValueKind.OTHER &&
-                                divisor.decimalValue().compareTo(BigDecimal.ZERO) > 0)) {
+                                divisor.signum() > 0)) {
                     return POSITIVE_INF;
                 }
                 if (divisor.valueKind == DecimalValueKind.OTHER &&
-                        divisor.decimalValue().compareTo(BigDecimal.ZERO) < 0) {
+                        divisor.signum() < 0) {
                     return NEGATIVE_INF;
                 }
                 return NaN;
             case NEGATIVE_INFINITY:
                 if (divisor.valueKind == DecimalValueKind.ZERO ||
                         (divisor.valueKind == DecimalValueKind.OTHER &&
-                                divisor.decimalValue().compareTo(BigDecimal.ZERO) > 0)) {
+                                divisor.signum() > 0)) {
                     return NEGATIVE_INF;
                 }
                 if (divisor.valueKind == DecimalValueKind.OTHER &&
-                        divisor.decimalValue().compareTo(BigDecimal.ZERO) < 0) {
+                        divisor.signum() < 0) {
                     return POSITIVE_INF;
                 }
                 return NaN;
@@ -447,6 +505,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (divisor.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue quotient = divideCompact(this, divisor);
+                    if (quotient != null) {
+                        return quotient;
+                    }
                     return new DecimalValue(this.decimalValue().divide(divisor.decimalValue(), MathContext.DECIMAL128));
                 }
                 if (divisor.valueKind == DecimalValueKind.POSITIVE_INFINITY ||
@@ -456,7 +518,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 if (divisor.valueKind == DecimalValueKind.NOT_A_NUMBER) {
                     return NaN;
                 }
-                return this.decimalValue().compareTo(BigDecimal.ZERO) > 0 ? POSITIVE_INF : NEGATIVE_INF;
+                return this.signum() > 0 ? POSITIVE_INF : NEGATIVE_INF;
         }
     }
 
@@ -490,6 +552,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (unscaledValue != INFLATED) {
+                    return new DecimalValue(-unscaledValue, scale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -533,6 +598,114 @@ public class DecimalValue implements SimpleValue, BDecimal {
         return valueKind;
     }
 
+    /**
+     * Compares the numeric value of this decimal with another, ignoring the scale. Both decimals are expected to be
+     * real numbers.
+     *
+     * @param other decimal to compare with
+     * @return -1, 0, or 1 as this decimal is less than, equal to, or greater than the other decimal
+     */
+    public int compareTo(DecimalValue other) {
+        long lhs = this.unscaledValue;
+        long rhs = other.unscaledValue;
+        if (lhs != INFLATED && rhs != INFLATED) {
+            if (this.scale < other.scale) {
+                lhs = scaleUp(lhs, (long) other.scale - this.scale);
+            } else if (this.scale > other.scale) {
+                rhs = scaleUp(rhs, (long) this.scale - other.scale);
+            }
+            if (lhs != INFLATED && rhs != INFLATED) {
+                return Long.compare(lhs, rhs);
+            }
+        }
+        return decimalValue().compareTo(other.decimalValue());
+    }
+
+    private int signum() {
+        if (unscaledValue != INFLATED) {
+            return Long.signum(unscaledValue);
+        }
+        return value.signum();
+    }
+
+    private static long compactValueOf(BigDecimal value) {
+        if (value.precision() > MAX_COMPACT_DIGITS) {
+            return INFLATED;
+        }
+        return value.unscaledValue().longValue();
+    }
+
+    private static DecimalValue compactDecimal(long unscaledValue, long scale) {
+        if (unscaledValue > MAX_COMPACT_VALUE || unscaledValue < -MAX_COMPACT_VALUE ||
+                scale > Integer.MAX_VALUE || scale < Integer.MIN_VALUE) {
+            return null;
+        }
+        return new DecimalValue(unscaledValue, (int) scale);
+    }
+
+    // Multiplies a compact unscaled value by a power of ten, returning INFLATED if the result is not compact
+    private static long scaleUp(long unscaledValue, long digits) {
+        if (unscaledValue == 0) {
+            return 0;
+        }
+        if (digits > MAX_COMPACT_DIGITS) {
+            return INFLATED;
+        }
+        long limit = MAX_COMPACT_VALUE / POWERS_OF_TEN[(int) digits];
+        if (unscaledValue > limit || unscaledValue < -limit) {
+            return INFLATED;
+        }
+        return unscaledValue * POWERS_OF_TEN[(int) digits];
+    }
+
+    // The exact sum has the larger of the two scales, as with BigDecimal when the sum does not need rounding
+    private static DecimalValue addCompact(DecimalValue augend, long unscaledValue, int scale) {
+        long lhs = augend.unscaledValue;
+        long rhs = unscaledValue;
+        if (lhs == INFLATED || rhs == INFLATED) {
+            return null;
+        }
+
+        int resultScale = augend.scale;
+        if (augend.scale < scale) {
+            lhs = scaleUp(lhs, (long) scale - augend.scale);
+            resultScale = scale;
+        } else if (augend.scale > scale) {
+            rhs = scaleUp(rhs, (long) augend.scale - scale);
+        }
+        if (lhs == INFLATED || rhs == INFLATED) {
+            return null;
+        }
+        return compactDecimal(lhs + rhs, resultScale);
+    }
+
+    // The exact product has the sum of the two scales
+    private static DecimalValue multiplyCompact(DecimalValue multiplier, DecimalValue multiplicand) {
+        long lhs = multiplier.unscaledValue;
+        long rhs = multiplicand.unscaledValue;
+        if (lhs == INFLATED || rhs == INFLATED) {
+            return null;
+        }
+
+        long high = Math.multiplyHigh(lhs, rhs);
+        long product = lhs * rhs;
+        if ((high != 0 || product < 0) && (high != -1 || product >= 0)) {
+            return null;
+        }
+        return compactDecimal(product, (long) multiplier.scale + multiplicand.scale);
+    }
+
+    // Only handles quotients of which the unscaled value is an integer, which are exact at the preferred scale. The
+    // rest are left to BigDecimal, which also finds the scale of terminating quotients such as 1/4.
+    private static DecimalValue divideCompact(DecimalValue dividend, DecimalValue divisor) {
+        long lhs = dividend.unscaledValue;
+        long rhs = divisor.unscaledValue;
+        if (lhs == INFLATED || rhs == INFLATED || lhs % rhs != 0) {
+            return null;
+        }
+        return compactDecimal(lhs / rhs, (long) dividend.scale - divisor.scale);
+    }
+
     //===========================================================================================
 
     @Override
@@ -546,12 +719,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        return ((compareTo(bDecimal) == 0) && (this.valueKind == bDecimal.valueKind));
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return decimalValue().hashCode();
     }
 
     /**
@@ -569,7 +742,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return valueOfIntegral(value);
     }
 
     /**
@@ -578,6 +751,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
+        return valueOfIntegral(value);
+    }
+
+    private static DecimalValue valueOfIntegral(long value) {
+        if (value <= MAX_COMPACT_VALUE / 10 && value >= -MAX_COMPACT_VALUE / 10) {
+            return new DecimalValue(value * 10, 1);
+        }
         return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
     }
 
@@ -601,23 +781,23 @@ public class DecimalValue implements SimpleValue, BDecimal {
     }
 
     public static DecimalValue valueOfJ(byte value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return valueOfIntegral(value);
     }
 
     public static DecimalValue valueOfJ(char value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return valueOfIntegral(value);
     }
 
     public static DecimalValue valueOfJ(short value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return valueOfIntegral(value);
     }
 
     public static DecimalValue valueOfJ(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return valueOfIntegral(value);
     }
 
     public static DecimalValue valueOfJ(long value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return valueOfIntegral(value);
     }
 
     public static DecimalValue valueOfJ(float value) {
@@ -34,10 +34,10 @@ import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.api.values.BValue;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.IteratorUtils;
-import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonUtils;
 import io.ballerina.runtime.internal.MapUtils;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.Utf8JsonGenerator;
 import io.ballerina.runtime.internal.types.BField;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
@@ -47,7 +47,6 @@ import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -93,7 +92,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private static final long serialVersionUID = 1L;
     private BTypedesc typedesc;
     private Type type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -106,22 +105,30 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     public MapValueImpl(Type type) {
         super();
         this.type = type;
-        this.typedesc = getTypedescValue(type, this);
+        initTypedesc();
     }
 
     public MapValueImpl(Type type, BMapInitialValueEntry[] initialValues) {
-        super();
+        // Size the table for the initial entries so that populating a literal does not rehash
+        super(initialCapacity(initialValues.length));
         this.type = type;
         populateInitialValues(initialValues);
-        if (!type.isReadOnly()) {
-            this.typedesc = new TypedescValueImpl(type);
-        }
     }
 
     public MapValueImpl() {
         super();
         type = PredefinedTypes.TYPE_MAP;
-        this.typedesc = getTypedescValue(type, this);
+    }
+
+    private static int initialCapacity(int entryCount) {
+        return Math.max((int) (entryCount / 0.75f) + 1, 16);
+    }
+
+    private void initTypedesc() {
+        // The typedesc of a mutable value only depends on its type, hence it is created on first use
+        if (type.isReadOnly()) {
+            this.typedesc = getTypedescValue(type, this);
+        }
     }
 
     public Long getIntValue(BString key) {
@@ -531,20 +538,18 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        Utf8JsonGenerator gen = new Utf8JsonGenerator();
         try {
             gen.serialize(this);
-            gen.flush();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
+        return gen.toString();
     }
 
     @Override
     public IteratorValue getIterator() {
-        return new MapIterator<>(new LinkedHashSet<>(this.entrySet()).iterator());
+        return new MapIterator<>(new ArrayList<>(this.entrySet()).iterator());
     }
 
     /**
@@ -589,7 +594,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -598,11 +603,14 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
     public BTypedesc getTypedesc() {
+        if (typedesc == null) {
+            typedesc = getTypedescValue(type, this);
+        }
         return typedesc;
     }
 
@@ -612,6 +620,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
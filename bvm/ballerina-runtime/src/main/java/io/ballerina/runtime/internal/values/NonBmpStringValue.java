@@ -63,6 +63,9 @@ import java.util.Arrays;
     @Override
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
+        if (isLazyConcat(this, stringValue)) {
+            return new RopeStringValue(this, stringValue);
+        }
         if (stringValue.isNonBmp) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+
+/**
+ * Represent the result of a ballerina string concatenation, which is only copied into a single string when its
+ * content is needed.
+ * <p>
+ * Building a string by repeatedly appending to it copies the whole string on every append, unless the copy is
+ * deferred. A rope keeps the two operands instead, so appending is constant time, and the fragments are copied once
+ * when the value is first read. The length and whether the string has non BMP characters are derived from the
+ * operands, hence they do not need the string to be flattened.
+ *
+ * @since 2201.0.1
+ */
+public class RopeStringValue extends StringValue {
+
+    // Set once the rope is flattened, the operands are released afterwards
+    private volatile StringValue flat;
+    private volatile StringValue left;
+    private volatile StringValue right;
+    private final int length;
+    private final int charLength;
+
+    RopeStringValue(StringValue left, StringValue right) {
+        super(null, left.isNonBmp || right.isNonBmp);
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = left.charLength() + right.charLength();
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    int charLength() {
+        return charLength;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new RopeStringValue(this, (StringValue) str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        return flatten().getIterator();
+    }
+
+    private StringValue flatten() {
+        StringValue flatValue = this.flat;
+        if (flatValue != null) {
+            return flatValue;
+        }
+
+        // Ropes built in a loop are as deep as the number of fragments, hence they are walked without recursion
+        StringBuilder sb = new StringBuilder(charLength);
+        ArrayDeque<StringValue> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            StringValue node = pending.pop();
+            if (node instanceof RopeStringValue) {
+                RopeStringValue rope = (RopeStringValue) node;
+                StringValue lhs = rope.left;
+                StringValue rhs = rope.right;
+                // The operands are only released after the rope is flattened
+                if (rope.flat == null && lhs != null && rhs != null) {
+                    pending.push(rhs);
+                    pending.push(lhs);
+                    continue;
+                }
+            }
+            sb.append(node.getValue());
+        }
+
+        String value = sb.toString();
+        flatValue = isNonBmp ? (StringValue) StringUtils.fromString(value) : new BmpStringValue(value);
+        this.flat = flatValue;
+        this.left = null;
+        this.right = null;
+        return flatValue;
+    }
+}
@@ -31,6 +31,9 @@ import java.util.Map;
  */
 public abstract class StringValue implements BString, SimpleValue {
 
+    // Concatenations resulting in at least this many chars are done lazily, see RopeStringValue
+    static final int MIN_ROPE_LENGTH = 256;
+
     final String value;
     final boolean isNonBmp;
 
@@ -66,7 +69,7 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -81,12 +84,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -95,9 +98,22 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString) {
-            return ((BString) str).getValue().equals(value);
+            return ((BString) str).getValue().equals(getValue());
         }
         return false;
     }
 
+    /**
+     * Returns the number of UTF-16 chars in this string.
+     *
+     * @return length of the string in chars
+     */
+    int charLength() {
+        return value.length();
+    }
+
+    static boolean isLazyConcat(StringValue lhs, StringValue rhs) {
+        return rhs instanceof RopeStringValue || lhs.charLength() + rhs.charLength() >= MIN_ROPE_LENGTH;
+    }
+
 }
@@ -51,15 +51,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
@@ -82,18 +79,16 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private LinkedHashMap<Long, List<V>> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, K> indexToKeyMap;
-    private LinkedHashMap<K, Long> keyToIndexMap;
-    private LinkedHashMap<K, V> keyValues;
-    private long noOfAddedEntries = 0;
+    // Rows are kept in insertion order in a doubly linked list. Keyed tables also index the rows by the hash of the
+    // key, rows with colliding hashes are chained through the row itself.
+    private HashMap<Long, Row<K, V>> rowIndex;
+    private Row<K, V> head;
+    private Row<K, V> tail;
+    private int size;
 
     private boolean nextKeySupported;
 
@@ -101,19 +96,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     private BTypedesc typedesc;
 
     public TableValueImpl(TableType type) {
+        this(type, true);
+    }
+
+    /**
+     * Creates a table, which may leave out the storage of the rows. This is only done by subclasses which keep the
+     * rows elsewhere, and override all the methods which access them.
+     *
+     * @param type           type of the table
+     * @param withRowStorage whether the rows are kept by this table
+     */
+    TableValueImpl(TableType type, boolean withRowStorage) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
-        if (type.getFieldNames() != null) {
-            this.valueHolder = new KeyHashValueHolder();
-        } else {
-            this.valueHolder = new ValueHolder();
+        if (withRowStorage) {
+            if (type.getFieldNames() != null) {
+                this.rowIndex = new HashMap<>();
+                this.valueHolder = new KeyHashValueHolder();
+            } else {
+                this.valueHolder = new ValueHolder();
+            }
         }
         this.typedesc = getTypedescValue(type, this);
     }
@@ -140,7 +143,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue getIterator() {
-        return new TableIterator<K, V>();
+        return new TableIterator();
     }
 
     @Override
@@ -233,18 +236,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            entrySet.add(new AbstractMap.SimpleEntry<>(row.key, row.value));
         }
-        return new LinkedHashSet(entries.values());
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(size);
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            newValues.add(row.value);
         }
         return newValues;
     }
@@ -252,12 +254,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        if (rowIndex != null) {
+            rowIndex.clear();
+        }
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            row.removed = true;
+            // iterators positioned at any of these rows continue from the new head
+            row.before = null;
+        }
+        head = null;
+        tail = null;
+        size = 0;
     }
 
     @Override
@@ -286,7 +293,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -314,10 +321,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        Object[] keyArr = new Object[keys.size()];
+        if (rowIndex == null) {
+            return (K[]) new Object[0];
+        }
+        Object[] keyArr = new Object[size];
         int i = 0;
-        for (K key : keys.values()) {
-            keyArr[i] = key;
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            keyArr[i] = row.key;
             i++;
         }
         return (K[]) keyArr;
@@ -325,12 +335,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public int size() {
-        return values().size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -356,8 +366,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        StringJoiner sj = new StringJoiner(",");
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            sj.add(StringUtils.getStringValue(row.value, new CycleUtils.Node(this, parent)));
+        }
+        return "[" + sj + "]";
     }
 
     @Override
@@ -367,28 +380,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
-    }
-
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
-        StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
-        }
-        return "[" + sj + "]";
-    }
-
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -397,17 +388,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                 keyJoiner.add(keysList[i]);
             }
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getExpressionStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getExpressionStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            sj.add(StringUtils.getExpressionStringValue(row.value, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -451,38 +433,43 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
-    private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+    private class TableIterator implements IteratorValue {
+        // The last returned row, or the closest row before it that is still in the table
+        private Row<K, V> position;
 
-        TableIterator() {
-            this.cursor = 0;
+        // Rows added after the iterator was created are visible to it. If the last returned row was removed, the
+        // iteration continues after the closest preceding row that is still in the table, whose link is up to date.
+        private Row<K, V> nextRow() {
+            Row<K, V> row = position;
+            while (row != null && row.removed) {
+                row = row.before;
+            }
+            position = row;
+            return row == null ? head : row.after;
         }
 
         @Override
         public Object next() {
-            K key = (K) indexToKeyMap.get(cursor);
-            if (key != null) {
-                V value = (V) keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            Row<K, V> row = nextRow();
+            if (row == null) {
+                throw new NoSuchElementException();
             }
+            position = row;
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(row.key));
+            types.add(TypeChecker.getType(row.value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, row.key);
+            tuple.add(1, row.value);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            return nextRow() != null;
         }
     }
 
@@ -504,18 +491,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entryList);
-            updateIndexKeyMappings((K) data);
-            values.put((long) uuid.hashCode(), newData);
-            keyValues.put((K) data, data);
+            // rows of a table without a key sequence are their own keys
+            appendRow((K) data, data);
             return data;
         }
 
@@ -551,133 +528,80 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            Long hash = TableUtils.hash(key, null);
 
-            if (containsKey((K) key)) {
+            if (findRow(key, hash) != null) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Long hash = TableUtils.hash(key, null);
-
-            if (keys.containsKey(hash)) {
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                keyValues.put(key, data);
-                updateIndexKeyMappings(key);
-                return;
-            }
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            putData(key, data, newData, entry, hash);
+            insertRow(key, data, hash);
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
-                return null;
-            }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            Row<K, V> row = findRow(key, TableUtils.hash(key, null));
+            return row == null ? null : row.value;
         }
 
         public V putData(K key, V data) {
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
             Long actualHash = TableUtils.hash(actualKey, null);
             Long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (!hash.equals(actualHash) || !TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
 
-            return putData(key, data, newData, entry, hash);
-        }
-
-        private V putData(K key, V value, List<V> data, Map.Entry<K, V> entry, Long hash) {
-
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            keys.put(hash, key);
-            updateIndexKeyMappings(key);
-            values.put(hash, data);
-            keyValues.put(key, value);
-            return data.get(0);
+            return putRow(key, data, hash);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            return putRow(key, data, TableUtils.hash(key, null));
+        }
 
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, newData, entry, hash);
+        private V putRow(K key, V data, Long hash) {
+            Row<K, V> row = findRow(key, hash);
+            if (row != null) {
+                // an existing row keeps its position
+                row.key = key;
+                row.value = data;
+            } else {
+                insertRow(key, data, hash);
+            }
+            return data;
         }
 
         public V remove(K key) {
-            keyValues.remove(key);
             Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
+            Row<K, V> prev = null;
+            for (Row<K, V> row = rowIndex.get(hash); row != null; row = row.nextInBucket) {
+                if (!TypeChecker.isEqual(key, row.key)) {
+                    prev = row;
+                    continue;
                 }
+                if (prev != null) {
+                    prev.nextInBucket = row.nextInBucket;
+                } else if (row.nextInBucket != null) {
+                    rowIndex.put(hash, row.nextInBucket);
+                } else {
+                    rowIndex.remove(hash);
+                }
+                unlinkRow(row);
+                return row.value;
             }
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(key);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
-                return null;
-            }
-            return removedValue.get(0);
+            return null;
         }
 
         public boolean containsKey(K key) {
-            if (keys.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return findRow(key, TableUtils.hash(key, null)) != null;
         }
 
         public Type getKeyType() {
@@ -728,12 +652,63 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(K key) {
-        if (!keyToIndexMap.containsKey(key)) {
-            keyToIndexMap.put(key, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, key);
-            noOfAddedEntries++;
+    private Row<K, V> findRow(K key, Long hash) {
+        for (Row<K, V> row = rowIndex.get(hash); row != null; row = row.nextInBucket) {
+            if (TypeChecker.isEqual(key, row.key)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    private void insertRow(K key, V value, Long hash) {
+        Row<K, V> row = appendRow(key, value);
+        row.nextInBucket = rowIndex.put(hash, row);
+    }
+
+    private Row<K, V> appendRow(K key, V value) {
+        Row<K, V> row = new Row<>(key, value);
+        if (tail == null) {
+            head = row;
+        } else {
+            tail.after = row;
+            row.before = tail;
+        }
+        tail = row;
+        size++;
+        return row;
+    }
+
+    private void unlinkRow(Row<K, V> row) {
+        // the link to the previous row is kept, so that iterators positioned at this row can find where to continue
+        row.removed = true;
+        if (row.before == null) {
+            head = row.after;
+        } else {
+            row.before.after = row.after;
+        }
+        if (row.after == null) {
+            tail = row.before;
+        } else {
+            row.after.before = row.before;
+        }
+        size--;
+    }
+
+    /**
+     * A row of the table, linked in insertion order and chained with the rows that have the same key hash.
+     */
+    private static class Row<K, V> {
+        K key;
+        V value;
+        Row<K, V> before;
+        Row<K, V> after;
+        Row<K, V> nextInBucket;
+        boolean removed;
+
+        Row(K key, V value) {
+            this.key = key;
+            this.value = value;
         }
     }
 
@@ -46,6 +46,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -66,9 +68,18 @@ import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
  */
 public final class XmlItem extends XmlValue implements BXmlItem {
 
+    private static final BString[] NO_ATTRIBUTES = new BString[0];
+    private static final BString DEFAULT_NS_ATTRIBUTE = StringUtils.fromString(XMLNS_NS_URI_PREFIX + XMLNS);
+    // Elements with more attributes than this keep them in an attribute map
+    private static final int MAX_INLINE_ATTRIBUTES = 8;
+
     private QName name;
     private XmlSequence children;
-    private AttributeMapValueImpl attributes;
+    // Creates the children of an element built lazily, until they are first accessed
+    private volatile Supplier<List<BXml>> lazyChildren;
+    // Either the attribute names and values one after the other, or the attribute map once it is first requested.
+    // The array is replaced rather than updated, hence it can be shared with copies of the element.
+    private volatile Object attributes = NO_ATTRIBUTES;
     // Keep track of probable parents of xml element to detect probable cycles in xml.
     private List<WeakReference<XmlItem>> probableParents;
 
@@ -78,9 +89,8 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         for (BXml child : children.children) {
             addParent(child, this);
         }
-        attributes = new AttributeMapValueImpl(false);
-        addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
+        addDefaultNamespaceAttribute(name);
+        probableParents = new ArrayList<>(1);
         this.type = PredefinedTypes.TYPE_ELEMENT;
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
         setTypedescValue(type);
@@ -108,26 +118,154 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         for (BXml child : children.children) {
             addParent(child, this);
         }
-        attributes = new AttributeMapValueImpl(readonly);
-        addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
+        addDefaultNamespaceAttribute(name);
+        probableParents = new ArrayList<>(1);
 
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
         setTypedescValue(type);
     }
-    private void addDefaultNamespaceAttribute(QName name, AttributeMapValueImpl attributes) {
+
+    private void addDefaultNamespaceAttribute(QName name) {
         String namespace = name.getNamespaceURI();
         if (namespace == null || namespace.isEmpty()) {
             return;
         }
 
         String prefix = name.getPrefix();
-        if (prefix == null || prefix.isEmpty()) {
-            prefix = XMLNS;
+        BString nsAttribute = prefix == null || prefix.isEmpty() || prefix.equals(XMLNS) ? DEFAULT_NS_ATTRIBUTE :
+                StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix);
+        populateAttribute(nsAttribute, StringUtils.fromString(namespace));
+    }
+
+    /**
+     * Adds an attribute while the element is being built, replacing the value of an attribute with the same name.
+     * The name is expected to be a valid attribute name, in the {@code {namespaceUri}localName} form if it has a
+     * namespace.
+     *
+     * @param qname attribute name
+     * @param value attribute value
+     */
+    public void populateAttribute(BString qname, BString value) {
+        Object current = this.attributes;
+        if (current instanceof AttributeMapValueImpl) {
+            ((AttributeMapValueImpl) current).populateInitialValue(qname, value);
+            return;
         }
 
-        attributes.populateInitialValue(StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix),
-                                        StringUtils.fromString(namespace));
+        BString[] entries = (BString[]) current;
+        int index = indexOfAttribute(entries, qname.getValue());
+        if (index >= 0) {
+            entries = entries.clone();
+            entries[index + 1] = value;
+        } else if (entries.length < MAX_INLINE_ATTRIBUTES * 2) {
+            entries = Arrays.copyOf(entries, entries.length + 2);
+            entries[entries.length - 2] = qname;
+            entries[entries.length - 1] = value;
+        } else {
+            attributesMap().populateInitialValue(qname, value);
+            return;
+        }
+        this.attributes = entries;
+    }
+
+    private static int indexOfAttribute(BString[] entries, String qname) {
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i].getValue().equals(qname)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private BString attributeValue(String qname) {
+        Object current = this.attributes;
+        if (current instanceof AttributeMapValueImpl) {
+            return ((AttributeMapValueImpl) current).get(StringUtils.fromString(qname));
+        }
+
+        BString[] entries = (BString[]) current;
+        int index = indexOfAttribute(entries, qname);
+        return index < 0 ? null : entries[index + 1];
+    }
+
+    /**
+     * Performs the given action for each attribute of the element, including the namespace declarations, in the
+     * order they were added. Unlike {@link #getAttributesMap()}, this does not create the attribute map.
+     *
+     * @param action action to be performed with the name and the value of each attribute
+     */
+    public void forEachAttribute(BiConsumer<BString, BString> action) {
+        Object current = this.attributes;
+        if (current instanceof AttributeMapValueImpl) {
+            for (Map.Entry<BString, BString> entry : ((AttributeMapValueImpl) current).entrySet()) {
+                action.accept(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+
+        BString[] entries = (BString[]) current;
+        for (int i = 0; i < entries.length; i += 2) {
+            action.accept(entries[i], entries[i + 1]);
+        }
+    }
+
+    /**
+     * Checks whether another element has the same attributes as this element, irrespective of their order.
+     *
+     * @param other element to compare with
+     * @return true if both elements have the same attribute names and values
+     */
+    public boolean hasSameAttributes(XmlItem other) {
+        if (attributeCount() != other.attributeCount()) {
+            return false;
+        }
+
+        boolean[] same = {true};
+        forEachAttribute((qname, value) -> {
+            if (same[0] && !value.equals(other.attributeValue(qname.getValue()))) {
+                same[0] = false;
+            }
+        });
+        return same[0];
+    }
+
+    private int attributeCount() {
+        Object current = this.attributes;
+        if (current instanceof AttributeMapValueImpl) {
+            return ((AttributeMapValueImpl) current).size();
+        }
+        return ((BString[]) current).length / 2;
+    }
+
+    private int attributesHashCode() {
+        int[] hash = {0};
+        forEachAttribute((qname, value) -> hash[0] += qname.hashCode() ^ value.hashCode());
+        return hash[0];
+    }
+
+    private AttributeMapValueImpl attributesMap() {
+        Object current = this.attributes;
+        if (current instanceof AttributeMapValueImpl) {
+            return (AttributeMapValueImpl) current;
+        }
+
+        synchronized (this) {
+            current = this.attributes;
+            if (current instanceof AttributeMapValueImpl) {
+                return (AttributeMapValueImpl) current;
+            }
+
+            AttributeMapValueImpl attributeMap = new AttributeMapValueImpl();
+            BString[] entries = (BString[]) current;
+            for (int i = 0; i < entries.length; i += 2) {
+                attributeMap.populateInitialValue(entries[i], entries[i + 1]);
+            }
+            if (this.type.isReadOnly()) {
+                attributeMap.freezeDirect();
+            }
+            this.attributes = attributeMap;
+            return attributeMap;
+        }
     }
 
     /**
@@ -183,7 +321,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public String getTextValue() {
-        return children.getTextValue();
+        return childrenSeq().getTextValue();
     }
 
     /**
@@ -200,16 +338,16 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     public BString getAttribute(String localName, String namespace, String prefix) {
         if (prefix != null && !prefix.isEmpty()) {
-            String ns = attributes.get(StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix)).getValue();
-            BString attrVal = attributes.get(StringUtils.fromString("{" + ns + "}" + localName));
+            String ns = attributeValue(XMLNS_NS_URI_PREFIX + prefix).getValue();
+            BString attrVal = attributeValue("{" + ns + "}" + localName);
             if (attrVal != null) {
                 return attrVal;
             }
         }
         if (namespace != null && !namespace.isEmpty()) {
-            return attributes.get(StringUtils.fromString("{" + namespace + "}" + localName));
+            return attributeValue("{" + namespace + "}" + localName);
         }
-        return attributes.get(StringUtils.fromString(localName));
+        return attributeValue(localName);
     }
 
     /**
@@ -221,7 +359,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        attributes.setAttribute(localName, namespaceUri, prefix, value, false);
+        attributesMap().setAttribute(localName, namespaceUri, prefix, value, false);
     }
 
     /**
@@ -229,7 +367,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public MapValue<BString, BString> getAttributesMap() {
-        return this.attributes;
+        return attributesMap();
     }
 
     /**
@@ -272,7 +410,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue children() {
-        return new XmlSequence(new ArrayList<>(children.getChildrenList()));
+        return new XmlSequence(new ArrayList<>(childrenSeq().getChildrenList()));
     }
 
     /**
@@ -280,7 +418,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue children(String qname) {
-        return children.elements(qname);
+        return childrenSeq().elements(qname);
     }
 
     /**
@@ -296,6 +434,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             return;
         }
 
+        lazyChildren = null;
         if (seq.getNodeType() == XmlNodeType.SEQUENCE) {
             children = (XmlSequence) seq;
             for (BXml child : children.children) {
@@ -322,7 +461,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             return;
         }
 
-        List<BXml> leftList = new ArrayList<>(children.children);
+        List<BXml> leftList = new ArrayList<>(childrenSeq().children);
 
         if (seq.getNodeType() == XmlNodeType.SEQUENCE) {
             List<BXml> appendingList = ((XmlSequence) seq).getChildrenList();
@@ -361,7 +500,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         for (WeakReference<XmlItem> probableParentRef : current.probableParents) {
             XmlItem parent = probableParentRef.get();
             // probable parent is the actual parent.
-            if (parent.children.children.contains(current)) {
+            if (parent.childrenSeq().children.contains(current)) {
                 // If new subtree is in the lineage of current node, adding this newSubTree forms a cycle.
                 if (parent == newSubTree) {
                     throw createXMLCycleError();
@@ -416,7 +555,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             addDescendants(descendants, this, qnames);
             return new XmlSequence(descendants);
         }
-        return children.descendants(qnames);
+        return childrenSeq().descendants(qnames);
     }
 
     @Override
@@ -495,7 +634,12 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
 
         QName elemName = new QName(this.name.getNamespaceURI(), this.name.getLocalPart(), this.name.getPrefix());
-        XmlItem xmlItem = new XmlItem(elemName, (XmlSequence) children.copy(refs));
+        XmlItem xmlItem = new XmlItem(elemName, (XmlSequence) childrenSeq().copy(refs));
+        Object current = this.attributes;
+        if (current instanceof BString[]) {
+            xmlItem.attributes = current;
+            return xmlItem;
+        }
 
         MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
         MapValue<BString, BString> copy = (MapValue<BString, BString>) this.getAttributesMap().copy(refs);
@@ -548,7 +692,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     @Override
     protected void setAttributeOnInitialization(String localName, String namespace, String prefix, String value) {
-        attributes.setAttribute(localName, namespace, prefix, value, true);
+        attributesMap().setAttribute(localName, namespace, prefix, value, true);
     }
 
     /**
@@ -560,7 +704,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        attributes.remove(qname);
+        attributesMap().remove(qname);
     }
 
     /**
@@ -572,7 +716,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        List<BXml> children = this.children.children;
+        List<BXml> children = childrenSeq().children;
         List<Integer> toRemove = new ArrayList<>();
         for (int i = 0; i < children.size(); i++) {
             BXml child = children.get(i);
@@ -628,8 +772,11 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     public void freezeDirect() {
         this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
-        this.children.freezeDirect();
-        this.attributes.freezeDirect();
+        childrenSeq().freezeDirect();
+        Object current = this.attributes;
+        if (current instanceof AttributeMapValueImpl) {
+            ((AttributeMapValueImpl) current).freezeDirect();
+        }
         this.typedesc = createSingletonTypedesc(this);
     }
 
@@ -644,6 +791,32 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     }
 
     public BXmlSequence getChildrenSeq() {
+        return childrenSeq();
+    }
+
+    /**
+     * Sets the function which creates the children of this element when they are first accessed. Used to build
+     * large documents lazily, where only the parts which are navigated are created.
+     *
+     * @param lazyChildren creates the children of this element
+     */
+    public void setLazyChildren(Supplier<List<BXml>> lazyChildren) {
+        this.lazyChildren = lazyChildren;
+    }
+
+    private XmlSequence childrenSeq() {
+        if (lazyChildren != null) {
+            synchronized (this) {
+                Supplier<List<BXml>> pendingChildren = lazyChildren;
+                if (pendingChildren != null) {
+                    for (BXml child : pendingChildren.get()) {
+                        addParent(child, this);
+                        children.children.add(child);
+                    }
+                    lazyChildren = null;
+                }
+            }
+        }
         return children;
     }
 
@@ -671,7 +844,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, children, attributes, probableParents);
+        return Objects.hash(name, childrenSeq(), attributesHashCode(), probableParents);
     }
 
     private interface SetAttributeFunction {
@@ -20,6 +20,7 @@ package io.ballerina.runtime.observability;
 import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -101,6 +102,19 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Adds the tags of the context to the given collection, without copying them to a new set.
+     *
+     * @param target collection to add the tags to
+     */
+    public void addAllTagsTo(Collection<Tag> target) {
+        target.addAll(tags.values());
+    }
+
+    public int getTagCount() {
+        return tags.size();
+    }
+
     public BSpan getSpan() {
         return span;
     }
@@ -169,7 +183,7 @@ public class ObserverContext {
         return started;
     }
 
-    void setStarted() {
+    public void setStarted() {
         this.started = true;
     }
 
@@ -25,6 +25,8 @@ import java.time.Duration;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
@@ -57,6 +59,19 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    // Metrics resolved from the registry, by the set of tags of the observation
+    private static final ConcurrentMap<Set<Tag>, Gauge> inProgressGauges = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Set<Tag>, ResponseMetrics> responseMetrics = new ConcurrentHashMap<>();
+    private static volatile int cachedRemovalCount = metricRegistry.getRemovalCount();
+
+    private static final Tag[] statusCodeGroupTags = new Tag[6];
+
+    static {
+        for (int i = 1; i < statusCodeGroupTags.length; i++) {
+            statusCodeGroupTags[i] = Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, i + STATUS_CODE_GROUP_SUFFIX);
+        }
+    }
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -89,8 +104,7 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
         Set<Tag> tags = observerContext.getAllTags();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = getInProgressGauge(tags);
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -104,37 +118,92 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
         Map<String, Tag> customTags = observerContext.customMetricTags;
+        int tagCount = observerContext.getTagCount() + 1 + (customTags != null ? customTags.size() : 0);
+        Set<Tag> tags = new HashSet<>(tagCount * 4 / 3 + 1);
         if (customTags != null) {
             tags.addAll(customTags.values());
         }
-        tags.addAll(observerContext.getAllTags());
+        observerContext.addAllTagsTo(tags);
 
         // Add status_code_group tag
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
         if (statusCode != null && statusCode > 0) {
-            tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, (statusCode / 100) + STATUS_CODE_GROUP_SUFFIX));
+            tags.add(getStatusCodeGroupTag(statusCode));
         }
 
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ResponseMetrics metrics = getResponseMetrics(tags);
+            metrics.responseTime.setValue(duration / 1E9);
+            metrics.totalResponseTime.increment(duration);
+            metrics.requests.increment();
         } catch (RuntimeException e) {
             handleError("multiple metrics", tags, e);
         }
     }
 
+    private static Gauge getInProgressGauge(Set<Tag> tags) {
+        validateCachedMetrics();
+        Gauge gauge = inProgressGauges.get(tags);
+        if (gauge == null) {
+            gauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests", tags));
+            inProgressGauges.putIfAbsent(tags, gauge);
+        }
+        return gauge;
+    }
+
+    private static ResponseMetrics getResponseMetrics(Set<Tag> tags) {
+        validateCachedMetrics();
+        ResponseMetrics metrics = responseMetrics.get(tags);
+        if (metrics == null) {
+            metrics = new ResponseMetrics(tags);
+            responseMetrics.putIfAbsent(tags, metrics);
+        }
+        return metrics;
+    }
+
+    // Metrics held here are looked up again if any metric was removed from the registry since they were cached
+    private static void validateCachedMetrics() {
+        int removalCount = metricRegistry.getRemovalCount();
+        if (removalCount != cachedRemovalCount) {
+            cachedRemovalCount = removalCount;
+            inProgressGauges.clear();
+            responseMetrics.clear();
+        }
+    }
+
+    private static Tag getStatusCodeGroupTag(int statusCode) {
+        int statusCodeGroup = statusCode / 100;
+        if (statusCodeGroup > 0 && statusCodeGroup < statusCodeGroupTags.length) {
+            return statusCodeGroupTags[statusCodeGroup];
+        }
+        return Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup + STATUS_CODE_GROUP_SUFFIX);
+    }
+
     private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Metrics updated at the end of an observation with the same set of tags.
+     */
+    private static class ResponseMetrics {
+
+        private final Gauge responseTime;
+        private final Counter totalResponseTime;
+        private final Counter requests;
+
+        ResponseMetrics(Set<Tag> tags) {
+            this.responseTime = metricRegistry.gauge(new MetricId("response_time_seconds", "Response time", tags),
+                    responseTimeStatisticConfigs);
+            this.totalResponseTime = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            this.requests = metricRegistry.counter(new MetricId("requests_total", "Total number of requests", tags));
+        }
+    }
 }
@@ -19,7 +19,10 @@ package io.ballerina.runtime.observability.metrics;
 
 import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Hold a default {@link MetricRegistry} instance, which is used by Metric APIs.
@@ -27,6 +30,7 @@ import java.util.Objects;
 public class DefaultMetricRegistry {
 
     private static MetricRegistry instance = new MetricRegistry(new NoOpMetricProvider());
+    private static final List<Consumer<MetricRegistry>> registryListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Get the default {@link MetricRegistry}.
@@ -42,11 +46,36 @@ public class DefaultMetricRegistry {
      *
      * @param instance A new {@link MetricRegistry} instance.
      */
-    public static void setInstance(MetricRegistry instance) {
+    public static synchronized void setInstance(MetricRegistry instance) {
         if (!(DefaultMetricRegistry.instance.getMetricProvider() instanceof NoOpMetricProvider)) {
             throw new IllegalStateException("Default Metric Registry has already been set");
         }
         DefaultMetricRegistry.instance = Objects.requireNonNull(instance);
+        for (Consumer<MetricRegistry> listener : registryListeners) {
+            listener.accept(instance);
+        }
     }
 
+    /**
+     * Add a listener, which gets called with the default {@link MetricRegistry} once it is set. This allows the
+     * runtime to register its own metrics only when a metric provider has been configured. If the default
+     * {@link MetricRegistry} has already been set, the listener is called immediately.
+     *
+     * @param listener The listener to be called with the default {@link MetricRegistry}.
+     */
+    public static synchronized void addRegistryListener(Consumer<MetricRegistry> listener) {
+        registryListeners.add(listener);
+        if (!(instance.getMetricProvider() instanceof NoOpMetricProvider)) {
+            listener.accept(instance);
+        }
+    }
+
+    /**
+     * Remove a listener added with {@link #addRegistryListener(Consumer)}.
+     *
+     * @param listener The listener to be removed.
+     */
+    public static void removeRegistryListener(Consumer<MetricRegistry> listener) {
+        registryListeners.remove(listener);
+    }
 }
@@ -22,6 +22,7 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -35,6 +36,8 @@ public class MetricRegistry {
     private final MetricProvider metricProvider;
     // Metrics Map by ID
     private final ConcurrentMap<MetricId, Metric> metrics;
+    // Number of times metrics were removed, which makes metrics held outside the registry stale
+    private final AtomicInteger removalCount = new AtomicInteger();
 
     public MetricRegistry(MetricProvider metricProvider) {
         this.metricProvider = metricProvider;
@@ -181,6 +184,7 @@ public class MetricRegistry {
         Metric metric = readMetric(registerMetric.getId(), metricClass);
         if (metric != null) {
             metrics.remove(registerMetric.getId());
+            removalCount.incrementAndGet();
         }
     }
 
@@ -193,6 +197,17 @@ public class MetricRegistry {
         List<MetricId> ids = metrics.keySet().stream()
                 .filter(id -> id.getName().equals(name)).collect(Collectors.toList());
         ids.forEach(metrics::remove);
+        removalCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of times metrics were removed from the registry. A metric which was looked up earlier may
+     * have been removed if this has changed since.
+     *
+     * @return the number of removals
+     */
+    public int getRemovalCount() {
+        return removalCount.get();
     }
 
     public MetricProvider getMetricProvider() {
@@ -0,0 +1,270 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.values.FutureValue;
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Test cases for the metrics published by the {@link Scheduler}.
+ *
+ * @since 2201.0.1
+ */
+public class SchedulerMetricsTest {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("test", "scheduler", "1.0.0", "metrics");
+    private static final int METRICS_PER_SCHEDULER = 8;
+
+    @Test(timeOut = 10000)
+    public void testMetricsRemovedWhenSchedulerStops() {
+        MetricRegistry registry = new MetricRegistry(new PollingMetricProvider());
+        Scheduler scheduler = new Scheduler(2, false);
+        scheduler.setMetricRegistry(registry);
+        double[] activeStrands = new double[1];
+        int[] registeredMetrics = new int[1];
+        Function<Object[], Object> function = params -> {
+            registeredMetrics[0] = registry.getAllMetrics().length;
+            activeStrands[0] = getGauge(registry, "scheduler_active_strands", null).getValue();
+            return null;
+        };
+        scheduler.schedule(new Object[1], function, null, null, "strand", METADATA);
+        scheduler.start();
+
+        Assert.assertEquals(registeredMetrics[0], METRICS_PER_SCHEDULER);
+        Assert.assertEquals(activeStrands[0], 1.0);
+        Assert.assertEquals(registry.getAllMetrics().length, 0);
+    }
+
+    @Test
+    public void testSchedulersHaveSeparateMetrics() {
+        MetricRegistry registry = new MetricRegistry(new PollingMetricProvider());
+        Scheduler first = new Scheduler(1, false);
+        Scheduler second = new Scheduler(1, false);
+        first.setMetricRegistry(registry);
+        second.setMetricRegistry(registry);
+        Assert.assertEquals(registry.getAllMetrics().length, 2 * METRICS_PER_SCHEDULER);
+        Set<String> secondSchedulerIds = getSchedulerIds(registry);
+        Assert.assertEquals(secondSchedulerIds.size(), 2);
+
+        first.setMetricRegistry(null);
+        Assert.assertEquals(registry.getAllMetrics().length, METRICS_PER_SCHEDULER);
+        Set<String> remainingIds = getSchedulerIds(registry);
+        Assert.assertEquals(remainingIds.size(), 1);
+        Assert.assertTrue(secondSchedulerIds.containsAll(remainingIds));
+
+        second.setMetricRegistry(null);
+        Assert.assertEquals(registry.getAllMetrics().length, 0);
+    }
+
+    @Test(timeOut = 10000)
+    public void testParkedStrandCountedOnce() {
+        MetricRegistry countingRegistry = new MetricRegistry(new PollingMetricProvider());
+        MetricRegistry replacingRegistry = new MetricRegistry(new PollingMetricProvider());
+        BLock lock = new BLock();
+        CountDownLatch waiterQueued = new CountDownLatch(1);
+        AtomicReference<Strand> waiter = new AtomicReference<>();
+        PolledGauge[] parked = new PolledGauge[2];
+
+        Scheduler scheduler = new Scheduler(2, false);
+        scheduler.setMetricRegistry(countingRegistry);
+        parked[0] = getGauge(countingRegistry, "scheduler_parked_strands", "block_and_yield");
+        Function<Object[], Object> waiting = params -> {
+            Strand strand = (Strand) params[0];
+            waiter.set(strand);
+            if (!lock.lock(strand)) {
+                waiterQueued.countDown();
+                return null;
+            }
+            lock.unlock();
+            return null;
+        };
+        Function<Object[], Object> holding = params -> {
+            Strand strand = (Strand) params[0];
+            Assert.assertTrue(lock.lock(strand));
+            scheduler.schedule(new Object[1], waiting, null, null, "waiting", METADATA);
+            await(waiterQueued);
+            await(() -> isParked(waiter.get()));
+            Assert.assertEquals(parked[0].getValue(), 1.0);
+
+            // The strand is unblocked after the metrics were replaced, which must not count it against the new ones
+            scheduler.setMetricRegistry(replacingRegistry);
+            parked[1] = getGauge(replacingRegistry, "scheduler_parked_strands", "block_and_yield");
+            lock.unlock();
+            return null;
+        };
+        scheduler.schedule(new Object[1], holding, null, null, "holding", METADATA);
+        scheduler.start();
+
+        Assert.assertEquals(parked[0].getValue(), 0.0);
+        Assert.assertEquals(parked[1].getValue(), 0.0);
+    }
+
+    @Test(timeOut = 10000)
+    public void testBlockedOnStrandCountedOnce() {
+        MetricRegistry countingRegistry = new MetricRegistry(new PollingMetricProvider());
+        MetricRegistry replacingRegistry = new MetricRegistry(new PollingMetricProvider());
+        AtomicReference<Strand> waiter = new AtomicReference<>();
+        PolledGauge[] blockedOn = new PolledGauge[2];
+        Object[] waitResult = new Object[1];
+
+        Scheduler scheduler = new Scheduler(2, false);
+        scheduler.setMetricRegistry(countingRegistry);
+        blockedOn[0] = getGauge(countingRegistry, "scheduler_parked_strands", "block_on_and_yield");
+        Function<Object[], Object> completing = params -> {
+            await(() -> isCountedAsBlockedOn(waiter.get()));
+            Assert.assertEquals(blockedOn[0].getValue(), 1.0);
+            scheduler.setMetricRegistry(replacingRegistry);
+            blockedOn[1] = getGauge(replacingRegistry, "scheduler_parked_strands", "block_on_and_yield");
+            return 1L;
+        };
+        FutureValue[] future = new FutureValue[1];
+        Function<Object[], Object> waiting = params -> {
+            Strand strand = (Strand) params[0];
+            if (future[0] == null) {
+                waiter.set(strand);
+                future[0] = scheduler.schedule(new Object[1], completing, null, null, "completing", METADATA);
+            } else if (future[0].isDone) {
+                waitResult[0] = future[0].result;
+                return null;
+            }
+            try {
+                Strand.WaitResult result = strand.handleWaitAny(List.of(future[0]));
+                if (result.done) {
+                    waitResult[0] = result.result;
+                }
+            } catch (Throwable e) {
+                throw new AssertionError(e);
+            }
+            return null;
+        };
+        scheduler.schedule(new Object[1], waiting, null, null, "waiting", METADATA);
+        scheduler.start();
+
+        Assert.assertEquals(waitResult[0], 1L);
+        Assert.assertEquals(blockedOn[0].getValue(), 0.0);
+        Assert.assertEquals(blockedOn[1].getValue(), 0.0);
+    }
+
+    private static boolean isParked(Strand strand) {
+        strand.lock();
+        try {
+            return strand.schedulerItem.parked;
+        } finally {
+            strand.unlock();
+        }
+    }
+
+    private static boolean isCountedAsBlockedOn(Strand strand) {
+        WaitContext waitContext = strand.waitContext;
+        if (waitContext == null) {
+            return false;
+        }
+        waitContext.lock();
+        try {
+            return strand.schedulerItem.countedBy != null;
+        } finally {
+            waitContext.unLock();
+        }
+    }
+
+    private static PolledGauge getGauge(MetricRegistry registry, String name, String state) {
+        for (Metric metric : registry.getAllMetrics()) {
+            MetricId id = metric.getId();
+            if (id.getName().equals(name) && (state == null || id.getTags().contains(new Tag("state", state)))) {
+                return (PolledGauge) metric;
+            }
+        }
+        throw new AssertionError(name + " is not registered");
+    }
+
+    private static Set<String> getSchedulerIds(MetricRegistry registry) {
+        Set<String> ids = new HashSet<>();
+        for (Metric metric : registry.getAllMetrics()) {
+            for (Tag tag : metric.getId().getTags()) {
+                if (tag.getKey().equals("scheduler")) {
+                    ids.add(tag.getValue());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.yield();
+        }
+    }
+
+    /**
+     * A metric provider whose polled gauges report the value of the polled object.
+     */
+    private static class PollingMetricProvider extends NoOpMetricProvider {
+
+        @Override
+        public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
+            return new PollingGauge<>(metricId, obj, toDoubleFunction);
+        }
+    }
+
+    private static class PollingGauge<T> extends AbstractMetric implements PolledGauge {
+
+        private final T obj;
+        private final ToDoubleFunction<T> valueFunction;
+
+        PollingGauge(MetricId id, T obj, ToDoubleFunction<T> valueFunction) {
+            super(id);
+            this.obj = obj;
+            this.valueFunction = valueFunction;
+        }
+
+        @Override
+        public double getValue() {
+            return valueFunction.applyAsDouble(obj);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test cases for {@link SpscRingBuffer}.
+ *
+ * @since 2201.0.1
+ */
+public class SpscRingBufferTest {
+
+    private static final int CAPACITY = 8;
+
+    @Test
+    public void testEmpty() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(CAPACITY);
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertNull(buffer.poll());
+
+        buffer.offer(1);
+        Assert.assertFalse(buffer.isEmpty());
+        Assert.assertEquals(buffer.poll(), Integer.valueOf(1));
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertNull(buffer.poll());
+    }
+
+    @Test
+    public void testWrapAround() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(CAPACITY);
+        int next = 0;
+        int expected = 0;
+        // Keep a few elements in the buffer while the indices go around the ring several times
+        for (int round = 0; round < 10 * CAPACITY; round++) {
+            for (int i = 0; i < 3; i++) {
+                buffer.offer(next++);
+            }
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals(buffer.poll(), Integer.valueOf(expected++));
+            }
+        }
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertNull(buffer.poll());
+    }
+
+    @Test
+    public void testOfferWhenFull() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(CAPACITY);
+        // Start at an offset, so that the full buffer wraps around before it is linked to the next one
+        buffer.offer(-1);
+        buffer.offer(-2);
+        Assert.assertEquals(buffer.poll(), Integer.valueOf(-1));
+        Assert.assertEquals(buffer.poll(), Integer.valueOf(-2));
+
+        int count = 5 * CAPACITY + 3;
+        for (int i = 0; i < count; i++) {
+            buffer.offer(i);
+        }
+        for (int i = 0; i < count; i++) {
+            Assert.assertFalse(buffer.isEmpty());
+            Assert.assertEquals(buffer.poll(), Integer.valueOf(i));
+        }
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertNull(buffer.poll());
+
+        // The consumer continues with the linked buffer
+        buffer.offer(count);
+        Assert.assertEquals(buffer.poll(), Integer.valueOf(count));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testCapacityNotPowerOfTwo() {
+        new SpscRingBuffer<Integer>(6);
+    }
+
+    @Test(timeOut = 20000)
+    public void testProducerAndConsumerThreads() throws InterruptedException {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(CAPACITY);
+        int count = 1_000_000;
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                buffer.offer(i);
+                if (i % 1000 == 0) {
+                    // Let the consumer drain the buffer now and then, so that it runs empty as well as full
+                    Thread.yield();
+                }
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            int expected = 0;
+            while (expected < count) {
+                Integer element = buffer.poll();
+                if (element == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (element != expected) {
+                    failure.set("expected " + expected + " but found " + element);
+                    return;
+                }
+                expected++;
+            }
+        });
+        consumer.start();
+        producer.start();
+        producer.join();
+        consumer.join();
+
+        Assert.assertNull(failure.get());
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertNull(buffer.poll());
+    }
+}
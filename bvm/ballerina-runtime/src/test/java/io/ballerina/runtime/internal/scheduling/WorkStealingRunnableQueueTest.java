@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * Test cases for {@link WorkStealingRunnableQueue}.
+ *
+ * @since 2201.0.1
+ */
+public class WorkStealingRunnableQueueTest {
+
+    private static final int WORKERS = 4;
+
+    @Test(timeOut = 20000)
+    public void testEachGroupRunsOnce() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(WORKERS);
+        Map<ItemGroup, AtomicInteger> runs = new ConcurrentHashMap<>();
+        int producers = 3;
+        int groupsPerProducer = 2000;
+        int childrenPerGroup = 3;
+        int total = producers * groupsPerProducer * (1 + childrenPerGroup);
+        CountDownLatch allRun = new CountDownLatch(total);
+
+        // Each group queues its children from the executor thread, which puts them on the local queue of that thread
+        List<Thread> workers = startWorkers(queue, group -> {
+            runs.computeIfAbsent(group, g -> new AtomicInteger()).incrementAndGet();
+            if (group.items.isEmpty()) {
+                for (int i = 0; i < childrenPerGroup; i++) {
+                    queue.add(child());
+                }
+            }
+            allRun.countDown();
+        });
+
+        List<Thread> producerThreads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < groupsPerProducer; i++) {
+                    queue.add(new ItemGroup());
+                }
+            });
+            producerThreads.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producerThreads) {
+            producer.join();
+        }
+
+        Assert.assertTrue(allRun.await(10, TimeUnit.SECONDS), allRun.getCount() + " groups did not run");
+        Assert.assertEquals(runs.size(), total);
+        for (AtomicInteger count : runs.values()) {
+            Assert.assertEquals(count.get(), 1);
+        }
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(queue.size(), 0);
+
+        stop(queue, workers);
+    }
+
+    @Test(timeOut = 20000)
+    public void testIdleWorkersStealLocalGroups() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(WORKERS);
+        int children = 1000;
+        CountDownLatch childrenRun = new CountDownLatch(children);
+        Map<Thread, AtomicInteger> runsPerThread = new ConcurrentHashMap<>();
+        ItemGroup parent = new ItemGroup();
+
+        // The thread that runs the parent only returns after all of its children ran, so they all have to be
+        // stolen from its local queue by the other workers
+        List<Thread> workers = startWorkers(queue, group -> {
+            if (group != parent) {
+                runsPerThread.computeIfAbsent(Thread.currentThread(), t -> new AtomicInteger()).incrementAndGet();
+                childrenRun.countDown();
+                return;
+            }
+            for (int i = 0; i < children; i++) {
+                queue.add(child());
+            }
+            try {
+                Assert.assertTrue(childrenRun.await(10, TimeUnit.SECONDS), "local groups were not stolen");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queue.add(parent);
+
+        Assert.assertTrue(childrenRun.await(10, TimeUnit.SECONDS));
+        int stolen = 0;
+        for (AtomicInteger count : runsPerThread.values()) {
+            stolen += count.get();
+        }
+        Assert.assertEquals(stolen, children);
+
+        stop(queue, workers);
+    }
+
+    @Test(timeOut = 20000)
+    public void testPoisonStopsIdleWorkers() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(WORKERS);
+        List<Thread> workers = startWorkers(queue, group -> {
+        });
+        // Let the workers run out of spins and park
+        Thread.sleep(100);
+        stop(queue, workers);
+    }
+
+    @Test(timeOut = 20000)
+    public void testPoisonStopsBusyWorkers() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(WORKERS);
+        AtomicInteger runs = new AtomicInteger();
+        // Every group queues another one, so the local queues never run empty
+        List<Thread> workers = startWorkers(queue, group -> {
+            runs.incrementAndGet();
+            queue.add(new ItemGroup());
+        });
+        for (int i = 0; i < WORKERS; i++) {
+            queue.add(new ItemGroup());
+        }
+        while (runs.get() < 10000) {
+            Thread.sleep(1);
+        }
+        stop(queue, workers);
+    }
+
+    private static ItemGroup child() {
+        // A group with an item marks a child, which does not queue further groups
+        ItemGroup group = new ItemGroup();
+        group.items.push(new SchedulerItem(params -> null, null, null));
+        return group;
+    }
+
+    /**
+     * Starts the executor threads, which run the given action for each group until they pick a poison pill.
+     */
+    private static List<Thread> startWorkers(RunnableQueue queue, Consumer<ItemGroup> action) {
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            Thread worker = new Thread(() -> {
+                queue.registerWorker();
+                while (true) {
+                    ItemGroup group;
+                    try {
+                        group = queue.take();
+                    } catch (InterruptedException e) {
+                        continue;
+                    }
+                    if (group == POISON_PILL) {
+                        return;
+                    }
+                    action.accept(group);
+                }
+            }, "test-strand-exec-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        return workers;
+    }
+
+    private static void stop(RunnableQueue queue, List<Thread> workers) throws InterruptedException {
+        queue.poison(workers.size());
+        for (Thread worker : workers) {
+            worker.join(5000);
+            Assert.assertFalse(worker.isAlive(), worker.getName() + " did not stop");
+        }
+    }
+}
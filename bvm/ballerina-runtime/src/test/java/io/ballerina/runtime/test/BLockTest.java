@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.BLockStore;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link BLock}.
+ *
+ * @since 2201.0.1
+ */
+public class BLockTest {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("test", "lock", "1.0.0", "lock");
+
+    @Test
+    public void testReentrantLock() {
+        BLockStore lockStore = new BLockStore();
+        BLock lock = lockStore.getLockFromMap("counter");
+        Strand strand = new Strand("owner", METADATA, new Scheduler(1, false), null, null);
+
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        // A lock that is held more than once is tracked once
+        Assert.assertEquals(strand.acquiredLocks.size(), 1);
+        Assert.expectThrows(BError.class, () -> lockStore.panicIfInLock("counter", strand));
+
+        lock.unlock();
+        Assert.assertFalse(lock.isLockFree());
+        Assert.assertEquals(strand.acquiredLocks.size(), 1);
+
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertTrue(strand.acquiredLocks.isEmpty());
+        lockStore.panicIfInLock("counter", strand);
+    }
+
+    @Test
+    public void testLocksAreTrackedPerStrand() {
+        BLockStore lockStore = new BLockStore();
+        BLock first = lockStore.getLockFromMap("first");
+        BLock second = lockStore.getLockFromMap("second");
+        BLock otherModuleLock = new BLockStore().getLockFromMap("other");
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand strand = new Strand("owner", METADATA, scheduler, null, null);
+        Strand other = new Strand("other", METADATA, scheduler, null, null);
+
+        Assert.assertTrue(first.lock(strand));
+        Assert.assertTrue(second.lock(strand));
+        Assert.assertTrue(otherModuleLock.lock(other));
+        Assert.assertEquals(strand.acquiredLocks, List.of(first, second));
+        Assert.assertEquals(other.acquiredLocks, List.of(otherModuleLock));
+        lockStore.panicIfInLock("first", other);
+
+        // Locks are not always released in the reverse order
+        first.unlock();
+        Assert.assertEquals(strand.acquiredLocks, List.of(second));
+        second.unlock();
+        otherModuleLock.unlock();
+        Assert.assertTrue(strand.acquiredLocks.isEmpty());
+        Assert.assertTrue(other.acquiredLocks.isEmpty());
+    }
+
+    @Test(timeOut = 20000)
+    public void testContendedLock() {
+        BLock lock = new BLock();
+        int strands = 8;
+        int increments = 500;
+        int[] counter = new int[1];
+        AtomicInteger contentions = new AtomicInteger();
+        Set<Strand> lockingStrands = ConcurrentHashMap.newKeySet();
+
+        Scheduler scheduler = new Scheduler(4, false);
+        for (int i = 0; i < strands; i++) {
+            int[] done = new int[1];
+            Function<Object[], Object> locker = params -> {
+                Strand strand = (Strand) params[0];
+                lockingStrands.add(strand);
+                while (done[0] < increments) {
+                    if (!lock.lock(strand)) {
+                        // Yield like the generated code, which is called again once the lock is released
+                        contentions.incrementAndGet();
+                        return null;
+                    }
+                    int value = counter[0];
+                    Thread.yield();
+                    counter[0] = value + 1;
+                    lock.unlock();
+                    done[0]++;
+                }
+                return null;
+            };
+            scheduler.schedule(new Object[1], locker, null, null, "locker-" + i, METADATA);
+        }
+        scheduler.start();
+
+        Assert.assertEquals(counter[0], strands * increments);
+        Assert.assertTrue(contentions.get() > 0);
+        Assert.assertTrue(lock.isLockFree());
+        for (Strand strand : lockingStrands) {
+            Assert.assertTrue(strand.acquiredLocks == null || strand.acquiredLocks.isEmpty());
+        }
+    }
+
+    @Test(timeOut = 20000)
+    public void testLockReleasedOnPanic() {
+        BLockStore lockStore = new BLockStore();
+        BLock lock = lockStore.getLockFromMap("counter");
+        CountDownLatch waiterQueued = new CountDownLatch(1);
+        List<String> acquisitions = new CopyOnWriteArrayList<>();
+        AtomicReference<Strand> panicked = new AtomicReference<>();
+        AtomicReference<BError> failure = new AtomicReference<>();
+
+        Scheduler scheduler = new Scheduler(4, false);
+        Function<Object[], Object> waiting = params -> {
+            Strand strand = (Strand) params[0];
+            if (!lock.lock(strand)) {
+                waiterQueued.countDown();
+                return null;
+            }
+            acquisitions.add("waiting");
+            lockStore.panicIfInLock("counter", panicked.get());
+            lock.unlock();
+            return null;
+        };
+        // Follows the generated code of a lock statement, which traps the body, unlocks and then panics again
+        Function<Object[], Object> panicking = params -> {
+            Strand strand = (Strand) params[0];
+            panicked.set(strand);
+            Assert.assertTrue(lock.lock(strand));
+            Assert.assertTrue(lock.lock(strand));
+            acquisitions.add("panicking");
+            BError trapped = null;
+            try {
+                scheduler.schedule(new Object[1], waiting, null, null, "waiting", METADATA);
+                awaitQuietly(waiterQueued);
+                throw ErrorCreator.createError(StringUtils.fromString("failed in lock"));
+            } catch (BError e) {
+                trapped = e;
+            }
+            lock.unlock();
+            lock.unlock();
+            throw trapped;
+        };
+        scheduler.schedule(new Object[1], panicking, null, new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                failure.set(error);
+            }
+        }, null, PredefinedTypes.TYPE_NULL, "panicking", METADATA);
+        scheduler.start();
+
+        Assert.assertNotNull(failure.get());
+        Assert.assertEquals(acquisitions, List.of("panicking", "waiting"));
+        Assert.assertTrue(panicked.get().acquiredLocks.isEmpty());
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE_GROUP;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_PATH;
+
+/**
+ * Test cases for the metrics collected by the metrics observer.
+ */
+public class BallerinaMetricsObserverTest {
+
+    private final BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+    private final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+
+    @Test
+    public void testMetricsReused() {
+        Set<Tag> tags = Set.of(Tag.of(TAG_KEY_SRC_OBJECT_NAME, "orders"), Tag.of(TAG_KEY_SRC_RESOURCE_PATH, "list"),
+                Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx"));
+        MetricId requestsId = new MetricId("requests_total", null, tags);
+
+        observe("list", 200);
+        Metric requests = metricRegistry.lookup(requestsId);
+        Assert.assertNotNull(requests);
+        int metricCount = metricRegistry.getAllMetrics().length;
+
+        observe("list", 204);
+        Assert.assertSame(metricRegistry.lookup(requestsId), requests);
+        Assert.assertEquals(metricRegistry.getAllMetrics().length, metricCount);
+
+        observe("list", 404);
+        Assert.assertSame(metricRegistry.lookup(requestsId), requests);
+        Assert.assertEquals(metricRegistry.getAllMetrics().length, metricCount + 3);
+    }
+
+    @Test
+    public void testUnregisteredMetricsRecreated() {
+        Set<Tag> tags = Set.of(Tag.of(TAG_KEY_SRC_OBJECT_NAME, "orders"), Tag.of(TAG_KEY_SRC_RESOURCE_PATH, "get"),
+                Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "5xx"));
+        MetricId requestsId = new MetricId("requests_total", null, tags);
+
+        observe("get", 500);
+        Counter requests = (Counter) metricRegistry.lookup(requestsId);
+        metricRegistry.unregister(requests);
+        Assert.assertNull(metricRegistry.lookup(requestsId));
+
+        observe("get", 503);
+        Assert.assertNotNull(metricRegistry.lookup(requestsId));
+    }
+
+    private void observe(String resourcePath, int statusCode) {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.addTag(TAG_KEY_SRC_OBJECT_NAME, "orders");
+        observerContext.addTag(TAG_KEY_SRC_RESOURCE_PATH, resourcePath);
+        observerContext.setStarted();
+        observer.startServerObservation(observerContext);
+        observerContext.addProperty(PROPERTY_KEY_HTTP_STATUS_CODE, statusCode);
+        observer.stopServerObservation(observerContext);
+    }
+}
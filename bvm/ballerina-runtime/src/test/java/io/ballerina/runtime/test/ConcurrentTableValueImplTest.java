@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.values.ConcurrentTableValueImpl;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for {@link ConcurrentTableValueImpl}.
+ *
+ * @since 2201.0.1
+ */
+public class ConcurrentTableValueImplTest {
+
+    private static final BMapType ROW_TYPE = new BMapType(PredefinedTypes.TYPE_ANYDATA);
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final int THREADS = 8;
+    private static final int ROWS_PER_THREAD = 500;
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        ConcurrentTableValueImpl<Object, BMap<BString, Object>> table = keyedTable(THREADS);
+        runConcurrently(thread -> {
+            long first = (long) thread * ROWS_PER_THREAD;
+            for (long id = first; id < first + ROWS_PER_THREAD; id++) {
+                table.add(row(id, "added"));
+            }
+            for (long id = first; id < first + ROWS_PER_THREAD; id++) {
+                Assert.assertEquals(table.get(id).get(NAME), StringUtils.fromString("added"));
+                table.put(row(id, "updated"));
+            }
+            // every other row of this thread is removed again
+            for (long id = first; id < first + ROWS_PER_THREAD; id += 2) {
+                Assert.assertNotNull(table.remove(id));
+                Assert.assertNull(table.remove(id));
+            }
+            return null;
+        });
+
+        Assert.assertEquals(table.size(), THREADS * ROWS_PER_THREAD / 2);
+        Assert.assertEquals(table.getKeys().length, THREADS * ROWS_PER_THREAD / 2);
+        for (long id = 0; id < THREADS * ROWS_PER_THREAD; id++) {
+            if (id % 2 == 0) {
+                Assert.assertFalse(table.containsKey(id));
+            } else {
+                Assert.assertEquals(table.get(id).get(NAME), StringUtils.fromString("updated"));
+            }
+        }
+        Assert.assertEquals(new HashSet<>(iterate(table.getIterator())).size(), THREADS * ROWS_PER_THREAD / 2);
+    }
+
+    @Test
+    public void testDuplicateKey() {
+        ConcurrentTableValueImpl<Object, BMap<BString, Object>> table = keyedTable(THREADS);
+        table.add(row(1, "one"));
+        BError error = Assert.expectThrows(BError.class, () -> table.add(row(1, "duplicate")));
+        Assert.assertEquals(error.getErrorMessage().getValue(), "{ballerina/lang.table}KeyConstraintViolation");
+        Assert.assertEquals(table.size(), 1);
+        Assert.assertEquals(table.get(1L).get(NAME), StringUtils.fromString("one"));
+    }
+
+    @Test
+    public void testConcurrentDuplicateKeys() throws Exception {
+        ConcurrentTableValueImpl<Object, BMap<BString, Object>> table = keyedTable(THREADS);
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(thread -> {
+            for (long id = 0; id < ROWS_PER_THREAD; id++) {
+                try {
+                    table.add(row(id, "thread-" + thread));
+                    added.incrementAndGet();
+                } catch (BError e) {
+                    rejected.incrementAndGet();
+                }
+            }
+            return null;
+        });
+
+        // each key is added by exactly one of the threads
+        Assert.assertEquals(added.get(), ROWS_PER_THREAD);
+        Assert.assertEquals(rejected.get(), (THREADS - 1) * ROWS_PER_THREAD);
+        Assert.assertEquals(table.size(), ROWS_PER_THREAD);
+    }
+
+    @Test
+    public void testIterationDuringConcurrentUpdates() throws Exception {
+        ConcurrentTableValueImpl<Object, BMap<BString, Object>> table = keyedTable(THREADS);
+        for (long id = 0; id < 2 * ROWS_PER_THREAD; id++) {
+            table.add(row(id, "initial"));
+        }
+
+        IteratorValue iterator = table.getIterator();
+        Assert.assertTrue(iterator.hasNext());
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> updates = executor.submit(() -> {
+                started.countDown();
+                for (long id = ROWS_PER_THREAD; id < 2 * ROWS_PER_THREAD; id++) {
+                    table.remove(id);
+                    table.add(row(id + 2 * ROWS_PER_THREAD, "added"));
+                }
+            });
+            started.await();
+
+            List<Long> visited = iterate(iterator);
+            updates.get();
+
+            // rows are never visited twice, and the rows which stay in the table are all visited
+            Assert.assertEquals(new HashSet<>(visited).size(), visited.size());
+            Assert.assertTrue(visited.containsAll(ids(0, ROWS_PER_THREAD)));
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(table.size(), 2 * ROWS_PER_THREAD);
+        Set<Long> remaining = new HashSet<>(iterate(table.getIterator()));
+        Assert.assertTrue(remaining.containsAll(ids(0, ROWS_PER_THREAD)));
+        Assert.assertTrue(remaining.containsAll(ids(3 * ROWS_PER_THREAD, 4 * ROWS_PER_THREAD)));
+    }
+
+    @Test
+    public void testFreeze() {
+        ConcurrentTableValueImpl<Object, BMap<BString, Object>> table = keyedTable(THREADS);
+        table.add(row(1, "one"));
+        table.add(row(2, "two"));
+        table.freezeDirect();
+
+        Assert.assertTrue(table.isFrozen());
+        Assert.assertTrue(table.get(1L).isFrozen());
+        Assert.assertTrue(table.get(2L).isFrozen());
+        Assert.assertSame(table.copy(new HashMap<>()), table);
+
+        Assert.expectThrows(BError.class, () -> table.add(row(3, "three")));
+        Assert.expectThrows(BError.class, () -> table.put(row(1, "updated")));
+        Assert.expectThrows(BError.class, () -> table.remove(1L));
+        Assert.expectThrows(BError.class, () -> table.get(1L).put(NAME, StringUtils.fromString("updated")));
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.get(1L).get(NAME), StringUtils.fromString("one"));
+        Assert.assertEquals(new HashSet<>(iterate(table.getIterator())), Set.of(1L, 2L));
+    }
+
+    @Test
+    public void testNextKey() {
+        BMapType intRowType = new BMapType(PredefinedTypes.TYPE_INT);
+        ConcurrentTableValueImpl<Object, BMap<BString, Object>> table =
+                new ConcurrentTableValueImpl<>(new BTableType(intRowType, new String[]{"id"}, false), THREADS);
+        Assert.assertEquals(table.getKeyType(), PredefinedTypes.TYPE_INT);
+        Assert.assertEquals(table.getNextKey(), 0L);
+
+        // the keys are spread over several shards, the next key is one past the largest of them
+        for (long id : new long[]{3, 41, 7, 12}) {
+            BMap<BString, Object> row = new MapValueImpl<>(intRowType);
+            row.put(ID, id);
+            table.add(row);
+        }
+        Assert.assertEquals(table.getNextKey(), 42L);
+
+        ConcurrentTableValueImpl<Object, BMap<BString, Object>> stringKeyed = new ConcurrentTableValueImpl<>(
+                new BTableType(new BMapType(PredefinedTypes.TYPE_STRING), new String[]{"id"}, false), THREADS);
+        Assert.assertEquals(stringKeyed.getKeyType(), PredefinedTypes.TYPE_STRING);
+        Assert.expectThrows(BError.class, stringKeyed::getNextKey);
+    }
+
+    private static ConcurrentTableValueImpl<Object, BMap<BString, Object>> keyedTable(int concurrencyLevel) {
+        return new ConcurrentTableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"id"}, false),
+                                              concurrencyLevel);
+    }
+
+    private static BMap<BString, Object> row(long id, String name) {
+        BMap<BString, Object> row = new MapValueImpl<>(ROW_TYPE);
+        row.put(ID, id);
+        row.put(NAME, StringUtils.fromString(name));
+        return row;
+    }
+
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int thread = i;
+                Callable<Void> callable = () -> {
+                    start.await();
+                    return task.run(thread);
+                };
+                results.add(executor.submit(callable));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                // rethrows the failures of the threads
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<Long> iterate(IteratorValue iterator) {
+        List<Long> ids = new ArrayList<>();
+        while (iterator.hasNext()) {
+            BMap<?, ?> row = (BMap<?, ?>) ((BArray) iterator.next()).get(1);
+            ids.add((Long) row.get(ID));
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = from; id < to; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private interface ThreadTask {
+        Void run(int thread) throws Exception;
+    }
+}
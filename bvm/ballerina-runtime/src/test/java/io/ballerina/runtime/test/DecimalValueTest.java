@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Test cases for arithmetic on decimal values which are kept in their compact form.
+ */
+public class DecimalValueTest {
+
+    @DataProvider(name = "operands")
+    public Object[][] operands() {
+        return new Object[][]{
+                {"10.15", "9.99"},
+                {"2.5", "-5.25"},
+                {"1E+3", "0.001"},
+                {"6.0", "2"},
+                {"100", "10"},
+                {"1", "3"},
+                {"1", "4"},
+                {"999999999999999999", "1"},
+                {"999999999999999999", "999999999999999999"},
+                {"123456789012345678901234567890", "0.5"},
+                {"-0.000000000000000001", "1E-30"},
+                {"1E+2000000000", "1E+2000000000"}
+        };
+    }
+
+    @Test(dataProvider = "operands")
+    public void testSameResultsAsBigDecimal(String lhs, String rhs) {
+        DecimalValue lhsValue = new DecimalValue(lhs);
+        DecimalValue rhsValue = new DecimalValue(rhs);
+        BigDecimal lhsDecimal = new BigDecimal(lhs, MathContext.DECIMAL128);
+        BigDecimal rhsDecimal = new BigDecimal(rhs, MathContext.DECIMAL128);
+
+        assertDecimal(lhsValue.add(rhsValue), lhsDecimal.add(rhsDecimal, MathContext.DECIMAL128));
+        assertDecimal(lhsValue.subtract(rhsValue), lhsDecimal.subtract(rhsDecimal, MathContext.DECIMAL128));
+        assertDecimal(lhsValue.divide(rhsValue), lhsDecimal.divide(rhsDecimal, MathContext.DECIMAL128));
+        assertDecimal(lhsValue.remainder(rhsValue), lhsDecimal.remainder(rhsDecimal, MathContext.DECIMAL128));
+        assertDecimal(lhsValue.negate(), lhsDecimal.negate());
+        Assert.assertEquals(lhsValue.compareTo(rhsValue), lhsDecimal.compareTo(rhsDecimal));
+        Assert.assertEquals(rhsValue.compareTo(lhsValue), rhsDecimal.compareTo(lhsDecimal));
+        if (!lhs.startsWith("1E+2")) {
+            assertDecimal(lhsValue.multiply(rhsValue), lhsDecimal.multiply(rhsDecimal, MathContext.DECIMAL128));
+        }
+    }
+
+    @Test
+    public void testEqualityIgnoresScale() {
+        DecimalValue value = new DecimalValue("25.50");
+        DecimalValue other = DecimalValue.valueOf(25).add(new DecimalValue("0.5"));
+        Assert.assertEquals(value, other);
+        Assert.assertEquals(value.compareTo(other), 0);
+        Assert.assertEquals(other.toString(), "25.5");
+        Assert.assertEquals(other.hashCode(), new BigDecimal("25.5").hashCode());
+    }
+
+    @Test
+    public void testIntegralValues() {
+        Assert.assertEquals(DecimalValue.valueOf(42L).toString(), "42.0");
+        Assert.assertEquals(DecimalValue.valueOf(Long.MAX_VALUE).toString(), "9223372036854775807.0");
+        Assert.assertEquals(DecimalValue.valueOf(-7).multiply(DecimalValue.valueOf(6)).intValue(), -42);
+        Assert.assertEquals(new DecimalValue("2.5").intValue(), 2);
+        Assert.assertFalse(new DecimalValue("1.5").subtract(new DecimalValue("1.50")).booleanValue());
+    }
+
+    @Test
+    public void testIntValueDoesNotDependOnScale() {
+        // Above 2^53, where the conversion rounds to the nearest double
+        String[] values = {"9007199254740993", "9007199254740993.0", "9007199254740993.00"};
+        for (String value : values) {
+            Assert.assertEquals(new DecimalValue(value).intValue(), 9007199254740992L, value);
+            Assert.assertEquals(new DecimalValue("-" + value).intValue(), -9007199254740992L, value);
+        }
+        Assert.assertEquals(DecimalValue.valueOf(9007199254740993L).intValue(), 9007199254740992L);
+        Assert.assertEquals(new DecimalValue("9007199254740992").intValue(), 9007199254740992L);
+        Assert.assertEquals(new DecimalValue("9007199254740992.0").intValue(), 9007199254740992L);
+    }
+
+    // The scale has to match as well, since it is visible in the string value
+    private static void assertDecimal(DecimalValue actual, BigDecimal expected) {
+        Assert.assertEquals(actual.decimalValue(), expected);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Test cases for calling a function pointer iteratively through {@link AsyncUtils}.
+ *
+ * @since 2201.0.1
+ */
+public class FunctionIterationTest {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("test", "iteration", "1.0.0", "iterate");
+    private static final int SIZE = 1000;
+    private static final String INLINE = "inline";
+    private static final String BLOCKED = "blocked";
+
+    @Test(timeOut = 10000)
+    public void testCallsWithoutYield() {
+        Object[] results = new Object[SIZE];
+        Object returnValue = runOnStrand(() -> AsyncUtils.invokeFunctionPointerIteratively(
+                doubler(n -> false, n -> false), null, METADATA, SIZE, FunctionIterationTest::args,
+                (result, i) -> results[i] = result, () -> BLOCKED));
+        Assert.assertEquals(returnValue, INLINE);
+        assertDoubled(results);
+    }
+
+    @Test(timeOut = 10000)
+    public void testCallsWithYield() {
+        Object[] results = new Object[SIZE];
+        Object returnValue = runOnStrand(() -> AsyncUtils.invokeFunctionPointerIteratively(
+                doubler(n -> n % 10 == 3, n -> false), null, METADATA, SIZE, FunctionIterationTest::args,
+                (result, i) -> results[i] = result, () -> BLOCKED));
+        Assert.assertEquals(returnValue, BLOCKED);
+        assertDoubled(results);
+    }
+
+    @Test(timeOut = 10000)
+    public void testConcurrentCalls() {
+        Object[] results = new Object[SIZE];
+        Object returnValue = runOnStrand(() -> AsyncUtils.invokeFunctionPointerConcurrently(
+                doubler(n -> n % 10 == 3, n -> false), null, METADATA, SIZE, FunctionIterationTest::args,
+                (result, i) -> results[i] = result, () -> BLOCKED));
+        Assert.assertEquals(returnValue, BLOCKED);
+        assertDoubled(results);
+    }
+
+    @Test(timeOut = 10000)
+    public void testPanicAfterYield() {
+        Object returnValue = runOnStrand(() -> AsyncUtils.invokeFunctionPointerIteratively(
+                doubler(n -> n == 500, n -> n == 500), null, METADATA, SIZE, FunctionIterationTest::args,
+                (result, i) -> {
+                }, () -> BLOCKED));
+        Assert.assertTrue(returnValue instanceof BError);
+    }
+
+    @Test(timeOut = 10000)
+    public void testConcurrentPanic() {
+        Object returnValue = runOnStrand(() -> AsyncUtils.invokeFunctionPointerConcurrently(
+                doubler(n -> false, n -> n == 500), null, METADATA, SIZE, FunctionIterationTest::args,
+                (result, i) -> {
+                }, () -> BLOCKED));
+        Assert.assertTrue(returnValue instanceof BError);
+    }
+
+    @Test
+    public void testConcurrentIterationThreshold() {
+        BFunctionPointer<Object, Object> isolated = ValueCreator.createFPValue(args -> null, new BFunctionType(
+                new Type[]{PredefinedTypes.TYPE_INT}, null, PredefinedTypes.TYPE_INT, SymbolFlags.ISOLATED));
+        BFunctionPointer<Object, Object> notIsolated = doubler(n -> false, n -> false);
+        int previous = AsyncUtils.setConcurrentIterationThreshold(10);
+        try {
+            Assert.assertTrue(AsyncUtils.isConcurrentIterationAllowed(isolated, 10));
+            Assert.assertFalse(AsyncUtils.isConcurrentIterationAllowed(isolated, 9));
+            Assert.assertFalse(AsyncUtils.isConcurrentIterationAllowed(notIsolated, SIZE));
+
+            Assert.assertEquals(AsyncUtils.setConcurrentIterationThreshold(0), 10);
+            Assert.assertFalse(AsyncUtils.isConcurrentIterationAllowed(isolated, SIZE));
+            Assert.expectThrows(IllegalArgumentException.class, () -> AsyncUtils.setConcurrentIterationThreshold(-1));
+        } finally {
+            AsyncUtils.setConcurrentIterationThreshold(previous);
+        }
+    }
+
+    private static Object[] args(int index) {
+        return new Object[]{null, (long) index, true};
+    }
+
+    private static void assertDoubled(Object[] results) {
+        for (int i = 0; i < results.length; i++) {
+            Assert.assertEquals(results[i], i * 2L);
+        }
+    }
+
+    // Doubles the given int, after yielding once and then panicking if asked to
+    private static BFunctionPointer<Object, Object> doubler(IntPredicate yields, IntPredicate panics) {
+        Set<Strand> yielded = ConcurrentHashMap.newKeySet();
+        Function<Object[], Object> function = args -> {
+            Strand strand = (Strand) args[0];
+            long value = (long) args[1];
+            if (yields.test((int) value) && yielded.add(strand)) {
+                strand.setState(State.YIELD);
+                return null;
+            }
+            if (panics.test((int) value)) {
+                throw ErrorCreator.createError(StringUtils.fromString("failed at " + value));
+            }
+            return value * 2;
+        };
+        return ValueCreator.createFPValue(function, new BFunctionType(new Type[]{PredefinedTypes.TYPE_INT}, null,
+                PredefinedTypes.TYPE_INT, 0));
+    }
+
+    /**
+     * Runs the given iteration on a strand, which returns like the generated code of a function once it is unblocked.
+     */
+    private static Object runOnStrand(Runnable iteration) {
+        Scheduler scheduler = new Scheduler(4, false);
+        AtomicReference<Object> returnValue = new AtomicReference<>();
+        Function<Object[], Object> function = params -> {
+            Strand strand = (Strand) params[0];
+            if (strand.isBlockedOnExtern()) {
+                strand.blockedOnExtern = false;
+                if (strand.panic != null) {
+                    throw strand.panic;
+                }
+                return strand.returnValue;
+            }
+            iteration.run();
+            return INLINE;
+        };
+        scheduler.schedule(new Object[1], function, null, new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                returnValue.set(result);
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                returnValue.set(error);
+            }
+        }, null, PredefinedTypes.TYPE_ANY, null, METADATA);
+        scheduler.start();
+        return returnValue.get();
+    }
+}
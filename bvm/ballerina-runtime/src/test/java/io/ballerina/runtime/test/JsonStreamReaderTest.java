@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for reading JSON content directly as values of a given type.
+ */
+public class JsonStreamReaderTest {
+
+    private static final Module MODULE = new Module("myOrg", "test_module", "1.0.0");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString SCORES = StringUtils.fromString("scores");
+
+    private static RecordType createPersonType() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        fields.put("scores", TypeCreator.createField(TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT),
+                                                     "scores", SymbolFlags.REQUIRED));
+        return TypeCreator.createRecordType("Person", MODULE, 0, fields, null, true, 0);
+    }
+
+    @Test
+    void testReadClosedRecord() {
+        String json = "{\"id\": 7, \"extra\": {\"nested\": [1, \"two\", null]}, \"name\": \"Jane \\u00e9\", " +
+                "\"scores\": [1.5, 2.0]}";
+        BMap<BString, Object> person =
+                (BMap<BString, Object>) JsonUtils.parse(new StringReader(json), createPersonType());
+        Assert.assertEquals(person.size(), 3);
+        Assert.assertEquals(person.get(ID), 7L);
+        Assert.assertEquals(person.get(NAME).toString(), "Jane \u00e9");
+        Assert.assertEquals(((BArray) person.get(SCORES)).getFloat(1), 2.0);
+        Assert.assertFalse(person.containsKey(StringUtils.fromString("extra")));
+    }
+
+    @Test
+    void testReadArrayElements() {
+        String json = "[{\"id\": 1, \"name\": \"a\", \"scores\": []}, {\"id\": 2, \"name\": \"b\", \"scores\": []}]";
+        Iterator<Object> elements = JsonUtils.parseArrayElements(new StringReader(json), createPersonType());
+        List<Object> ids = new ArrayList<>();
+        while (elements.hasNext()) {
+            ids.add(((BMap<BString, Object>) elements.next()).get(ID));
+        }
+        Assert.assertEquals(ids, List.of(1L, 2L));
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = "error while mapping 'id': .*")
+    void testReadIncompatibleField() {
+        JsonUtils.parse(new StringReader("{\"id\": \"7\", \"name\": \"Jane\", \"scores\": []}"), createPersonType());
+    }
+
+    @Test
+    void testReadOpenRecordSkipsUndeclaredFields() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED));
+        RecordType recordType = TypeCreator.createRecordType("Measurement", MODULE, 0, fields,
+                                                             PredefinedTypes.TYPE_FLOAT, false, 0);
+        String json = "{\"id\": 1, \"x\": 5, \"label\": \"not a float\", \"nested\": {\"y\": [2.5]}}";
+
+        BMap<BString, Object> value = (BMap<BString, Object>) JsonUtils.parse(new StringReader(json), recordType);
+        BMap<BString, Object> converted =
+                (BMap<BString, Object>) JsonUtils.convertJSON(JsonUtils.parse(json), recordType);
+        Assert.assertEquals(value.size(), 1);
+        Assert.assertEquals(value.get(ID), 1L);
+        Assert.assertEquals(value.getKeys(), converted.getKeys());
+    }
+
+    @Test
+    void testReadIncompatibleNestedField() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("owner", TypeCreator.createField(createPersonType(), "owner", SymbolFlags.REQUIRED));
+        RecordType recordType = TypeCreator.createRecordType("Account", MODULE, 0, fields, null, true, 0);
+        String json = "{\"owner\": {\"id\": 7, \"name\": \"Jane\", \"scores\": [1.5, true]}}";
+
+        BallerinaException expected = Assert.expectThrows(BallerinaException.class,
+                () -> JsonUtils.convertJSON(JsonUtils.parse(json), recordType));
+        BallerinaException e = Assert.expectThrows(BallerinaException.class,
+                () -> JsonUtils.parse(new StringReader(json), recordType));
+        Assert.assertTrue(e.getMessage().startsWith("error while mapping 'scores': "), e.getMessage());
+        Assert.assertEquals(e.getMessage(), expected.getMessage());
+    }
+
+    @DataProvider(name = "numbers")
+    Object[][] numbers() {
+        return new Object[][]{{"12"}, {"-12"}, {"1.5"}, {"1.5e3"}, {"-2.0E-2"}, {"-0"}, {"-0.0"}};
+    }
+
+    @Test(dataProvider = "numbers")
+    void testReadNumbersLikeJsonParser(String json) {
+        Object expected = JsonUtils.parse(json);
+        Object value = JsonUtils.parse(new StringReader(json), PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(value.getClass(), expected.getClass());
+        Assert.assertEquals(value, expected);
+    }
+
+    @DataProvider(name = "exponentsWithoutFraction")
+    Object[][] exponentsWithoutFraction() {
+        return new Object[][]{{"1e3"}, {"-2E2"}, {"5e-1"}};
+    }
+
+    @Test(dataProvider = "exponentsWithoutFraction")
+    void testRejectExponentWithoutFractionLikeJsonParser(String json) {
+        BError expected = Assert.expectThrows(BError.class, () -> JsonUtils.parse(json));
+        BError e = Assert.expectThrows(BError.class,
+                () -> JsonUtils.parse(new StringReader(json), PredefinedTypes.TYPE_JSON));
+        String unrecognized = "unrecognized token '" + json + "'";
+        Assert.assertTrue(expected.getMessage().startsWith(unrecognized), expected.getMessage());
+        Assert.assertTrue(e.getMessage().startsWith(unrecognized), e.getMessage());
+    }
+}
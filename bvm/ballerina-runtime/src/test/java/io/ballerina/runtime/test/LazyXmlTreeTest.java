@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.api.values.BXmlItem;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test cases for building XML values lazily and reading repeated elements one at a time.
+ */
+public class LazyXmlTreeTest {
+
+    private static final String FEED = "<feed xmlns=\"http://www.w3.org/2005/Atom\" xmlns:m=\"http://example.com/m\">" +
+            "<title>Feed</title>" +
+            "<entry m:id=\"1\"><title>First &amp; one</title><m:tag>a</m:tag></entry>" +
+            "<!-- <entry>commented</entry> -->" +
+            "<entry m:id=\"2\"><title><![CDATA[<entry>second</entry>]]></title></entry>" +
+            "<entry m:id=\"3\" note=\"a > b\"/>" +
+            "</feed>";
+
+    @DataProvider(name = "xmlDocuments")
+    public Object[][] xmlDocuments() {
+        return new Object[][]{
+                {FEED},
+                {"<a><b><c>text</c><c/></b><!-- comment --><?target data?><d x='1' y=\"/>\"/></a>"},
+                {"<ns:a xmlns:ns=\"http://example.com\"><ns:b><ns:c xmlns:ns=\"http://other.com\">x</ns:c></ns:b>" +
+                        "</ns:a>"},
+                {"<a><![CDATA[</a><b>]]><b>after</b></a>"},
+                {"<a>one</a><b><c/></b>text<!-- c --><?pi?>"},
+                {"<?xml version=\"1.0\"?><root attr=\"v\"><child>value</child></root>"}
+        };
+    }
+
+    @Test(dataProvider = "xmlDocuments")
+    public void testSameTreeAsEagerParsing(String xml) {
+        Assert.assertEquals(XmlUtils.parseLazily(xml).toString(), XmlUtils.parse(xml).toString());
+    }
+
+    @Test
+    public void testChildrenBuiltOnAccess() {
+        BXml lazy = XmlUtils.parseLazily(FEED);
+        BXml eager = XmlUtils.parse(FEED);
+        BXml lazyEntries = lazy.children().elements();
+        BXml eagerEntries = eager.children().elements();
+        Assert.assertEquals(lazyEntries.size(), eagerEntries.size());
+        for (int i = 0; i < eagerEntries.size(); i++) {
+            Assert.assertEquals(lazyEntries.getItem(i).children().toString(),
+                                eagerEntries.getItem(i).children().toString());
+        }
+        Assert.assertEquals(lazy.toString(), eager.toString());
+    }
+
+    @Test(expectedExceptions = BError.class)
+    public void testMalformedContentRejected() {
+        XmlUtils.parseLazily("<a><b><c></b></a>");
+    }
+
+    @Test
+    public void testParseElements() {
+        Iterator<BXml> entries = XmlUtils.parseElements(new StringReader(FEED), "{http://www.w3.org/2005/Atom}entry");
+        List<String> ids = new ArrayList<>();
+        while (entries.hasNext()) {
+            BXmlItem entry = (BXmlItem) entries.next();
+            ids.add(entry.getAttribute("id", "http://example.com/m").getValue());
+        }
+        Assert.assertEquals(ids, List.of("1", "2", "3"));
+    }
+
+    @Test
+    public void testParseElementsWithoutMatches() {
+        Assert.assertFalse(XmlUtils.parseElements(new StringReader(FEED), "item").hasNext());
+    }
+}
@@ -1,5 +1,7 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +42,40 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatenatedStringValue() {
+        BString fragment = StringUtils.fromString("fragment ");
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            result = result.concat(fragment);
+            expected.append("fragment ");
+        }
+        Assert.assertEquals(result.length(), expected.length());
+        Assert.assertEquals(result.getValue(), expected.toString());
+        Assert.assertEquals(result, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(result.hashCode(), expected.toString().hashCode());
+        Assert.assertEquals(result.getCodePoint(9 * 5000), 'f');
+    }
+
+    @Test
+    void testConcatenatedNonBmpStringValue() {
+        BString result = StringUtils.fromString("");
+        for (int i = 0; i < 100; i++) {
+            result = result.concat(SUBJECT);
+        }
+        Assert.assertEquals(result.length(), 1600);
+        Assert.assertEquals(result.getCodePoint(16 * 50 + 14), 0x1F47D);
+        Assert.assertEquals(result.getCodePoint(16 * 99 + 15), 'r');
+        Assert.assertEquals(result.substring(16 * 50, 16 * 51).getValue(), UNICODE_STR);
+    }
+
+    @Test
+    void testNonBmpStringCreation() {
+        BString str = StringUtils.fromString(UNICODE_STR);
+        Assert.assertTrue(str instanceof NonBmpStringValue);
+        Assert.assertEquals(((NonBmpStringValue) str).getSurrogates(), new int[]{1, 14});
+        Assert.assertEquals(str.length(), 16);
+    }
+
 }
@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link TableValueImpl}.
+ *
+ * @since 2201.0.1
+ */
+public class TableValueImplTest {
+
+    private static final BMapType ROW_TYPE = new BMapType(PredefinedTypes.TYPE_ANYDATA);
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    @Test
+    public void testPutGetRemove() {
+        TableValueImpl<Object, BMap<BString, Object>> table = keyedTable(1, 2, 3);
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertTrue(table.containsKey(2L));
+        Assert.assertEquals(table.get(2L).get(NAME), name(2));
+        Assert.assertNull(table.get(4L));
+
+        // An updated row keeps its position
+        BMap<BString, Object> updated = row(2, "updated");
+        table.put(updated);
+        Assert.assertSame(table.get(2L), updated);
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertEquals(ids(table.values()), List.of(1L, 2L, 3L));
+
+        Assert.assertSame(table.remove(2L), updated);
+        Assert.assertNull(table.remove(2L));
+        Assert.assertFalse(table.containsKey(2L));
+        Assert.assertNull(table.get(2L));
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(ids(table.values()), List.of(1L, 3L));
+        Assert.assertEquals(table.getKeys(), new Object[]{1L, 3L});
+
+        table.add(row(2, "added"));
+        Assert.assertEquals(ids(table.values()), List.of(1L, 3L, 2L));
+        Assert.assertEquals(iterate(table.getIterator()), List.of(1L, 3L, 2L));
+    }
+
+    @Test
+    public void testRowsAddedDuringIteration() {
+        TableValueImpl<Object, BMap<BString, Object>> table = keyedTable(1, 2);
+        IteratorValue iterator = table.getIterator();
+        Assert.assertEquals(nextId(iterator), 1L);
+        table.add(row(3, "three"));
+        Assert.assertEquals(iterate(iterator), List.of(2L, 3L));
+        Assert.assertFalse(iterator.hasNext());
+
+        table.add(row(4, "four"));
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(nextId(iterator), 4L);
+    }
+
+    @Test
+    public void testRemoveCurrentRowDuringIteration() {
+        TableValueImpl<Object, BMap<BString, Object>> table = keyedTable(1, 2, 3, 4);
+        IteratorValue iterator = table.getIterator();
+        List<Long> visited = new ArrayList<>();
+        while (iterator.hasNext()) {
+            long id = nextId(iterator);
+            visited.add(id);
+            table.remove(id);
+        }
+        Assert.assertEquals(visited, List.of(1L, 2L, 3L, 4L));
+        Assert.assertTrue(table.isEmpty());
+
+        table.add(row(5, "five"));
+        Assert.assertEquals(iterate(iterator), List.of(5L));
+    }
+
+    @Test
+    public void testRemoveRowsAroundIterator() {
+        TableValueImpl<Object, BMap<BString, Object>> table = keyedTable(1, 2, 3, 4, 5);
+        IteratorValue iterator = table.getIterator();
+        Assert.assertEquals(nextId(iterator), 1L);
+        Assert.assertEquals(nextId(iterator), 2L);
+
+        // Removing the rows before, at and after the iterator in different orders
+        table.remove(3L);
+        table.remove(2L);
+        table.remove(1L);
+        Assert.assertEquals(nextId(iterator), 4L);
+        table.remove(4L);
+        table.remove(5L);
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(ids(table.values()), List.of());
+
+        table.add(row(6, "six"));
+        Assert.assertEquals(iterate(iterator), List.of(6L));
+    }
+
+    @Test
+    public void testRemoveTailRowDuringIteration() {
+        TableValueImpl<Object, BMap<BString, Object>> table = keyedTable(1, 2, 3);
+        IteratorValue iterator = table.getIterator();
+        Assert.assertEquals(iterate(iterator), List.of(1L, 2L, 3L));
+
+        // Rows appended after the removed tail are linked to the new tail
+        table.remove(3L);
+        table.add(row(4, "four"));
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(iterate(iterator), List.of(4L));
+        Assert.assertEquals(ids(table.values()), List.of(1L, 2L, 4L));
+    }
+
+    @Test
+    public void testClearDuringIteration() {
+        TableValueImpl<Object, BMap<BString, Object>> table = keyedTable(1, 2, 3);
+        IteratorValue iterator = table.getIterator();
+        IteratorValue exhausted = table.getIterator();
+        Assert.assertEquals(nextId(iterator), 1L);
+        Assert.assertEquals(iterate(exhausted), List.of(1L, 2L, 3L));
+
+        table.clear();
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertNull(table.get(1L));
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertFalse(exhausted.hasNext());
+
+        // Rows of the cleared table are not visited again, the ones added afterwards are
+        table.add(row(2, "two"));
+        table.add(row(7, "seven"));
+        Assert.assertEquals(iterate(iterator), List.of(2L, 7L));
+        Assert.assertEquals(iterate(exhausted), List.of(2L, 7L));
+        Assert.assertEquals(iterate(table.getIterator()), List.of(2L, 7L));
+    }
+
+    @Test
+    public void testKeylessTable() {
+        TableValueImpl<Object, BMap<BString, Object>> table = new TableValueImpl<>(new BTableType(ROW_TYPE, false));
+        table.add(row(1, "one"));
+        table.add(row(1, "duplicate"));
+        table.add(row(2, "two"));
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertEquals(ids(table.values()), List.of(1L, 1L, 2L));
+
+        IteratorValue iterator = table.getIterator();
+        Assert.assertEquals(nextId(iterator), 1L);
+        table.clear();
+        table.add(row(3, "three"));
+        Assert.assertEquals(iterate(iterator), List.of(3L));
+        Assert.assertEquals(table.size(), 1);
+    }
+
+    private static TableValueImpl<Object, BMap<BString, Object>> keyedTable(long... ids) {
+        TableValueImpl<Object, BMap<BString, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"id"}, false));
+        for (long id : ids) {
+            table.add(row(id, name(id).getValue()));
+        }
+        return table;
+    }
+
+    private static BMap<BString, Object> row(long id, String name) {
+        BMap<BString, Object> row = new MapValueImpl<>(ROW_TYPE);
+        row.put(ID, id);
+        row.put(NAME, StringUtils.fromString(name));
+        return row;
+    }
+
+    private static BString name(long id) {
+        return StringUtils.fromString("row-" + id);
+    }
+
+    private static long nextId(IteratorValue iterator) {
+        BMap<?, ?> row = (BMap<?, ?>) ((BArray) iterator.next()).get(1);
+        return (Long) row.get(ID);
+    }
+
+    private static List<Long> iterate(IteratorValue iterator) {
+        List<Long> ids = new ArrayList<>();
+        while (iterator.hasNext()) {
+            ids.add(nextId(iterator));
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(Iterable<BMap<BString, Object>> rows) {
+        List<Long> ids = new ArrayList<>();
+        for (BMap<BString, Object> row : rows) {
+            ids.add((Long) row.get(ID));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for caching the results of type checks.
+ */
+public class TypeCheckCacheTest {
+
+    @DataProvider(name = "typePairs")
+    public Object[][] typePairs() {
+        Type intOrString = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        return new Object[][]{
+                {TypeCreator.createArrayType(PredefinedTypes.TYPE_INT), PredefinedTypes.TYPE_JSON, true},
+                {TypeCreator.createArrayType(PredefinedTypes.TYPE_HANDLE), PredefinedTypes.TYPE_JSON, false},
+                {TypeCreator.createMapType(intOrString), PredefinedTypes.TYPE_JSON, true},
+                {intOrString, PredefinedTypes.TYPE_JSON, true},
+                {intOrString, TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_FLOAT), false},
+                {TypeCreator.createMapType(PredefinedTypes.TYPE_JSON),
+                        TypeCreator.createArrayType(PredefinedTypes.TYPE_INT), false}
+        };
+    }
+
+    @Test(dataProvider = "typePairs")
+    public void testCachedResults(Type sourceType, Type targetType, boolean expected) {
+        TypeCheckCache.clear();
+        Assert.assertEquals(TypeChecker.checkIsType(sourceType, targetType), expected);
+        long hits = TypeCheckCache.getHitCount();
+        Assert.assertTrue(TypeCheckCache.getMissCount() > 0);
+
+        Assert.assertEquals(TypeChecker.checkIsType(sourceType, targetType), expected);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+}
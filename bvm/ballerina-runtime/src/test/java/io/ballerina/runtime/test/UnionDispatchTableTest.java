@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypeConverter;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.types.UnionDispatchTable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Test cases for narrowing down the member types of a union by the type of a value.
+ */
+public class UnionDispatchTableTest {
+
+    private final Type intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+    private final Type intMapType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+    private final Type finiteType = TypeCreator.createFiniteType("OneAndHalf", Set.of(1.5d), 0);
+    private final BUnionType unionType = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+            PredefinedTypes.TYPE_STRING, intArrayType, intMapType, finiteType);
+
+    @Test
+    public void testCandidateMembers() {
+        UnionDispatchTable dispatchTable = unionType.getDispatchTable();
+        Assert.assertEquals(dispatchTable.getCandidateMembers(TypeTags.INT_TAG),
+                List.of(PredefinedTypes.TYPE_INT, finiteType));
+        Assert.assertEquals(dispatchTable.getCandidateMembers(TypeTags.FLOAT_TAG),
+                List.of(PredefinedTypes.TYPE_INT, finiteType));
+        Assert.assertEquals(dispatchTable.getCandidateMembers(TypeTags.CHAR_STRING_TAG),
+                List.of(PredefinedTypes.TYPE_STRING, finiteType));
+        Assert.assertEquals(dispatchTable.getCandidateMembers(TypeTags.TUPLE_TAG), List.of(intArrayType, finiteType));
+        Assert.assertEquals(dispatchTable.getCandidateMembers(TypeTags.RECORD_TYPE_TAG),
+                List.of(intMapType, finiteType));
+        Assert.assertEquals(dispatchTable.getCandidateMembers(TypeTags.UNION_TAG), unionType.getMemberTypes());
+    }
+
+    @Test
+    public void testConversionCandidateMembers() {
+        Type tableType = TypeCreator.createTableType(intMapType, false);
+        BUnionType optionalTableType = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_STRING,
+                tableType, PredefinedTypes.TYPE_NULL);
+        UnionDispatchTable dispatchTable = optionalTableType.getDispatchTable();
+        // A list may be converted to a table, although it does not belong to one
+        Assert.assertEquals(dispatchTable.getCandidateMembers(TypeTags.ARRAY_TAG), List.of());
+        Assert.assertEquals(dispatchTable.getConversionCandidateMembers(TypeTags.ARRAY_TAG), List.of(tableType));
+        Assert.assertEquals(dispatchTable.getConversionCandidateMembers(TypeTags.STRING_TAG),
+                List.of(PredefinedTypes.TYPE_STRING, tableType));
+
+        BArray rows = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON));
+        rows.append(ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_JSON)));
+        Assert.assertEquals(TypeConverter.getConvertibleTypesFromJson(rows, optionalTableType, "", new ArrayList<>(),
+                new ArrayList<>()), List.of(tableType));
+    }
+
+    @Test
+    public void testValuesOfUnion() {
+        Assert.assertTrue(TypeChecker.checkIsType(10L, unionType));
+        Assert.assertTrue(TypeChecker.checkIsType(StringUtils.fromString("ten"), unionType));
+        Assert.assertTrue(TypeChecker.checkIsType(ValueCreator.createArrayValue(new long[]{1, 2}), unionType));
+        Assert.assertTrue(TypeChecker.checkIsType(1.5d, unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(2.5d, unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(true, unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(ValueCreator.createArrayValue(new double[]{1.5}), unionType));
+
+        UnionDispatchTable dispatchTable = unionType.getDispatchTable();
+        Assert.assertEquals(dispatchTable.getBasicTypeMembership(TypeTags.INT_TAG), Boolean.TRUE);
+        Assert.assertEquals(dispatchTable.getBasicTypeMembership(TypeTags.FLOAT_TAG), Boolean.FALSE);
+        Assert.assertNull(dispatchTable.getBasicTypeMembership(TypeTags.DECIMAL_TAG));
+    }
+}
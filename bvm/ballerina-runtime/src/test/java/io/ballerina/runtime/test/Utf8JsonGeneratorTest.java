@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for serializing JSON values directly as UTF-8 bytes.
+ */
+public class Utf8JsonGeneratorTest {
+
+    private static final Module MODULE = new Module("myOrg", "test_module", "1.0.0");
+
+    @DataProvider(name = "jsonDocuments")
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"name\":\"Jane\", \"age\":31, \"tags\":[\"a\", \"b\"], \"address\":{\"city\":\"Colombo\"}}"},
+                {"[1, -2, 3.25, -9223372036854775808, 9223372036854775807, true, false, null]"},
+                {"{\"escaped\":\"tab\\tquote\\\"slash\\/back\\\\\", \"slash\":\"a/b\"}"},
+                {"{\"bmp\":\"café ශ්‍රී\", \"nonBmp\":\"smile 😀 done\"}"},
+                {"[[], {}, [[{\"a\":[{}]}]], \"\"]"}
+        };
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    public void testSameOutputAsWriterGenerator(String json) {
+        Object value = JsonUtils.parse(json);
+        StringWriter writer = new StringWriter();
+        JsonUtils.serialize(value, writer);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(value, out, StandardCharsets.UTF_8);
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), writer.toString());
+        Assert.assertEquals(new String(JsonUtils.serializeToBytes(value), StandardCharsets.UTF_8), writer.toString());
+    }
+
+    @Test
+    public void testSerializeLargeValueToChannel() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            json.append(i == 0 ? "" : ", ").append("\"value é ").append(i).append('"');
+        }
+        json.append(']');
+        Object value = JsonUtils.parse(json.toString());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(value, Channels.newChannel(out));
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), json.toString());
+    }
+
+    @Test
+    public void testSerializeRecord() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED));
+        fields.put("na\"me", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "na\"me", SymbolFlags.REQUIRED));
+        RecordType recordType = TypeCreator.createRecordType("Person", MODULE, 0, fields,
+                                                             PredefinedTypes.TYPE_JSON, false, 0);
+        MapValueImpl<BString, Object> person = new MapValueImpl<>(recordType);
+        person.put(StringUtils.fromString("id"), 7L);
+        person.put(StringUtils.fromString("na\"me"), StringUtils.fromString("Jane"));
+        person.put(StringUtils.fromString("rest"), 1.5);
+
+        // the second value reuses the field names encoded for the first one
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(new String(JsonUtils.serializeToBytes(person), StandardCharsets.UTF_8),
+                                "{\"id\":7, \"na\\\"me\":\"Jane\", \"rest\":1.5}");
+        }
+        Assert.assertEquals(((BRecordType) recordType).getEncodedJsonFieldNames().keySet(), fields.keySet());
+
+        // replacing the fields drops the names encoded for the previous ones
+        Map<String, Field> renamed = new LinkedHashMap<>();
+        renamed.put("id", fields.get("id"));
+        renamed.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        ((BRecordType) recordType).setFields(renamed);
+        Assert.assertNull(((BRecordType) recordType).getEncodedJsonFieldNames());
+        MapValueImpl<BString, Object> renamedPerson = new MapValueImpl<>(recordType);
+        renamedPerson.put(StringUtils.fromString("id"), 8L);
+        renamedPerson.put(StringUtils.fromString("name"), StringUtils.fromString("John"));
+        Assert.assertEquals(new String(JsonUtils.serializeToBytes(renamedPerson), StandardCharsets.UTF_8),
+                            "{\"id\":8, \"name\":\"John\"}");
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for parsing UTF-8 encoded JSON content directly from bytes.
+ */
+public class Utf8JsonParserTest {
+
+    @DataProvider(name = "jsonDocuments")
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"name\": \"Jane\", \"age\": 31, \"tags\": [\"a\", \"b\"], \"address\": {\"city\": \"Colombo\"}}"},
+                {"[1, -2, 3.25, -0, -0.0, 9223372036854775807, -9223372036854775808, true, false, null]"},
+                {"  \"a long ascii string which is scanned eight bytes at a time\"  "},
+                {"{\"escaped\": \"tab\\tquote\\\"slash\\/back\\\\\", \"unicode\": \"\\u00e9\\ud83d\\ude00\"}"},
+                {"{\"bmp\": \"caf\u00e9 \u0dc1\u0dca\u200d\u0dbb\u0dd3\", \"nonBmp\": \"smile \ud83d\ude00 done\"}"},
+                {"[[], {}, [[{\"a\": [{}]}]], \"\"]"},
+                {"{\"dup\": 1, \"dup\": 2}"},
+                {"12345"}
+        };
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    public void testSameValuesAsCharParser(String json) {
+        Object expected = JsonUtils.parse(json);
+        Object actual = JsonUtils.parse(json.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(StringUtils.getJsonString(actual), StringUtils.getJsonString(expected));
+        if (expected != null) {
+            Assert.assertEquals(actual.getClass(), expected.getClass());
+        }
+    }
+
+    @Test
+    public void testNumericModes() {
+        byte[] json = "[1, 2.5]".getBytes(StandardCharsets.UTF_8);
+        for (JsonUtils.NonStringValueProcessingMode mode : JsonUtils.NonStringValueProcessingMode.values()) {
+            Assert.assertEquals(StringUtils.getJsonString(JsonUtils.parse(json, mode)),
+                                StringUtils.getJsonString(JsonUtils.parse("[1, 2.5]", mode)));
+        }
+    }
+
+    @Test
+    public void testParseByteBufferSlice() {
+        byte[] content = "xx{\"key\": \"value\"}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(content, 2, content.length - 4);
+        BMap<BString, Object> map = (BMap<BString, Object>) JsonUtils.parse(
+                buffer, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertEquals(map.get(StringUtils.fromString("key")).toString(), "value");
+        Assert.assertEquals(buffer.position(), 2);
+    }
+
+    @Test
+    public void testNonBmpStringLength() {
+        BString value = (BString) JsonUtils.parse("\"a\ud83d\ude00b\"".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(value.length(), 3);
+        Assert.assertEquals(value.getCodePoint(1), 0x1F600);
+    }
+
+    @DataProvider(name = "invalidJsonDocuments")
+    public Object[][] invalidJsonDocuments() {
+        return new Object[][]{
+                {"{\"a\": 1,\n \"b\" 2}", "expected ':' at line: 2"},
+                {"[1, 2", "unexpected end of JSON document"},
+                {"[1, 2}", "expected ',' or ']'"},
+                {"{\"a\": tru}", "unrecognized token 'tru'"},
+                {"[99999999999999999999]", "unrecognized token '99999999999999999999'"},
+                {"\"abc", "unexpected end of JSON document"},
+                {"\"\\x\"", "expected 'escaped characters'"},
+                {"{} {}", "JSON document has already ended"},
+                {"   ", "empty JSON document"},
+                {"[1,]", "expected a value, found ']'"},
+                {"[,1]", "expected a value, found ','"},
+                {"[1, ,2]", "expected a value, found ','"},
+                {"{\"a\":}", "expected a value, found '}'"},
+                {"{\"a\": ,\"b\": 1}", "expected a value, found ','"}
+        };
+    }
+
+    @Test(dataProvider = "invalidJsonDocuments")
+    public void testInvalidDocuments(String json, String expectedMessage) {
+        try {
+            JsonUtils.parse(json.getBytes(StandardCharsets.UTF_8));
+            Assert.fail("expected a parsing error for: " + json);
+        } catch (BError e) {
+            Assert.assertTrue(e.getErrorMessage().getValue().startsWith(expectedMessage),
+                              e.getErrorMessage().getValue());
+        }
+    }
+}
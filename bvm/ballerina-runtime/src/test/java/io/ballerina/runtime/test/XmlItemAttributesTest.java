@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.XmlItem;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the attributes of parsed XML elements.
+ */
+public class XmlItemAttributesTest {
+
+    private static final String NS_ATTRIBUTE_PREFIX = "{http://www.w3.org/2000/xmlns/}";
+
+    @Test
+    public void testAttributesOfParsedElement() {
+        XmlItem item = (XmlItem) XmlUtils.parse("<p:a xmlns:p=\"http://p.com\" id=\"1\" p:kind=\"x\"/>");
+        Assert.assertEquals(item.getAttribute("id", null).getValue(), "1");
+        Assert.assertEquals(item.getAttribute("kind", "http://p.com").getValue(), "x");
+        Assert.assertEquals(item.getAttribute("kind", null, "p").getValue(), "x");
+        Assert.assertNull(item.getAttribute("missing", null));
+
+        Map<String, String> attributes = new HashMap<>();
+        item.forEachAttribute((qname, value) -> attributes.put(qname.getValue(), value.getValue()));
+        Assert.assertEquals(attributes, Map.of("id", "1", "{http://p.com}kind", "x",
+                                               NS_ATTRIBUTE_PREFIX + "p", "http://p.com"));
+
+        BMap<BString, BString> attributesMap = item.getAttributesMap();
+        Assert.assertEquals(attributesMap.size(), attributes.size());
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            Assert.assertEquals(attributesMap.get(StringUtils.fromString(attribute.getKey())).getValue(),
+                                attribute.getValue());
+        }
+    }
+
+    @Test
+    public void testManyAttributes() {
+        StringBuilder xml = new StringBuilder("<a");
+        for (int i = 0; i < 20; i++) {
+            xml.append(" attr").append(i).append("=\"").append(i).append('"');
+        }
+        XmlItem item = (XmlItem) XmlUtils.parse(xml.append("/>").toString());
+        Assert.assertEquals(item.getAttributesMap().size(), 20);
+        Assert.assertEquals(item.getAttribute("attr19", null).getValue(), "19");
+        Assert.assertEquals(XmlUtils.parse(item.toString()).toString(), item.toString());
+    }
+
+    @Test
+    public void testUpdateAfterParsing() {
+        XmlItem item = (XmlItem) XmlUtils.parse("<a id=\"1\"/>");
+        XmlItem copy = (XmlItem) item.copy(new HashMap<>());
+        item.setAttribute("id", null, null, "2");
+        item.setAttribute("name", null, null, "n");
+        Assert.assertEquals(item.toString(), "<a id=\"2\" name=\"n\"/>");
+        Assert.assertEquals(copy.toString(), "<a id=\"1\"/>");
+        Assert.assertFalse(TypeChecker.isEqual(item, copy));
+
+        item.getAttributesMap().remove(StringUtils.fromString("name"));
+        item.setAttribute("id", null, null, "1");
+        Assert.assertTrue(TypeChecker.isEqual(item, copy));
+        Assert.assertEquals(item.hashCode(), copy.hashCode());
+    }
+
+    @Test(expectedExceptions = BError.class)
+    public void testUpdateFrozenElement() {
+        XmlItem item = (XmlItem) XmlUtils.parse("<a id=\"1\"/>");
+        item.freezeDirect();
+        item.getAttributesMap().put(StringUtils.fromString("id"), StringUtils.fromString("2"));
+    }
+}
@@ -43,14 +43,18 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -71,6 +75,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -94,6 +99,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -115,6 +121,8 @@ import static org.objectweb.asm.Opcodes.LSTORE;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -220,8 +228,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_GET_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_GET_ITEM;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_SET_ATTRIBUTE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getFieldIsPresentFlagName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeDescClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.isOptionalRecordField;
 
 /**
  * Instruction generator helper class to hold its enclosing pkg and index map.
@@ -244,6 +254,8 @@ public class JvmInstructionGen {
     private final SymbolTable symbolTable;
     private final AsyncDataCollector asyncDataCollector;
     private final JvmTypeTestGen typeTestGen;
+    // String constants loaded to variables in the current basic block, used to resolve record field names
+    private final Map<BIRNode.BIRVariableDcl, String> constantStringVars = new HashMap<>();
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -1350,6 +1362,11 @@ public class JvmInstructionGen {
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
         BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
 
+        Label endLabel = null;
+        if (!mapStoreIns.onInitialization) {
+            endLabel = generateRecordFieldStore(mapStoreIns);
+        }
+
         // visit key_expr
         this.loadVar(mapStoreIns.keyOp.variableDcl);
 
@@ -1368,6 +1385,128 @@ public class JvmInstructionGen {
         } else {
             this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", HANDLE_MAP_STORE, false);
         }
+
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
+    }
+
+    /**
+     * Generates a direct field store when the key is a field of the statically known record type. The map reference
+     * is expected on the stack, and it is left there if the value turns out to be of a different class or frozen, so
+     * that the generic store follows.
+     *
+     * @param mapStoreIns map store instruction
+     * @return label to jump after the generic store, or null if no direct store was generated
+     */
+    private Label generateRecordFieldStore(BIRNonTerminator.FieldAccess mapStoreIns) {
+        BField field = getStaticRecordField(mapStoreIns.lhsOp.variableDcl, mapStoreIns.keyOp.variableDcl);
+        if (field == null) {
+            return null;
+        }
+        String className = jvmPackageGen.lookupRecordValueClassName(
+                JvmCodeGenUtil.getReferredType(mapStoreIns.lhsOp.variableDcl.type));
+        String fieldName = field.name.value;
+        Label genericStoreLabel = new Label();
+        Label endLabel = new Label();
+
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericStoreLabel);
+        this.mv.visitInsn(DUP);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "isFrozen", "()Z", true);
+        this.mv.visitJumpInsn(IFNE, genericStoreLabel);
+
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        if (isOptionalRecordField(field)) {
+            this.mv.visitInsn(DUP);
+            this.mv.visitInsn(ICONST_1);
+            this.mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
+                                   getTypeDesc(symbolTable.booleanType));
+        }
+        BType valueType = mapStoreIns.rhsOp.variableDcl.type;
+        this.loadVar(mapStoreIns.rhsOp.variableDcl);
+        String fieldDesc = getTypeDesc(field.type);
+        if (!fieldDesc.equals(getTypeDesc(valueType))) {
+            jvmCastGen.addBoxInsn(this.mv, valueType);
+            jvmCastGen.addUnboxInsn(this.mv, field.type);
+        }
+        this.mv.visitFieldInsn(PUTFIELD, className, fieldName, fieldDesc);
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        this.mv.visitLabel(genericStoreLabel);
+        return endLabel;
+    }
+
+    /**
+     * Generates a direct field load when the key is a field of the statically known record type, falling back to
+     * the generic load if the value turns out to be of a different class. The map reference is expected on the
+     * stack.
+     *
+     * @param mapLoadIns map load instruction
+     * @return true if the load was generated
+     */
+    private boolean generateRecordFieldLoad(BIRNonTerminator.FieldAccess mapLoadIns) {
+        BField field = getStaticRecordField(mapLoadIns.rhsOp.variableDcl, mapLoadIns.keyOp.variableDcl);
+        if (field == null || (mapLoadIns.fillingRead && isOptionalRecordField(field))) {
+            return false;
+        }
+        String className = jvmPackageGen.lookupRecordValueClassName(
+                JvmCodeGenUtil.getReferredType(mapLoadIns.rhsOp.variableDcl.type));
+        String fieldName = field.name.value;
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        String fieldDesc = getTypeDesc(field.type);
+        boolean directStore = !isOptionalRecordField(field) && fieldDesc.equals(getTypeDesc(targetType));
+        Label genericLoadLabel = new Label();
+        Label boxedValueLabel = new Label();
+        Label endLabel = new Label();
+
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        if (isOptionalRecordField(field)) {
+            Label presentLabel = new Label();
+            this.mv.visitInsn(DUP);
+            this.mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
+                                   getTypeDesc(symbolTable.booleanType));
+            this.mv.visitJumpInsn(IFNE, presentLabel);
+            this.mv.visitInsn(POP);
+            this.mv.visitInsn(ACONST_NULL);
+            this.mv.visitJumpInsn(GOTO, boxedValueLabel);
+            this.mv.visitLabel(presentLabel);
+        }
+        this.mv.visitFieldInsn(GETFIELD, className, fieldName, fieldDesc);
+        if (directStore) {
+            this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+            this.mv.visitJumpInsn(GOTO, endLabel);
+        } else {
+            jvmCastGen.addBoxInsn(this.mv, field.type);
+            this.mv.visitJumpInsn(GOTO, boxedValueLabel);
+        }
+
+        this.mv.visitLabel(genericLoadLabel);
+        this.loadVar(mapLoadIns.keyOp.variableDcl);
+        String loadMethod = mapLoadIns.fillingRead ? "fillAndGet" : "get";
+        this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, loadMethod, PASS_OBJECT_RETURN_OBJECT, true);
+
+        this.mv.visitLabel(boxedValueLabel);
+        jvmCastGen.addUnboxInsn(this.mv, targetType);
+        this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        this.mv.visitLabel(endLabel);
+        return true;
+    }
+
+    private BField getStaticRecordField(BIRNode.BIRVariableDcl mapVarDcl, BIRNode.BIRVariableDcl keyVarDcl) {
+        BType mapType = JvmCodeGenUtil.getReferredType(mapVarDcl.type);
+        if (mapType.tag != TypeTags.RECORD) {
+            return null;
+        }
+        String fieldName = constantStringVars.get(keyVarDcl);
+        if (fieldName == null || jvmPackageGen.lookupRecordValueClassName(mapType) == null) {
+            return null;
+        }
+        return ((BRecordType) mapType).fields.get(fieldName);
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
@@ -1376,6 +1515,10 @@ public class JvmInstructionGen {
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
 
+        if (generateRecordFieldLoad(mapLoadIns)) {
+            return;
+        }
+
         // visit key_expr
         this.loadVar(mapLoadIns.keyOp.variableDcl);
 
@@ -1993,6 +2136,17 @@ public class JvmInstructionGen {
 
         JvmCodeGenUtil.loadConstantValue(loadIns.type, loadIns.value, this.mv, jvmConstantsGen);
         this.storeToVar(loadIns.lhsOp.variableDcl);
+        if (TypeTags.isStringTypeTag(JvmCodeGenUtil.getReferredType(loadIns.type).tag)) {
+            constantStringVars.put(loadIns.lhsOp.variableDcl, String.valueOf(loadIns.value));
+        }
+    }
+
+    /**
+     * Resets the state tracked within a basic block. Constants loaded in a basic block are not known in another
+     * block, since it may be reached through a different path.
+     */
+    void startBasicBlock() {
+        constantStringVars.clear();
     }
 
     private void loadListInitialValues(BIRNonTerminator.NewArray arrayNewIns) {
@@ -2023,6 +2177,12 @@ public class JvmInstructionGen {
     }
 
     void generateInstructions(int localVarOffset, BIRInstruction inst) {
+        if (!constantStringVars.isEmpty() && inst instanceof BIRNonTerminator) {
+            BIROperand lhsOp = ((BIRNonTerminator) inst).lhsOp;
+            if (lhsOp != null) {
+                constantStringVars.remove(lhsOp.variableDcl);
+            }
+        }
         if (inst instanceof BIRNonTerminator.BinaryOp) {
             generateBinaryOpIns((BIRNonTerminator.BinaryOp) inst);
         } else {
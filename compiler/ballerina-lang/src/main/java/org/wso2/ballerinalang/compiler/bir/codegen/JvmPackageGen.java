@@ -74,6 +74,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -141,6 +142,7 @@ public class JvmPackageGen {
     private final Map<String, String> externClassMap;
     private final Map<String, String> globalVarClassMap;
     private final Set<PackageID> dependentModules;
+    private final Map<BType, String> recordValueClassMap;
     private final BLangDiagnosticLog dlog;
     private final CompilerContext compilerContext;
 
@@ -150,6 +152,7 @@ public class JvmPackageGen {
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
         dependentModules = new LinkedHashSet<>();
+        recordValueClassMap = new IdentityHashMap<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
@@ -686,12 +689,35 @@ public class JvmPackageGen {
         globalVarClassMap.clear();
         externClassMap.clear();
         dependentModules.clear();
+        recordValueClassMap.clear();
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
         return this.birFunctionMap.get(lookupKey);
     }
 
+    /**
+     * Returns the value class generated for a record type of the current module.
+     *
+     * @param recordType record type
+     * @return name of the value class, or null if no value class is generated for the given type
+     */
+    public String lookupRecordValueClassName(BType recordType) {
+        return this.recordValueClassMap.get(recordType);
+    }
+
+    private void populateRecordValueClassMap(BIRPackage module) {
+        String packageName = JvmCodeGenUtil.getPackageName(module.packageID);
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            BType bType = JvmCodeGenUtil.getReferredType(typeDef.type);
+            // Record values are always created from the class named after the record type, skip the aliases
+            String typeName = typeDef.internalName.value;
+            if (bType.tag == TypeTags.RECORD && typeName.equals(toNameString(bType))) {
+                recordValueClassMap.put(bType, JvmValueGen.getTypeValueClassName(packageName, typeName));
+            }
+        }
+    }
+
     void addExternClassMapping(String key, String value) {
 
         this.externClassMap.put(key, value);
@@ -795,6 +821,7 @@ public class JvmPackageGen {
 
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
+        populateRecordValueClassMap(module);
 
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, typeHashVisitor);
@@ -26,8 +26,6 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
-import io.ballerina.runtime.internal.scheduling.Scheduler;
-import io.ballerina.runtime.internal.scheduling.Strand;
 import org.ballerinalang.langlib.array.utils.ArrayUtils;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -62,19 +60,31 @@ public class Filter {
 
         }
         int size = arr.size();
-        AtomicInteger newArraySize = new AtomicInteger(-1);
-        AtomicInteger index = new AtomicInteger(-1);
-        Strand parentStrand = Scheduler.getStrand();
-        AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                                                         () -> new Object[]{parentStrand,
-                                                                 arr.get(index.incrementAndGet()),
-                                                                 true},
-                                                         result -> {
-                                                             if ((boolean) result) {
-                                                                 newArr.add(newArraySize.incrementAndGet(),
-                                                                            arr.get(index.get()));
+        if (AsyncUtils.isConcurrentIterationAllowed(func, size)) {
+            // The selected members are added to the array in order once all the calls complete
+            boolean[] selected = new boolean[size];
+            AsyncUtils.invokeFunctionPointerConcurrently(func, null, METADATA, size,
+                                                         i -> new Object[]{null, arr.get(i), true},
+                                                         (result, i) -> selected[i] = (boolean) result,
+                                                         () -> {
+                                                             int newArraySize = 0;
+                                                             for (int i = 0; i < size; i++) {
+                                                                 if (selected[i]) {
+                                                                     newArr.add(newArraySize++, arr.get(i));
+                                                                 }
                                                              }
-                                                         }, () -> newArr, Scheduler.getStrand().scheduler);
+                                                             return newArr;
+                                                         });
+            return newArr;
+        }
+        AtomicInteger newArraySize = new AtomicInteger(-1);
+        AsyncUtils.invokeFunctionPointerIteratively(func, null, METADATA, size,
+                                                    i -> new Object[]{null, arr.get(i), true},
+                                                    (result, i) -> {
+                                                        if ((boolean) result) {
+                                                            newArr.add(newArraySize.incrementAndGet(), arr.get(i));
+                                                        }
+                                                    }, () -> newArr);
         return newArr;
     }
 
@@ -23,12 +23,8 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
-import io.ballerina.runtime.internal.scheduling.Scheduler;
-import io.ballerina.runtime.internal.scheduling.Strand;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessFunction;
@@ -53,12 +49,16 @@ public class ForEach {
         int size = arr.size();
         Type arrType = arr.getType();
         GetFunction getFn = getElementAccessFunction(arrType, "forEach()");
-        AtomicInteger index = new AtomicInteger(-1);
-        Strand parentStrand = Scheduler.getStrand();
-        AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                                                         () -> new Object[]{parentStrand,
-                                                                 getFn.get(arr, index.incrementAndGet()), true},
-                                                         result -> {
-                                                         }, () -> null, Scheduler.getStrand().scheduler);
+        if (AsyncUtils.isConcurrentIterationAllowed(func, size)) {
+            AsyncUtils.invokeFunctionPointerConcurrently(func, null, METADATA, size,
+                                                         i -> new Object[]{null, getFn.get(arr, i), true},
+                                                         (result, i) -> {
+                                                         }, () -> null);
+            return;
+        }
+        AsyncUtils.invokeFunctionPointerIteratively(func, null, METADATA, size,
+                                                    i -> new Object[]{null, getFn.get(arr, i), true},
+                                                    (result, i) -> {
+                                                    }, () -> null);
     }
 }
@@ -28,12 +28,8 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
-import io.ballerina.runtime.internal.scheduling.Scheduler;
-import io.ballerina.runtime.internal.scheduling.Strand;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
@@ -73,15 +69,23 @@ public class Map {
             default:
                 throw createOpNotSupportedError(arrType, "map()");
         }
-        AtomicInteger index = new AtomicInteger(-1);
-        Strand parentStrand = Scheduler.getStrand();
-        AsyncUtils
-                .invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                                                       () -> new Object[]{parentStrand,
-                                                               getFn.get(arr, index.incrementAndGet()), true},
-                                                       result -> retArr.add(index.get(), result),
-                                                       () -> retArr, Scheduler.getStrand().scheduler);
-
+        if (AsyncUtils.isConcurrentIterationAllowed(func, size)) {
+            // The results are added to the array in order once all the calls complete
+            Object[] results = new Object[size];
+            AsyncUtils.invokeFunctionPointerConcurrently(func, null, METADATA, size,
+                                                         i -> new Object[]{null, getFn.get(arr, i), true},
+                                                         (result, i) -> results[i] = result,
+                                                         () -> {
+                                                             for (int i = 0; i < size; i++) {
+                                                                 retArr.add(i, results[i]);
+                                                             }
+                                                             return retArr;
+                                                         });
+            return retArr;
+        }
+        AsyncUtils.invokeFunctionPointerIteratively(func, null, METADATA, size,
+                                                    i -> new Object[]{null, getFn.get(arr, i), true},
+                                                    (result, i) -> retArr.add(i, result), () -> retArr);
         return retArr;
     }
 }
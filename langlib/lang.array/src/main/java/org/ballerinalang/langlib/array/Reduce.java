@@ -23,11 +23,8 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
-import io.ballerina.runtime.internal.scheduling.Scheduler;
-import io.ballerina.runtime.internal.scheduling.Strand;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
@@ -50,15 +47,10 @@ public class Reduce {
         int size = arr.size();
         GetFunction getFn = getElementAccessFunction(arrType, "reduce()");
         AtomicReference<Object> accum = new AtomicReference<>(initial);
-        AtomicInteger index = new AtomicInteger(-1);
-        Strand parentStrand = Scheduler.getStrand();
-        AsyncUtils
-                .invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                                                       () -> new Object[]{parentStrand, accum.get(), true,
-                                                               getFn.get(arr, index.incrementAndGet()), true},
-                                                       accum::set, accum::get, Scheduler.getStrand().scheduler);
+        AsyncUtils.invokeFunctionPointerIteratively(func, null, METADATA, size,
+                                                    i -> new Object[]{null, accum.get(), true,
+                                                            getFn.get(arr, i), true},
+                                                    (result, i) -> accum.set(result), accum::get);
         return accum.get();
-
-        
     }
 }
@@ -18,15 +18,23 @@
 
 package org.ballerinalang.langlib.array;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.Arrays;
+import java.util.Comparator;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
@@ -40,75 +48,252 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+    // Below this length, splitting the sort across the common pool costs more than it saves
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 14;
+    private static final Comparator<BString> STRING_ORDER =
+            (lhs, rhs) -> ValueComparisonUtils.codePointCompare(lhs.getValue(), rhs.getValue());
+    private static final Comparator<Object> DECIMAL_ORDER =
+            (lhs, rhs) -> ValueComparisonUtils.compareDecimalValues((DecimalValue) lhs, (DecimalValue) rhs);
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
-
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        String sortDirection = direction.toString();
+        ArrayType arrayType = TypeCreator.createArrayType(arr.getElementType());
 
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
-            }
+            return sortByKey(arr, arrayType, function, sortDirection);
+        }
+
+        boolean ascending = sortDirection.equals(ASCENDING);
+        int elementTag = arr.getElementType().getTag();
+        if (TypeTags.isIntegerTypeTag(elementTag)) {
+            return sortInts(arr, arrayType, ascending);
+        }
+        if (elementTag == TypeTags.FLOAT_TAG) {
+            return sortFloats(arr, arrayType, ascending);
+        }
+        if (TypeTags.isStringTypeTag(elementTag)) {
+            return sortStrings(arr, arrayType, ascending);
+        }
+        if (elementTag == TypeTags.DECIMAL_TAG) {
+            return sortDecimals(arr, arrayType, ascending);
+        }
+
+        Object[] values = new Object[arr.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arr.get(i);
+        }
+        try {
+            Arrays.sort(values, valueOrder(sortDirection));
+        } catch (BError error) {
+            throw createInvalidTypeToSortError(error);
+        }
+        return createSortedArray(arrayType, values);
+    }
+
+    private static BArray sortInts(BArray arr, ArrayType arrayType, boolean ascending) {
+        long[] values = arr.getIntArray();
+        if (values.length < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(values);
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            Arrays.parallelSort(values);
+        }
+        if (!ascending) {
+            reverse(values, values.length);
+        }
+        return new ArrayValueImpl(values, arrayType);
+    }
+
+    private static BArray sortFloats(BArray arr, ArrayType arrayType, boolean ascending) {
+        double[] values = arr.getFloatArray();
+        if (values.length < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(values);
+        } else {
+            Arrays.parallelSort(values);
+        }
+        // NaN is placed last in both directions
+        int end = values.length;
+        while (end > 0 && Double.isNaN(values[end - 1])) {
+            end--;
+        }
+        if (!ascending) {
+            reverse(values, end);
+        }
+        restoreZeroOrder(arr, values, end);
+        return new ArrayValueImpl(values, arrayType);
+    }
+
+    /**
+     * Puts the zeros back in the order they have in the array, since -0.0 and 0.0 are equal when sorting but are
+     * ordered by sign in the sorted values.
+     */
+    private static void restoreZeroOrder(BArray arr, double[] values, int end) {
+        int start = 0;
+        while (start < end && values[start] != 0) {
+            start++;
+        }
+        int stop = start;
+        while (stop < end && values[stop] == 0) {
+            stop++;
+        }
+        if (stop - start < 2) {
+            return;
+        }
+        for (int i = 0, k = start; k < stop; i++) {
+            double value = arr.getFloat(i);
+            if (value == 0) {
+                values[k++] = value;
             }
         }
+    }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+    private static BArray sortStrings(BArray arr, ArrayType arrayType, boolean ascending) {
+        BString[] values = new BString[arr.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arr.getBString(i);
+        }
+        sort(values, ascending ? STRING_ORDER : STRING_ORDER.reversed());
+        return new ArrayValueImpl(values, arrayType);
+    }
 
-        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+    private static BArray sortDecimals(BArray arr, ArrayType arrayType, boolean ascending) {
+        Object[] values = new Object[arr.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arr.get(i);
+        }
+        sort(values, ascending ? DECIMAL_ORDER : DECIMAL_ORDER.reversed());
+        return ValueCreator.createArrayValue(values, arrayType);
+    }
+
+    private static BArray sortByKey(BArray arr, ArrayType arrayType, BFunctionPointer<Object, Object> function,
+                                    String direction) {
+        int size = arr.size();
+        // The key of each member is computed once, rather than each time the member is compared
+        Object[] keys = new Object[size];
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
+            order[i] = i;
+        }
+
+        try {
+            mergesort(order, new int[size], keys, 0, size - 1, valueOrder(direction));
+        } catch (BError error) {
+            throw createInvalidTypeToSortError(error);
+        }
 
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+        int elementTag = arrayType.getElementType().getTag();
+        if (TypeTags.isIntegerTypeTag(elementTag)) {
+            long[] values = new long[size];
+            for (int k = 0; k < size; k++) {
+                values[k] = arr.getInt(order[k]);
+            }
+            return new ArrayValueImpl(values, arrayType);
+        }
+        if (elementTag == TypeTags.FLOAT_TAG) {
+            double[] values = new double[size];
+            for (int k = 0; k < size; k++) {
+                values[k] = arr.getFloat(order[k]);
+            }
+            return new ArrayValueImpl(values, arrayType);
         }
+        if (TypeTags.isStringTypeTag(elementTag)) {
+            BString[] values = new BString[size];
+            for (int k = 0; k < size; k++) {
+                values[k] = arr.getBString(order[k]);
+            }
+            return new ArrayValueImpl(values, arrayType);
+        }
+        Object[] values = new Object[size];
+        for (int k = 0; k < size; k++) {
+            values[k] = arr.get(order[k]);
+        }
+        return createSortedArray(arrayType, values);
+    }
 
+    private static BArray createSortedArray(ArrayType arrayType, Object[] values) {
+        int elementTag = arrayType.getElementType().getTag();
+        if (elementTag != TypeTags.BOOLEAN_TAG && elementTag != TypeTags.BYTE_TAG) {
+            return ValueCreator.createArrayValue(values, arrayType);
+        }
+        BArray sortedArray = ValueCreator.createArrayValue(arrayType);
+        for (int k = 0; k < values.length; k++) {
+            sortedArray.add(k, values[k]);
+        }
         return sortedArray;
     }
 
+    private static Comparator<Object> valueOrder(String direction) {
+        if (direction.equals(ASCENDING)) {
+            return (lhs, rhs) -> ValueComparisonUtils.compareValues(lhs, rhs, direction);
+        }
+        // () and NaN are placed last by both comparisons, so the operands are swapped rather than the result negated
+        return (lhs, rhs) -> ValueComparisonUtils.compareValues(rhs, lhs, direction);
+    }
+
+    private static <T> void sort(T[] values, Comparator<? super T> comparator) {
+        if (values.length < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(values, comparator);
+        } else {
+            Arrays.parallelSort(values, comparator);
+        }
+    }
+
+    private static void reverse(long[] values, int end) {
+        for (int i = 0, j = end - 1; i < j; i++, j--) {
+            long temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+
+    private static void reverse(double[] values, int end) {
+        for (int i = 0, j = end - 1; i < j; i++, j--) {
+            double temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+
+    private static BError createInvalidTypeToSortError(BError error) {
+        return ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                (BMap) error.getDetails());
+    }
+
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
+    private static void mergesort(int[] order, int[] aux, Object[] keys, int lo, int hi,
+                                  Comparator<Object> comparator) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        mergesort(order, aux, keys, lo, mid, comparator);
+        mergesort(order, aux, keys, mid + 1, hi, comparator);
 
-        merge(input, aux, lo, mid, hi, direction);
+        // The halves are already in order
+        if (comparator.compare(keys[order[mid + 1]], keys[order[mid]]) >= 0) {
+            return;
+        }
+        merge(order, aux, keys, lo, mid, hi, comparator);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
-        }
+    private static void merge(int[] order, int[] aux, Object[] keys, int lo, int mid, int hi,
+                              Comparator<Object> comparator) {
+        System.arraycopy(order, lo, aux, lo, hi + 1 - lo);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
-                if (i > mid) {
-                    index = j++;
-                } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
-                } else {
-                    index = i++;
-                }
-                input[k] = aux[index];
-
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap) error.getDetails());
+            if (i > mid) {
+                order[k] = aux[j++];
+            } else if (j > hi) {
+                order[k] = aux[i++];
+            } else if (comparator.compare(keys[aux[j]], keys[aux[i]]) < 0) {
+                order[k] = aux[j++];
+            } else {
+                order[k] = aux[i++];
             }
         }
     }
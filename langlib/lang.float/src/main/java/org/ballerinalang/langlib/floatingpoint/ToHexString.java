@@ -29,6 +29,6 @@ import io.ballerina.runtime.api.values.BString;
 public class ToHexString {
 
     public static BString toHexString(double n) {
-        return StringUtils.fromString(Double.toHexString(n));
+        return StringUtils.fromBmpString(Double.toHexString(n));
     }
 }
@@ -30,8 +30,8 @@ public class ToHexString {
 
     public static BString toHexString(long n) {
         if (n < 0) {
-           return StringUtils.fromString("-" + Long.toHexString(-1 * n));
+           return StringUtils.fromBmpString("-" + Long.toHexString(-1 * n));
         }
-        return StringUtils.fromString(Long.toHexString(n));
+        return StringUtils.fromBmpString(Long.toHexString(n));
     }
 }
@@ -28,6 +28,10 @@ import io.ballerina.runtime.api.values.BString;
  */
 public class ToString {
     public static BString toString(Object value) {
+        if (value instanceof Long || value instanceof Double || value instanceof Boolean) {
+            // numbers and booleans are always formatted with ASCII chars
+            return StringUtils.fromBmpString(StringUtils.getStringValue(value, null));
+        }
         return StringUtils.fromString(StringUtils.getStringValue(value, null));
     }
 }
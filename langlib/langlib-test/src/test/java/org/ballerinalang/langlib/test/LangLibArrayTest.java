@@ -18,6 +18,7 @@
 
 package org.ballerinalang.langlib.test;
 
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import org.ballerinalang.core.model.types.TypeTags;
 import org.ballerinalang.core.model.values.BBoolean;
 import org.ballerinalang.core.model.values.BFloat;
@@ -479,6 +480,28 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test(dataProvider = "concurrentIterationFunctions")
+    public void testConcurrentIteration(String funcName) {
+        // Lowered so that the isolated callbacks of the test functions are called concurrently
+        int previousThreshold = AsyncUtils.setConcurrentIterationThreshold(2);
+        try {
+            BRunUtil.invoke(compileResult, funcName);
+        } finally {
+            AsyncUtils.setConcurrentIterationThreshold(previousThreshold);
+        }
+    }
+
+    @DataProvider(name = "concurrentIterationFunctions")
+    public Object[] concurrentIterationFunctions() {
+        return new String[]{
+                "testConcurrentMap",
+                "testConcurrentFilter",
+                "testConcurrentForEach",
+                "testConcurrentMapWithPanic",
+                "testConcurrentForEachWithPanic"
+        };
+    }
+
     @DataProvider(name = "FunctionList")
     public Object[] testFunctions() {
         return new String[]{
@@ -495,6 +518,7 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
                 "testTupleReverse",
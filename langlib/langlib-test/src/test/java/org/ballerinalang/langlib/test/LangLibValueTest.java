@@ -404,6 +404,7 @@ public class LangLibValueTest {
                 { "testFromJsonWithTypeIntArray" },
                 { "testFromJsonWithTypeArrayNegative" },
                 { "testFromJsonWithTypeTable" },
+                { "testFromJsonWithTypeOptionalTable" },
                 { "tesFromJsonWithTypeMapWithDecimal" },
                 { "testConvertJsonToAmbiguousType" },
                 { "testFromJsonWithTypeWithNullValues" },
@@ -1333,6 +1333,52 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSort11() {
+    float[] arr = [2.5, 0.0, -1.0, 0.0 / 0.0, -0.0, 0.0];
+
+    float[] sortedArr = arr.sort();
+    assertValueEquality(sortedArr[0], -1.0);
+    assertTrue(1.0 / sortedArr[1] > 0.0);
+    assertTrue(1.0 / sortedArr[2] < 0.0);
+    assertTrue(1.0 / sortedArr[3] > 0.0);
+    assertValueEquality(sortedArr[4], 2.5);
+    assertTrue(sortedArr[5].isNaN());
+
+    float[] sortedArr2 = arr.sort(array:DESCENDING);
+    assertValueEquality(sortedArr2[0], 2.5);
+    assertTrue(1.0 / sortedArr2[1] > 0.0);
+    assertTrue(1.0 / sortedArr2[2] < 0.0);
+    assertTrue(1.0 / sortedArr2[3] > 0.0);
+    assertValueEquality(sortedArr2[4], -1.0);
+    assertTrue(sortedArr2[5].isNaN());
+
+    string[] arr2 = ["\u{1F600}", "\u{FFFD}", "b", "", "ab"];
+
+    string[] sortedArr3 = arr2.sort();
+    assertValueEquality(sortedArr3, ["", "ab", "b", "\u{FFFD}", "\u{1F600}"]);
+
+    string[] sortedArr4 = arr2.sort(array:DESCENDING);
+    assertValueEquality(sortedArr4, ["\u{1F600}", "\u{FFFD}", "b", "ab", ""]);
+
+    decimal[] arr3 = [1.5, -2, 0.1, 1.50, 100];
+
+    decimal[] sortedArr5 = arr3.sort(array:DESCENDING);
+    assertValueEquality(sortedArr5, <decimal[]>[100, 1.5, 1.5, 0.1, -2]);
+
+    int[] arr4 = [];
+    foreach int i in 0 ..< 100000 {
+        arr4.push((i * 7919) % 100003);
+    }
+
+    int[] sortedArr6 = arr4.sort();
+    int[] sortedArr7 = arr4.sort(array:DESCENDING, isolated function(int i) returns int => i);
+    assertValueEquality(sortedArr6.length(), 100000);
+    foreach int i in 1 ..< sortedArr6.length() {
+        assertTrue(sortedArr6[i - 1] <= sortedArr6[i]);
+        assertValueEquality(sortedArr6[i], sortedArr7[sortedArr7.length() - 1 - i]);
+    }
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2, "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -1458,3 +1504,101 @@ function testUnshiftLargeValues() {
     assertValueEquality(199, list[200]);
     assertValueEquality(0, list[399]);
 }
+
+// Large enough to be split into several ranges when the concurrent iteration threshold is lowered by the test
+const CONCURRENT_ITERATION_SIZE = 1000;
+
+function createSequence(int size) returns int[] {
+    int[] list = [];
+    foreach int i in 0 ..< size {
+        list.push(i);
+    }
+    return list;
+}
+
+function testConcurrentMap() {
+    int[] list = createSequence(CONCURRENT_ITERATION_SIZE);
+    string[] mapped = list.map(isolated function(int i) returns string {
+        return (i * 2).toString();
+    });
+    assertValueEquality(CONCURRENT_ITERATION_SIZE, mapped.length());
+    foreach int i in 0 ..< mapped.length() {
+        assertValueEquality((i * 2).toString(), mapped[i]);
+    }
+}
+
+function testConcurrentFilter() {
+    int[] list = createSequence(CONCURRENT_ITERATION_SIZE);
+    int[] filtered = list.filter(isolated function(int i) returns boolean {
+        return i % 3 == 1;
+    });
+    assertValueEquality(CONCURRENT_ITERATION_SIZE / 3, filtered.length());
+    foreach int i in 0 ..< filtered.length() {
+        assertValueEquality(i * 3 + 1, filtered[i]);
+    }
+}
+
+isolated class Accumulator {
+    private int sum = 0;
+    private int count = 0;
+
+    isolated function add(int value) {
+        lock {
+            self.sum += value;
+            self.count += 1;
+        }
+    }
+
+    isolated function getSum() returns int {
+        lock {
+            return self.sum;
+        }
+    }
+
+    isolated function getCount() returns int {
+        lock {
+            return self.count;
+        }
+    }
+}
+
+function testConcurrentForEach() {
+    int[] list = createSequence(CONCURRENT_ITERATION_SIZE);
+    final Accumulator accumulator = new;
+    list.forEach(isolated function(int i) {
+        accumulator.add(i);
+    });
+    assertValueEquality(CONCURRENT_ITERATION_SIZE, accumulator.getCount());
+    assertValueEquality(CONCURRENT_ITERATION_SIZE * (CONCURRENT_ITERATION_SIZE - 1) / 2, accumulator.getSum());
+}
+
+function testConcurrentMapWithPanic() {
+    int[] list = createSequence(CONCURRENT_ITERATION_SIZE);
+    int[]|error res = trap list.map(isolated function(int i) returns int {
+        if i == 700 {
+            panic error("MapError", message = "failed at " + i.toString());
+        }
+        return i;
+    });
+    assertTrue(res is error);
+    error err = <error>res;
+    var message = err.detail()["message"];
+    string detailMessage = message is error ? message.toString() : message.toString();
+    assertValueEquality("MapError", err.message());
+    assertValueEquality("failed at 700", detailMessage);
+}
+
+function testConcurrentForEachWithPanic() {
+    int[] list = createSequence(CONCURRENT_ITERATION_SIZE);
+    final Accumulator accumulator = new;
+    error? res = trap list.forEach(isolated function(int i) {
+        if i == 300 {
+            panic error("ForEachError");
+        }
+        accumulator.add(1);
+    });
+    assertTrue(res is error);
+    assertValueEquality("ForEachError", (<error>res).message());
+    // The other ranges are not stopped by the panic, but the range which panicked is
+    assertTrue(accumulator.getCount() < CONCURRENT_ITERATION_SIZE);
+}
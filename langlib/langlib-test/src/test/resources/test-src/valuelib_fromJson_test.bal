@@ -191,6 +191,25 @@ function testFromJsonWithTypeTable() {
 
 }
 
+type OptionalTableFoo4 table<Foo4>?;
+
+function testFromJsonWithTypeOptionalTable() {
+    json jj = [
+        {x3: "abc"},
+        {x3: "def"}
+    ];
+
+    table<Foo4>?|error tab = jj.fromJsonWithType(OptionalTableFoo4);
+    assertEquality(tab is table<Foo4>, true);
+    table<Foo4> tabFoo4 = <table<Foo4>> checkpanic tab;
+    assertEquality(tabFoo4.length(), 2);
+    assertEquality(tabFoo4.toArray()[1].x3, "def");
+
+    json nilJson = ();
+    tab = nilJson.fromJsonWithType(OptionalTableFoo4);
+    assertEquality(tab, ());
+}
+
 type IntVal record {int? x;};
 
 type PostGradStudent record {|
@@ -41,6 +41,7 @@ public enum JVMValueType {
     BTYPE_SERVICE("BServiceType"),
     BMP_STRING(INTERNAL_VALUE_PREFIX + "BmpStringValue"),
     NON_BMP_STRING(INTERNAL_VALUE_PREFIX + "NonBmpStringValue"),
+    ROPE_STRING(INTERNAL_VALUE_PREFIX + "RopeStringValue"),
     DECIMAL(INTERNAL_VALUE_PREFIX + "DecimalValue"),
     OBJECT_VALUE(INTERNAL_VALUE_PREFIX + "ObjectValue"),
     ARRAY_VALUE(INTERNAL_VALUE_PREFIX + "ArrayValue"),
@@ -20,14 +20,17 @@ import com.sun.jdi.ClassType;
 import com.sun.jdi.Field;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
+import com.sun.jdi.StringReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
 import org.ballerinalang.debugadapter.jdi.LocalVariableProxyImpl;
 
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +48,9 @@ public class VariableUtils {
     public static final String FIELD_PACKAGE = "pkg";
     public static final String FIELD_PKG_ORG = "org";
     public static final String FIELD_PKG_NAME = "name";
+    private static final String FIELD_ROPE_FLAT = "flat";
+    private static final String FIELD_ROPE_LEFT = "left";
+    private static final String FIELD_ROPE_RIGHT = "right";
     private static final String FIELD_CONSTRAINT = "constraint";
     private static final String METHOD_STRINGVALUE = "stringValue";
     public static final String UNKNOWN_VALUE = "unknown";
@@ -143,6 +149,9 @@ public class VariableUtils {
                 return UNKNOWN_VALUE;
             }
             ObjectReference stringRef = (ObjectReference) stringValue;
+            if (stringRef.referenceType().name().equals(JVMValueType.ROPE_STRING.getString())) {
+                return removeRedundantQuotes(getRopeStringFrom(stringRef));
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -158,6 +167,33 @@ public class VariableUtils {
         }
     }
 
+    /**
+     * Concatenates the fragments of a lazily concatenated ballerina string, without flattening it in the debuggee.
+     *
+     * @param ropeRef JDI value of the rope string instance
+     * @return actual string.
+     */
+    private static String getRopeStringFrom(ObjectReference ropeRef) throws DebugVariableException {
+        StringBuilder sb = new StringBuilder();
+        Deque<Value> pending = new ArrayDeque<>();
+        pending.push(ropeRef);
+        while (!pending.isEmpty()) {
+            ObjectReference node = (ObjectReference) pending.pop();
+            if (node.referenceType().name().equals(JVMValueType.ROPE_STRING.getString())) {
+                Optional<Value> flat = getFieldValue(node, FIELD_ROPE_FLAT);
+                if (flat.isPresent()) {
+                    pending.push(flat.get());
+                } else {
+                    getFieldValue(node, FIELD_ROPE_RIGHT).ifPresent(pending::push);
+                    getFieldValue(node, FIELD_ROPE_LEFT).ifPresent(pending::push);
+                }
+                continue;
+            }
+            getFieldValue(node, FIELD_VALUE).ifPresent(value -> sb.append(((StringReference) value).value()));
+        }
+        return sb.toString();
+    }
+
     /**
      * Invokes "stringValue()" method of the given ballerina jvm variable instance and returns the result as a string.
      *
@@ -0,0 +1,518 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PercentileValue;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Renders the metrics of a {@link MetricRegistry} in the Prometheus text exposition format.
+ * <p>
+ * The label set and the rendered samples of each metric are cached between scrapes, and a metric is rendered again
+ * only when one of its values has changed. {@link #exportChanges()} writes only the metrics which changed since the
+ * previous call to it, for collectors which keep the previously scraped samples. Metrics which were removed from the
+ * registry since then are written as {@code # REMOVED <name>{<labels>}} comment lines, which the standard parsers
+ * ignore. The output buffer is reused, hence an exporter should not be shared by scrapers which need to hold on to
+ * the output.
+ * <p>
+ * A gauge with statistics is written as the gauge value, the number and the sum of all the values set, and the
+ * percentiles, min, max, mean and standard deviation of each time window, labelled with the window in milliseconds.
+ * <p>
+ * The exporter is not used by the {@link DefaultMetricProvider} itself. A reporter serving the metrics over HTTP
+ * creates one for the registry it exposes.
+ *
+ * @since 2201.0.1
+ */
+public class PrometheusTextExporter {
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 8 * 1024;
+
+    private static final String TYPE_COUNTER = "counter";
+    private static final String TYPE_GAUGE = "gauge";
+
+    private static final String[] COUNTER_SUFFIXES = {""};
+    private static final String[] COUNTER_TYPES = {TYPE_COUNTER};
+    private static final String[] GAUGE_SUFFIXES = {""};
+    private static final String[] GAUGE_TYPES = {TYPE_GAUGE};
+    // The totals of all the values set, followed by the statistics of each time window
+    private static final String[] SUMMARIZED_GAUGE_SUFFIXES = {"", "_count", "_sum", "_quantile", "_min", "_max",
+            "_mean", "_stddev"};
+    private static final String[] SUMMARIZED_GAUGE_TYPES = {TYPE_GAUGE, TYPE_COUNTER, TYPE_GAUGE, TYPE_GAUGE,
+            TYPE_GAUGE, TYPE_GAUGE, TYPE_GAUGE, TYPE_GAUGE};
+    private static final int COUNT_SECTION = 1;
+    private static final int SUM_SECTION = 2;
+    private static final int QUANTILE_SECTION = 3;
+    private static final int MIN_SECTION = 4;
+
+    private static final String TIME_WINDOW_LABEL = "time_window";
+    private static final String QUANTILE_LABEL = "quantile";
+
+    private final MetricRegistry metricRegistry;
+    private final StringBuilder buffer = new StringBuilder(INITIAL_BUFFER_SIZE);
+    private final Map<Metric, Series> seriesByMetric = new IdentityHashMap<>();
+    private final Map<String, Family> families = new TreeMap<>();
+    // Series reported by exportChanges() which have been removed from the registry since then
+    private final List<String> removedSeries = new ArrayList<>();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private long scrapeCount;
+
+    public PrometheusTextExporter(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    /**
+     * Renders all the metrics in the registry.
+     *
+     * @return the rendered metrics, which are valid only until the next export
+     */
+    public synchronized CharSequence export() {
+        return render(false);
+    }
+
+    /**
+     * Renders only the metrics which were added or changed since the previous call to this method, and the metrics
+     * which were removed since then. A full {@link #export()} in between does not affect what is written.
+     *
+     * @return the rendered metrics, which are valid only until the next export
+     */
+    public synchronized CharSequence exportChanges() {
+        return render(true);
+    }
+
+    /**
+     * Renders the metrics in the registry and writes them to the given stream as UTF-8.
+     *
+     * @param out          the stream to write to
+     * @param changesOnly  whether to write only the changes since the previous export of changes, as done by
+     *                     {@link #exportChanges()}
+     * @throws IOException if the metrics could not be written to the stream
+     */
+    public synchronized void export(OutputStream out, boolean changesOnly) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(render(changesOnly));
+        encoder.reset();
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, writeBuffer, true);
+            drain(out);
+        } while (result.isOverflow());
+        do {
+            result = encoder.flush(writeBuffer);
+            drain(out);
+        } while (result.isOverflow());
+    }
+
+    private void drain(OutputStream out) throws IOException {
+        out.write(writeBuffer.array(), 0, writeBuffer.position());
+        writeBuffer.clear();
+    }
+
+    private CharSequence render(boolean changesOnly) {
+        collect();
+        buffer.setLength(0);
+        if (changesOnly) {
+            for (String removed : removedSeries) {
+                buffer.append(removed);
+            }
+            removedSeries.clear();
+        }
+        for (Family family : families.values()) {
+            family.render(buffer, changesOnly);
+        }
+        return buffer;
+    }
+
+    private void collect() {
+        scrapeCount++;
+        for (Family family : families.values()) {
+            family.members.clear();
+        }
+        for (Metric metric : metricRegistry.getAllMetrics()) {
+            Series series = seriesByMetric.get(metric);
+            if (series == null) {
+                series = new Series(metric);
+                seriesByMetric.put(metric, series);
+            }
+            series.lastScrape = scrapeCount;
+            series.update();
+
+            Family family = families.get(series.name);
+            if (family == null) {
+                family = new Family(series.name, metric.getId().getDescription(), series.suffixes, series.types);
+                families.put(series.name, family);
+            }
+            family.members.add(series);
+        }
+        seriesByMetric.values().removeIf(series -> {
+            if (series.lastScrape == scrapeCount) {
+                return false;
+            }
+            if (series.reportedVersion != 0) {
+                removedSeries.add("# REMOVED " + series.name + (series.labels.isEmpty() ? "" :
+                        "{" + series.labels + "}") + "\n");
+            }
+            return true;
+        });
+        families.values().removeIf(family -> family.members.isEmpty());
+    }
+
+    /**
+     * The metrics sharing a name, which are written under the same HELP and TYPE lines.
+     */
+    private static class Family {
+
+        private final String[] headers;
+        private final List<Series> members = new ArrayList<>();
+
+        Family(String name, String description, String[] suffixes, String[] types) {
+            headers = new String[suffixes.length];
+            String help = description == null || description.isEmpty() ? name : escapeHelp(description);
+            for (int i = 0; i < suffixes.length; i++) {
+                String sectionName = name + suffixes[i];
+                headers[i] = "# HELP " + sectionName + " " + help + "\n# TYPE " + sectionName + " " + types[i] + "\n";
+            }
+        }
+
+        void render(StringBuilder out, boolean changesOnly) {
+            if (changesOnly && !hasChanges()) {
+                return;
+            }
+            for (int section = 0; section < headers.length; section++) {
+                out.append(headers[section]);
+                for (Series series : members) {
+                    if ((!changesOnly || series.hasUnreportedChanges()) && section < series.sections.length
+                            && series.sections[section] != null) {
+                        out.append(series.sections[section]);
+                    }
+                }
+            }
+            if (changesOnly) {
+                for (Series series : members) {
+                    series.reportedVersion = series.version;
+                }
+            }
+        }
+
+        private boolean hasChanges() {
+            for (Series series : members) {
+                if (series.hasUnreportedChanges()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The cached labels, last seen values and rendered samples of a metric.
+     */
+    private static class Series {
+
+        private final Metric metric;
+        private final String name;
+        private final String labels;
+        private final String[] suffixes;
+        private final String[] types;
+        private final String[] sections;
+        private long lastScrape;
+        private boolean rendered;
+        // Incremented whenever the samples are rendered again
+        private long version;
+        // The version last written by exportChanges(), which is 0 if the series has not been written by it
+        private long reportedVersion;
+
+        private long lastCount;
+        private double lastValue;
+        private double lastSum;
+        private double[] lastStatistics;
+        private Snapshot[] snapshots;
+
+        Series(Metric metric) {
+            this.metric = metric;
+            MetricId id = metric.getId();
+            this.name = sanitizeName(id.getName());
+            this.labels = renderLabels(id);
+            if (metric instanceof Counter) {
+                suffixes = COUNTER_SUFFIXES;
+                types = COUNTER_TYPES;
+            } else if (metric instanceof Gauge && ((Gauge) metric).getStatisticsConfig().length > 0) {
+                suffixes = SUMMARIZED_GAUGE_SUFFIXES;
+                types = SUMMARIZED_GAUGE_TYPES;
+            } else {
+                suffixes = GAUGE_SUFFIXES;
+                types = GAUGE_TYPES;
+            }
+            sections = new String[suffixes.length];
+        }
+
+        void update() {
+            boolean changed;
+            if (metric instanceof Counter) {
+                changed = updateCounter((Counter) metric);
+            } else if (metric instanceof Gauge) {
+                changed = updateGauge((Gauge) metric);
+            } else if (metric instanceof PolledGauge) {
+                changed = updateValue(((PolledGauge) metric).getValue());
+            } else {
+                changed = false;
+            }
+            if (changed) {
+                render();
+            }
+        }
+
+        boolean hasUnreportedChanges() {
+            return version != reportedVersion;
+        }
+
+        private boolean updateCounter(Counter counter) {
+            long value = counter.getValue();
+            if (rendered && value == lastCount) {
+                return false;
+            }
+            lastCount = value;
+            return true;
+        }
+
+        private boolean updateValue(double value) {
+            if (rendered && Double.compare(value, lastValue) == 0) {
+                return false;
+            }
+            lastValue = value;
+            return true;
+        }
+
+        private boolean updateGauge(Gauge gauge) {
+            double value = gauge.getValue();
+            if (sections.length == 1) {
+                return updateValue(value);
+            }
+            long count = gauge.getCount();
+            double sum = gauge.getSum();
+            Snapshot[] currentSnapshots = gauge.getSnapshots();
+            double[] statistics = flatten(currentSnapshots);
+            if (rendered && Double.compare(value, lastValue) == 0 && count == lastCount
+                    && Double.compare(sum, lastSum) == 0 && Arrays.equals(statistics, lastStatistics)) {
+                return false;
+            }
+            lastValue = value;
+            lastCount = count;
+            lastSum = sum;
+            lastStatistics = statistics;
+            snapshots = currentSnapshots;
+            return true;
+        }
+
+        private static double[] flatten(Snapshot[] snapshots) {
+            int size = 0;
+            for (Snapshot snapshot : snapshots) {
+                size += 4 + snapshot.getPercentileValues().length;
+            }
+            double[] statistics = new double[size];
+            int i = 0;
+            for (Snapshot snapshot : snapshots) {
+                statistics[i++] = snapshot.getMin();
+                statistics[i++] = snapshot.getMax();
+                statistics[i++] = snapshot.getMean();
+                statistics[i++] = snapshot.getStdDev();
+                for (PercentileValue percentileValue : snapshot.getPercentileValues()) {
+                    statistics[i++] = percentileValue.getValue();
+                }
+            }
+            return statistics;
+        }
+
+        private void render() {
+            rendered = true;
+            version++;
+            StringBuilder sb = new StringBuilder();
+            if (metric instanceof Counter) {
+                appendSample(sb, name, labels, null, Long.toString(lastCount));
+                sections[0] = sb.toString();
+                return;
+            }
+            appendSample(sb, name, labels, null, formatValue(lastValue));
+            sections[0] = sb.toString();
+            if (sections.length == 1) {
+                return;
+            }
+
+            sb.setLength(0);
+            appendSample(sb, name + SUMMARIZED_GAUGE_SUFFIXES[COUNT_SECTION], labels, null, Long.toString(lastCount));
+            sections[COUNT_SECTION] = sb.toString();
+
+            sb.setLength(0);
+            appendSample(sb, name + SUMMARIZED_GAUGE_SUFFIXES[SUM_SECTION], labels, null, formatValue(lastSum));
+            sections[SUM_SECTION] = sb.toString();
+
+            sb.setLength(0);
+            String quantileName = name + SUMMARIZED_GAUGE_SUFFIXES[QUANTILE_SECTION];
+            for (Snapshot snapshot : snapshots) {
+                String windowLabel = timeWindowLabel(snapshot);
+                for (PercentileValue percentileValue : snapshot.getPercentileValues()) {
+                    appendSample(sb, quantileName, labels, windowLabel + "," + QUANTILE_LABEL + "=\""
+                            + formatValue(percentileValue.getPercentile()) + "\"",
+                            formatValue(percentileValue.getValue()));
+                }
+            }
+            sections[QUANTILE_SECTION] = sb.toString();
+
+            for (int section = MIN_SECTION; section < sections.length; section++) {
+                sb.setLength(0);
+                String sectionName = name + SUMMARIZED_GAUGE_SUFFIXES[section];
+                for (Snapshot snapshot : snapshots) {
+                    appendSample(sb, sectionName, labels, timeWindowLabel(snapshot),
+                            formatValue(statistic(snapshot, section)));
+                }
+                sections[section] = sb.toString();
+            }
+        }
+
+        private static double statistic(Snapshot snapshot, int section) {
+            switch (section - MIN_SECTION) {
+                case 0:
+                    return snapshot.getMin();
+                case 1:
+                    return snapshot.getMax();
+                case 2:
+                    return snapshot.getMean();
+                default:
+                    return snapshot.getStdDev();
+            }
+        }
+
+        private static String timeWindowLabel(Snapshot snapshot) {
+            return TIME_WINDOW_LABEL + "=\"" + snapshot.getTimeWindow().toMillis() + "\"";
+        }
+    }
+
+    private static void appendSample(StringBuilder sb, String name, String labels, String extraLabels,
+                                     String value) {
+        sb.append(name);
+        boolean hasLabels = !labels.isEmpty();
+        if (hasLabels || extraLabels != null) {
+            sb.append('{').append(labels);
+            if (extraLabels != null) {
+                if (hasLabels) {
+                    sb.append(',');
+                }
+                sb.append(extraLabels);
+            }
+            sb.append('}');
+        }
+        sb.append(' ').append(value).append('\n');
+    }
+
+    private static String renderLabels(MetricId id) {
+        Tag[] tags = id.getTags().toArray(new Tag[0]);
+        Arrays.sort(tags);
+        StringBuilder sb = new StringBuilder();
+        for (Tag tag : tags) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(sanitizeLabelName(tag.getKey())).append("=\"");
+            escapeLabelValue(sb, tag.getValue());
+            sb.append('"');
+        }
+        return sb.toString();
+    }
+
+    static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return Double.toString(value);
+    }
+
+    static String sanitizeName(String name) {
+        return sanitize(name, true);
+    }
+
+    static String sanitizeLabelName(String name) {
+        return sanitize(name, false);
+    }
+
+    // Metric names may contain colons, but label names may not
+    private static String sanitize(String name, boolean allowColon) {
+        if (name.isEmpty()) {
+            return "_";
+        }
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char ch = chars[i];
+            boolean valid = (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || ch == '_'
+                    || (allowColon && ch == ':') || (i > 0 && ch >= '0' && ch <= '9');
+            if (!valid) {
+                chars[i] = '_';
+            }
+        }
+        return new String(chars);
+    }
+
+    private static void escapeLabelValue(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                default:
+                    sb.append(ch);
+            }
+        }
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
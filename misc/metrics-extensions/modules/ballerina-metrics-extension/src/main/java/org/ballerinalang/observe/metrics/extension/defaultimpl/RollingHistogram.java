@@ -24,13 +24,27 @@ import org.HdrHistogram.DoubleHistogram;
 import org.HdrHistogram.DoubleRecorder;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Using {@link DoubleHistogram} to maintain samples in a ring buffer to decay older samples and give greater weight
  * to recent samples. This implementation allows to get summary statistics for a rolling window over the last X minutes.
+ * <p>
+ * Each sample is recorded once, into the bucket of the current age. The buckets are merged when a snapshot is taken,
+ * and the oldest bucket is cleared to be reused when the histogram is rotated. Each bucket is split into stripes,
+ * which are picked by the recording thread, so that threads recording at the same time mostly use different
+ * recorders. A stripe is created when a thread first records into it.
  */
 public class RollingHistogram {
 
+    private static final int MAX_STRIPES = 4;
+
+    /**
+     * Number of stripes in a bucket, which is a power of two.
+     */
+    private static final int STRIPES = Math.min(MAX_STRIPES,
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
     /**
      * Clock for measuring time.
      */
@@ -42,14 +56,14 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Buckets in a ring buffer.
      */
-    private final DoubleRecorder[] ringBuffer;
+    private final Bucket[] ringBuffer;
 
     /**
      * Current bucket index.
      */
-    private int currentBucket;
+    private volatile int currentBucket;
 
     /**
      * Last time the {@link RollingHistogram} was rotated.
@@ -91,9 +105,9 @@ public class RollingHistogram {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
-        ringBuffer = new DoubleRecorder[ageBuckets];
+        ringBuffer = new Bucket[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
-            ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            ringBuffer[i] = new Bucket(statisticConfig.getPercentilePrecision());
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
@@ -103,12 +117,12 @@ public class RollingHistogram {
     }
 
     public void record(double value) {
-        rotate();
-        try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
-            }
-        } finally {
+        if (clock.getCurrentTime() - lastRotateTimestampMillis >= durationBetweenRotatesMillis) {
+            rotate();
+        }
+        ringBuffer[currentBucket].getRecorder().recordValue(value);
+        // Only written when it changes, as all recording threads read the flag
+        if (!accumulatedHistogramStale) {
             accumulatedHistogramStale = true;
         }
     }
@@ -128,10 +142,11 @@ public class RollingHistogram {
             int iterations = 0;
             synchronized (this) {
                 do {
-                    currentHistogram().reset();
-                    if (++currentBucket >= ringBuffer.length) {
-                        currentBucket = 0;
-                    }
+                    // The oldest bucket is cleared before it is made current, so that no samples recorded into it
+                    // afterwards are lost
+                    int nextBucket = currentBucket + 1 < ringBuffer.length ? currentBucket + 1 : 0;
+                    ringBuffer[nextBucket].reset();
+                    currentBucket = nextBucket;
                     timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
                     lastRotateTimestampMillis += durationBetweenRotatesMillis;
                 } while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
@@ -142,10 +157,6 @@ public class RollingHistogram {
                     lastRotateTimestampMillis += durationBetweenRotatesMillis *
                             (timeSinceLastRotateMillis / durationBetweenRotatesMillis);
                 }
-
-                accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-                //TODO: Use accumulatedHistogram.reset(); and make accumulatedHistogram as final
-                //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
                 accumulatedHistogramStale = true;
             }
         } finally {
@@ -179,19 +190,100 @@ public class RollingHistogram {
         }
     }
 
+    /**
+     * Returns the number of samples in the current window of the {@link RollingHistogram}.
+     *
+     * @return number of samples recorded in the buckets which have not expired
+     */
+    long getTotalCount() {
+        rotate();
+        synchronized (this) {
+            accumulateIfStale();
+            return accumulatedHistogram.getTotalCount();
+        }
+    }
+
     private void accumulateIfStale() {
         if (accumulatedHistogramStale) {
-            accumulate();
+            // Cleared before the samples are read, so that samples recorded meanwhile mark it as stale again
             accumulatedHistogramStale = false;
+            accumulate();
         }
     }
 
     private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
+        //TODO: Use accumulatedHistogram.reset(); and make accumulatedHistogram as final
+        //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
+        accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
+        for (Bucket bucket : ringBuffer) {
+            DoubleHistogram bucketHistogram = bucket.accumulate(intervalHistogram);
+            if (bucketHistogram != null) {
+                accumulatedHistogram.add(bucketHistogram);
+            }
+        }
     }
 
-    private DoubleRecorder currentHistogram() {
-        return ringBuffer[currentBucket];
+    /**
+     * Samples recorded during one age of the {@link RollingHistogram}.
+     */
+    private static class Bucket {
+
+        private final int precision;
+        private final AtomicReferenceArray<DoubleRecorder> stripes = new AtomicReferenceArray<>(STRIPES);
+
+        /**
+         * Samples read from the stripes so far. Guarded by the {@link RollingHistogram}.
+         */
+        private DoubleHistogram histogram;
+
+        Bucket(int precision) {
+            this.precision = precision;
+        }
+
+        DoubleRecorder getRecorder() {
+            int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+            DoubleRecorder recorder = stripes.get(stripe);
+            if (recorder == null) {
+                recorder = new DoubleRecorder(precision);
+                if (!stripes.compareAndSet(stripe, null, recorder)) {
+                    recorder = stripes.get(stripe);
+                }
+            }
+            return recorder;
+        }
+
+        void reset() {
+            for (int i = 0; i < STRIPES; i++) {
+                DoubleRecorder recorder = stripes.get(i);
+                if (recorder != null) {
+                    recorder.reset();
+                }
+            }
+            histogram = null;
+        }
+
+        /**
+         * Adds the samples recorded since the last call to the histogram of the bucket.
+         *
+         * @param intervalHistogram histogram reused to read the samples of a stripe
+         * @return histogram of the bucket, or null if nothing was recorded since the bucket was reset
+         */
+        DoubleHistogram accumulate(DoubleHistogram intervalHistogram) {
+            for (int i = 0; i < STRIPES; i++) {
+                DoubleRecorder recorder = stripes.get(i);
+                if (recorder == null) {
+                    continue;
+                }
+                recorder.getIntervalHistogramInto(intervalHistogram);
+                if (intervalHistogram.getTotalCount() == 0) {
+                    continue;
+                }
+                if (histogram == null) {
+                    histogram = new DoubleHistogram(precision);
+                }
+                histogram.add(intervalHistogram);
+            }
+            return histogram;
+        }
     }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link PrometheusTextExporter}.
+ *
+ * @since 2201.0.1
+ */
+public class PrometheusTextExporterTest {
+
+    private MetricRegistry metricRegistry;
+    private PrometheusTextExporter exporter;
+
+    @BeforeMethod
+    public void init() {
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+        metricRegistry = new MetricRegistry(metricProvider);
+        exporter = new PrometheusTextExporter(metricRegistry);
+    }
+
+    @Test
+    public void testCounter() {
+        Counter counter = Counter.builder("requests_total").description("Total requests")
+                .tags("service", "orders", "method", "GET").register(metricRegistry);
+        counter.increment(5L);
+        Assert.assertEquals(exporter.export().toString(), "# HELP requests_total Total requests\n" +
+                "# TYPE requests_total counter\n" +
+                "requests_total{method=\"GET\",service=\"orders\"} 5\n");
+    }
+
+    @Test
+    public void testCountersSharingName() {
+        Counter.builder("requests_total").tags("service", "orders").register(metricRegistry).increment(1L);
+        Counter.builder("requests_total").tags("service", "users").register(metricRegistry).increment(2L);
+        String output = exporter.export().toString();
+        Assert.assertEquals(countOf(output, "# TYPE requests_total counter\n"), 1);
+        Assert.assertTrue(output.contains("requests_total{service=\"orders\"} 1\n"));
+        Assert.assertTrue(output.contains("requests_total{service=\"users\"} 2\n"));
+    }
+
+    @Test
+    public void testPolledGauge() {
+        AtomicInteger connections = new AtomicInteger(3);
+        PolledGauge.builder("open_connections", connections, AtomicInteger::doubleValue)
+                .register(metricRegistry);
+        Assert.assertTrue(exporter.export().toString().contains("\nopen_connections 3.0\n"));
+        connections.set(7);
+        Assert.assertTrue(exporter.export().toString().contains("\nopen_connections 7.0\n"));
+    }
+
+    @Test
+    public void testSummarizedGauge() {
+        Gauge gauge = Gauge.builder("response_time").description("Response time")
+                .summarize(StatisticConfig.builder().expiry(Duration.ofMinutes(1)).percentiles(0.5).build())
+                .register(metricRegistry);
+        gauge.setValue(10);
+        gauge.setValue(20);
+        String output = exporter.export().toString();
+        Assert.assertTrue(output.contains("# TYPE response_time gauge\nresponse_time 20.0\n"));
+        Assert.assertTrue(output.contains("# TYPE response_time_count counter\nresponse_time_count 2\n"));
+        Assert.assertTrue(output.contains("# TYPE response_time_sum gauge\nresponse_time_sum 30.0\n"));
+        Assert.assertTrue(output.contains("# TYPE response_time_quantile gauge\n"));
+        Assert.assertTrue(output.contains("response_time_quantile{time_window=\"60000\",quantile=\"0.5\"} "));
+        Assert.assertTrue(output.contains("response_time_min{time_window=\"60000\"} "));
+        Assert.assertTrue(output.contains("response_time_max{time_window=\"60000\"} "));
+        Assert.assertTrue(output.contains("response_time_mean{time_window=\"60000\"} "));
+        Assert.assertTrue(output.contains("response_time_stddev{time_window=\"60000\"} "));
+        Assert.assertEquals(countOf(output, "# TYPE "), 8);
+    }
+
+    @Test
+    public void testSummarizedGaugeWithSeveralWindows() {
+        Gauge gauge = Gauge.builder("response_time")
+                .summarize(StatisticConfig.builder().expiry(Duration.ofMinutes(1)).percentiles(0.5).build())
+                .summarize(StatisticConfig.builder().expiry(Duration.ofMinutes(5)).percentiles(0.5).build())
+                .register(metricRegistry);
+        gauge.setValue(10);
+        String output = exporter.export().toString();
+        // The totals are not tied to a window, while every statistic is written once for each of them
+        Assert.assertEquals(countOf(output, "response_time_count"), 3);
+        Assert.assertEquals(countOf(output, "response_time_sum"), 3);
+        for (String window : new String[]{"60000", "300000"}) {
+            Assert.assertTrue(output.contains("response_time_quantile{time_window=\"" + window
+                    + "\",quantile=\"0.5\"} "));
+            Assert.assertTrue(output.contains("response_time_min{time_window=\"" + window + "\"} "));
+            Assert.assertTrue(output.contains("response_time_mean{time_window=\"" + window + "\"} "));
+        }
+    }
+
+    @Test
+    public void testNamesAndLabelValuesAreEscaped() {
+        Counter.builder("http.requests-total").description("Line one\nline two")
+                .tags("resource.path", "/a\\b\"c\nd").register(metricRegistry).increment();
+        String output = exporter.export().toString();
+        Assert.assertTrue(output.contains("# HELP http_requests_total Line one\\nline two\n"));
+        Assert.assertTrue(output.contains("http_requests_total{resource_path=\"/a\\\\b\\\"c\\nd\"} 1\n"));
+    }
+
+    @Test
+    public void testExportChanges() {
+        Counter first = Counter.builder("first_total").register(metricRegistry);
+        Counter second = Counter.builder("second_total").register(metricRegistry);
+        first.increment();
+        second.increment();
+
+        String output = exporter.exportChanges().toString();
+        Assert.assertTrue(output.contains("first_total 1\n"));
+        Assert.assertTrue(output.contains("second_total 1\n"));
+
+        Assert.assertEquals(exporter.exportChanges().length(), 0);
+
+        second.increment();
+        Assert.assertEquals(exporter.exportChanges().toString(), "# HELP second_total second_total\n" +
+                "# TYPE second_total counter\n" +
+                "second_total 2\n");
+
+        // A full export still contains the metrics which did not change
+        output = exporter.export().toString();
+        Assert.assertTrue(output.contains("first_total 1\n"));
+        Assert.assertTrue(output.contains("second_total 2\n"));
+    }
+
+    @Test
+    public void testFullExportDoesNotHideChanges() {
+        Counter counter = Counter.builder("requests_total").register(metricRegistry);
+        counter.increment();
+        Assert.assertTrue(exporter.exportChanges().toString().contains("requests_total 1\n"));
+
+        counter.increment();
+        Assert.assertTrue(exporter.export().toString().contains("requests_total 2\n"));
+        Assert.assertTrue(exporter.exportChanges().toString().contains("requests_total 2\n"));
+        Assert.assertEquals(exporter.exportChanges().length(), 0);
+    }
+
+    @Test
+    public void testRemovedMetricInChanges() {
+        Counter removed = Counter.builder("removed_total").tags("service", "orders").register(metricRegistry);
+        removed.increment();
+        Assert.assertTrue(exporter.exportChanges().toString().contains("removed_total{service=\"orders\"} 1\n"));
+
+        // Added and removed between two exports of changes, hence it is never written by them
+        Counter unreported = Counter.builder("unreported_total").register(metricRegistry);
+        Assert.assertTrue(exporter.export().toString().contains("unreported_total 0\n"));
+        metricRegistry.unregister(removed);
+        metricRegistry.unregister(unreported);
+        Assert.assertEquals(exporter.export().length(), 0);
+        // Only the metric which was reported before is written as removed, and only once
+        Assert.assertEquals(exporter.exportChanges().toString(), "# REMOVED removed_total{service=\"orders\"}\n");
+        Assert.assertEquals(exporter.exportChanges().length(), 0);
+    }
+
+    @Test
+    public void testRemovedMetric() {
+        Counter counter = Counter.builder("removed_total").register(metricRegistry);
+        counter.increment();
+        Assert.assertTrue(exporter.export().toString().contains("removed_total 1\n"));
+        metricRegistry.unregister(counter);
+        Assert.assertEquals(exporter.export().length(), 0);
+    }
+
+    @Test
+    public void testExportToStream() throws IOException {
+        Counter.builder("requests_total").tags("path", "/caf\u00e9").register(metricRegistry).increment();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(out, false);
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8),
+                "# HELP requests_total requests_total\n" +
+                        "# TYPE requests_total counter\n" +
+                        "requests_total{path=\"/caf\u00e9\"} 1\n");
+    }
+
+    private static int countOf(String text, String part) {
+        int count = 0;
+        for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
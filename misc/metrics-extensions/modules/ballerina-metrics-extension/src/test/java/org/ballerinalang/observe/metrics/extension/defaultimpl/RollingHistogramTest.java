@@ -21,10 +21,13 @@ import io.ballerina.runtime.observability.metrics.PercentileValue;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -204,4 +207,136 @@ public class RollingHistogramTest {
         }
     }
 
+    @DataProvider(name = "recordingThreads")
+    public Object[][] recordingThreads() {
+        return new Object[][]{{1}, {4}, {16}, {64}};
+    }
+
+    @Test(dataProvider = "recordingThreads")
+    public void testConcurrentRecording(int threadCount) throws InterruptedException {
+        RollingHistogram histogram = new RollingHistogram(Clock.DEFAULT, StatisticConfig.builder()
+                .percentiles(new double[]{0.5})
+                .expiry(Duration.ofDays(1)).buckets(3).build());
+        int samplesPerThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            // Each thread records its own value, so that the mean changes if samples of a thread are lost
+            double value = i + 1;
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < samplesPerThread; j++) {
+                    histogram.record(value);
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(histogram.getTotalCount(), (long) threadCount * samplesPerThread);
+        Assert.assertEquals(snapshot.getMin(), 1.0, 0.01);
+        Assert.assertEquals(snapshot.getMax(), threadCount, 0.01 * threadCount);
+        Assert.assertEquals(snapshot.getMean(), (threadCount + 1) / 2.0, 0.01 * threadCount);
+    }
+
+    @Test
+    public void testSamplesSurviveRotation() {
+        final AtomicLong currentTime = new AtomicLong(0);
+        RollingHistogram histogram = new RollingHistogram(new TestClock(currentTime), StatisticConfig.builder()
+                .percentiles(new double[]{0.5})
+                .expiry(Duration.ofSeconds(4)).buckets(4).build());
+
+        histogram.record(10);
+        histogram.record(20);
+        Assert.assertEquals(histogram.getTotalCount(), 2);
+
+        // The samples of the previous buckets are kept until the window moves past them
+        currentTime.set(1000);
+        histogram.record(30);
+        Assert.assertEquals(histogram.getTotalCount(), 3);
+        currentTime.set(3999);
+        histogram.record(40);
+        Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(histogram.getTotalCount(), 4);
+        Assert.assertEquals(snapshot.getMin(), 10.0, 0.1);
+        Assert.assertEquals(snapshot.getMax(), 40.0, 0.1);
+        Assert.assertEquals(snapshot.getMean(), 25.0, 0.1);
+
+        // The bucket of the first samples is reused, which drops only them
+        currentTime.set(4000);
+        histogram.record(50);
+        snapshot = histogram.getSnapshot();
+        Assert.assertEquals(histogram.getTotalCount(), 3);
+        Assert.assertEquals(snapshot.getMin(), 30.0, 0.1);
+        Assert.assertEquals(snapshot.getMax(), 50.0, 0.1);
+    }
+
+    @Test(dataProvider = "recordingThreads")
+    public void testConcurrentRecordingDuringRotation(int threadCount) throws InterruptedException {
+        final AtomicLong currentTime = new AtomicLong(0);
+        RollingHistogram histogram = new RollingHistogram(new TestClock(currentTime), StatisticConfig.builder()
+                .percentiles(new double[]{0.5})
+                .expiry(Duration.ofSeconds(4)).buckets(4).build());
+        int samplesPerThread = 10_000;
+        int rotations = 3;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < samplesPerThread; j++) {
+                    histogram.record(1.0);
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        // The window is not moved past the first bucket, hence every sample has to be kept
+        for (int i = 1; i <= rotations; i++) {
+            Thread.sleep(1);
+            currentTime.set(i * 1000L);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(histogram.getTotalCount(), (long) threadCount * samplesPerThread);
+        Assert.assertEquals(histogram.getSnapshot().getMean(), 1.0, 0.01);
+    }
+
+    /**
+     * A clock which returns the time that is set by the test.
+     */
+    private static class TestClock implements Clock {
+
+        private final AtomicLong currentTime;
+
+        TestClock(AtomicLong currentTime) {
+            this.currentTime = currentTime;
+        }
+
+        @Override
+        public long getCurrentTime() {
+            return currentTime.get();
+        }
+
+        @Override
+        public long getCurrentTick() {
+            return currentTime.get() * 1_000_000;
+        }
+    }
 }
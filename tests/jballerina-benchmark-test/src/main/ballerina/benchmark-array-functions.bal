@@ -0,0 +1,73 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The callbacks which are not isolated access mutable state, hence are always called in order, while the isolated
+// ones of map, filter and forEach are called concurrently when BALLERINA_CONCURRENT_ITERATION_THRESHOLD is set.
+
+final int[] & readonly arrayFunctionInput = createArrayFunctionInput(1000000);
+
+int arrayFunctionOffset = 1;
+
+function createArrayFunctionInput(int size) returns int[] & readonly {
+    int[] values = [];
+    foreach int i in 0 ..< size {
+        values.push(i);
+    }
+    return values.cloneReadOnly();
+}
+
+public function benchmarkArrayMap() {
+    int[] result = arrayFunctionInput.map(function(int n) returns int {
+        return n + arrayFunctionOffset;
+    });
+}
+
+public function benchmarkArrayMapIsolated() {
+    int[] result = arrayFunctionInput.map(isolated function(int n) returns int {
+        return n * 2;
+    });
+}
+
+public function benchmarkArrayFilter() {
+    int[] result = arrayFunctionInput.filter(function(int n) returns boolean {
+        return (n + arrayFunctionOffset) % 3 == 0;
+    });
+}
+
+public function benchmarkArrayFilterIsolated() {
+    int[] result = arrayFunctionInput.filter(isolated function(int n) returns boolean {
+        return n % 3 == 0;
+    });
+}
+
+public function benchmarkArrayForEach() {
+    int sum = 0;
+    arrayFunctionInput.forEach(function(int n) {
+        sum += n;
+    });
+}
+
+public function benchmarkArrayForEachIsolated() {
+    arrayFunctionInput.forEach(isolated function(int n) {
+        int square = n * n;
+    });
+}
+
+public function benchmarkArrayReduce() {
+    int sum = arrayFunctionInput.reduce(isolated function(int total, int n) returns int {
+        return total + n;
+    }, 0);
+}
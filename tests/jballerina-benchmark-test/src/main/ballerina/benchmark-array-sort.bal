@@ -0,0 +1,74 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+const int SORT_INPUT_SIZE = 100000;
+
+final int[] & readonly intSortInput = createIntSortInput();
+final float[] & readonly floatSortInput = createFloatSortInput();
+final string[] & readonly stringSortInput = createStringSortInput();
+final decimal[] & readonly decimalSortInput = createDecimalSortInput();
+
+// Distinct numbers in a scrambled order, as 100003 is a prime larger than the size
+function createIntSortInput() returns int[] & readonly {
+    int[] values = [];
+    foreach int i in 0 ..< SORT_INPUT_SIZE {
+        values.push((i * 7919) % 100003);
+    }
+    return values.cloneReadOnly();
+}
+
+function createFloatSortInput() returns float[] & readonly {
+    float[] values = intSortInput.map(n => <float>n / 7.0);
+    return values.cloneReadOnly();
+}
+
+function createStringSortInput() returns string[] & readonly {
+    string[] values = intSortInput.map(n => "item-" + n.toString());
+    return values.cloneReadOnly();
+}
+
+function createDecimalSortInput() returns decimal[] & readonly {
+    decimal[] values = intSortInput.map(n => <decimal>n / 7);
+    return values.cloneReadOnly();
+}
+
+public function benchmarkSortIntArray() {
+    int[] result = intSortInput.sort();
+}
+
+public function benchmarkSortIntArrayDescending() {
+    int[] result = intSortInput.sort(array:DESCENDING);
+}
+
+public function benchmarkSortFloatArray() {
+    float[] result = floatSortInput.sort();
+}
+
+public function benchmarkSortStringArray() {
+    string[] result = stringSortInput.sort();
+}
+
+public function benchmarkSortDecimalArray() {
+    decimal[] result = decimalSortInput.sort();
+}
+
+public function benchmarkSortIntArrayByKey() {
+    int[] result = intSortInput.sort(array:ASCENDING, isolated function(int n) returns int {
+        return n % 1000;
+    });
+}
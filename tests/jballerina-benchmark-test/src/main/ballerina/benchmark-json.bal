@@ -0,0 +1,188 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Address record {|
+    string street;
+    string city;
+    string country;
+|};
+
+type Customer record {|
+    int id;
+    string name;
+    Address address;
+    float[] balances;
+|};
+
+const int JSON_ARRAY_SIZE = 10000;
+
+function createCustomersJson(int count) returns string {
+    json[] customers = [];
+    int i = 0;
+    while (i < count) {
+        customers.push({
+            id: i,
+            name: "customer",
+            address: {street: "main street", city: "colombo", country: "sri lanka"},
+            balances: [100.5, 200.25],
+            tags: ["new", "premium"]
+        });
+        i += 1;
+    }
+    return customers.toJsonString();
+}
+
+public function benchmarkJsonReadToRecords(int warmupCount, int benchmarkCount) returns int {
+    string customersJson = createCustomersJson(JSON_ARRAY_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        Customer[] customers = readJson(customersJson);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        Customer[] customers = readJson(customersJson);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJsonParseAndConvertToRecords(int warmupCount, int benchmarkCount) returns int {
+    string customersJson = createCustomersJson(JSON_ARRAY_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        Customer[] customers = parseAndConvertJson(customersJson);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        Customer[] customers = parseAndConvertJson(customersJson);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+function createReadingsJson(int count) returns string {
+    json[] readings = [];
+    int i = 0;
+    while (i < count) {
+        readings.push({sensor: i % 16, timestamp: 1630000000000 + i, values: [i, -i, i * 31, 21.5, -3.75]});
+        i += 1;
+    }
+    return readings.toJsonString();
+}
+
+function createMessagesJson(int count) returns string {
+    json[] messages = [];
+    int i = 0;
+    while (i < count) {
+        messages.push({
+            user: "user-" + i.toString(),
+            text: "A longer message body, which is mostly plain ASCII text with \"quotes\" and a tab\tin it.",
+            localized: "ආයුබෝවන් ලෝකය - こんにちは世界 😀"
+        });
+        i += 1;
+    }
+    return messages.toJsonString();
+}
+
+function benchmarkJsonParse(byte[] content, boolean fromBytes, int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        json value = fromBytes ? parseJsonBytes(content) : parseJsonStream(content);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        json value = fromBytes ? parseJsonBytes(content) : parseJsonStream(content);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJsonParseObjectsFromBytes(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(createCustomersJson(JSON_ARRAY_SIZE).toBytes(), true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonParseObjectsFromStream(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(createCustomersJson(JSON_ARRAY_SIZE).toBytes(), false, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonParseNumbersFromBytes(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(createReadingsJson(JSON_ARRAY_SIZE).toBytes(), true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonParseNumbersFromStream(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(createReadingsJson(JSON_ARRAY_SIZE).toBytes(), false, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonParseTextFromBytes(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(createMessagesJson(JSON_ARRAY_SIZE).toBytes(), true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonParseTextFromStream(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(createMessagesJson(JSON_ARRAY_SIZE).toBytes(), false, warmupCount, benchmarkCount);
+}
+
+function benchmarkJsonSerialize(json value, boolean asUtf8, int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        if (asUtf8) {
+            serializeJsonAsUtf8(value);
+        } else {
+            serializeJsonWithWriter(value);
+        }
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        if (asUtf8) {
+            serializeJsonAsUtf8(value);
+        } else {
+            serializeJsonWithWriter(value);
+        }
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJsonSerializeRecordsAsUtf8(int warmupCount, int benchmarkCount) returns int {
+    Customer[] customers = readJson(createCustomersJson(JSON_ARRAY_SIZE));
+    return benchmarkJsonSerialize(customers, true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonSerializeRecordsWithWriter(int warmupCount, int benchmarkCount) returns int {
+    Customer[] customers = readJson(createCustomersJson(JSON_ARRAY_SIZE));
+    return benchmarkJsonSerialize(customers, false, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonSerializeTextAsUtf8(int warmupCount, int benchmarkCount) returns int {
+    json messages = checkpanic createMessagesJson(JSON_ARRAY_SIZE).fromJsonString();
+    return benchmarkJsonSerialize(messages, true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonSerializeTextWithWriter(int warmupCount, int benchmarkCount) returns int {
+    json messages = checkpanic createMessagesJson(JSON_ARRAY_SIZE).fromJsonString();
+    return benchmarkJsonSerialize(messages, false, warmupCount, benchmarkCount);
+}
@@ -0,0 +1,136 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Point record {|
+    int x;
+    int y;
+    string label;
+|};
+
+type OpenPoint record {
+    int x;
+    int y;
+};
+
+function createPoints(int count) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        Point p = {x: i, y: i + 1, label: "point"};
+        sum += p.x;
+        i += 1;
+    }
+    return sum;
+}
+
+function createSmallMaps(int count) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        map<int> m = {a: i, b: i + 1, c: i + 2};
+        sum += m.length();
+        i += 1;
+    }
+    return sum;
+}
+
+function mapGetPut(int count) returns int {
+    map<int> m = {};
+    string[] keys = ["k0", "k1", "k2", "k3", "k4", "k5", "k6", "k7"];
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        string key = keys[i % 8];
+        m[key] = i;
+        sum += m.get(key);
+        i += 1;
+    }
+    return sum;
+}
+
+function recordGetPut(int count) returns int {
+    OpenPoint p = {x: 0, y: 0, "z": 0};
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        p.x = i;
+        p["z"] = i;
+        sum += p.x + p.y + <int>p["z"];
+        i += 1;
+    }
+    return sum;
+}
+
+public function benchmarkRecordCreation(int warmupCount, int benchmarkCount) returns int {
+    int result = createPoints(warmupCount);
+    int startTime = nanoTime();
+    result = createPoints(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkSmallMapCreation(int warmupCount, int benchmarkCount) returns int {
+    int result = createSmallMaps(warmupCount);
+    int startTime = nanoTime();
+    result = createSmallMaps(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkMapGetPut(int warmupCount, int benchmarkCount) returns int {
+    int result = mapGetPut(warmupCount);
+    int startTime = nanoTime();
+    result = mapGetPut(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkRecordGetPut(int warmupCount, int benchmarkCount) returns int {
+    int result = recordGetPut(warmupCount);
+    int startTime = nanoTime();
+    result = recordGetPut(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+type Account record {|
+    int id;
+    float balance;
+    string owner;
+    int? overdraftLimit = ();
+    boolean active?;
+|};
+
+function updateAccounts(int count) returns float {
+    Account account = {id: 1, balance: 0.0, owner: "owner"};
+    float total = 0.0;
+    int i = 0;
+    while (i < count) {
+        account.balance = account.balance + 1.5;
+        account.id = account.id + 1;
+        account.overdraftLimit = i;
+        account.active = true;
+        boolean? active = account?.active;
+        if (active == true) {
+            total += account.balance;
+        }
+        i += 1;
+    }
+    return total;
+}
+
+public function benchmarkRecordFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    float result = updateAccounts(warmupCount);
+    int startTime = nanoTime();
+    result = updateAccounts(benchmarkCount);
+    return (nanoTime() - startTime);
+}
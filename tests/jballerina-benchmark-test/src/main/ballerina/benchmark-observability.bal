@@ -0,0 +1,41 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+string[] resourcePaths = ["orders", "orders/{id}", "customers", "customers/{id}/orders"];
+
+function handleResource(string path, int id) returns int {
+    map<int> counts = {};
+    counts[path] = id;
+    return counts.length() > 0 ? 200 : 404;
+}
+
+public function benchmarkResourceCallUnobserved() {
+    int i = 0;
+    foreach string path in resourcePaths {
+        int statusCode = handleResource(path, i);
+        i += statusCode;
+    }
+}
+
+public function benchmarkResourceCallObserved() {
+    int i = 0;
+    foreach string path in resourcePaths {
+        handle observerContext = startResourceObservation("shop", path);
+        int statusCode = handleResource(path, i);
+        stopResourceObservation(observerContext, statusCode);
+        i += statusCode;
+    }
+}
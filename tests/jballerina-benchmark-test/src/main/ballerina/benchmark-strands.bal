@@ -0,0 +1,61 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+isolated function addInts(int a, int b) returns int {
+    return a + b;
+}
+
+function addIntsInNewStrand(int a, int b) returns int|error {
+    // Waiting on the child strand makes this strand yield and save its frame.
+    future<int> f = start addInts(a, b);
+    return wait f;
+}
+
+public function benchmarkStrandStartAndWait(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        future<int> f = start addInts(i, 1);
+        int|error result = wait f;
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        future<int> f = start addInts(i, 1);
+        int|error result = wait f;
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkYieldingStrandStartAndWait(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        future<int|error> f = start addIntsInNewStrand(i, 1);
+        int|error result = wait f;
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        future<int|error> f = start addIntsInNewStrand(i, 1);
+        int|error result = wait f;
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,53 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int FRAGMENT_COUNT = 10000;
+
+function buildString(string fragment, int count) returns string {
+    string result = "";
+    int i = 0;
+    while (i < count) {
+        result = result + fragment;
+        i += 1;
+    }
+    return result;
+}
+
+function benchmarkStringBuilding(string fragment, int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        int length = buildString(fragment, FRAGMENT_COUNT).length();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        // reading the length does not need the fragments to be copied, reading a character does
+        string result = buildString(fragment, FRAGMENT_COUNT);
+        string lastChar = result[result.length() - 1];
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStringBuildAscii(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkStringBuilding("{\"id\": 1, \"name\": \"item\"},", warmupCount, benchmarkCount);
+}
+
+public function benchmarkStringBuildNonBmp(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkStringBuilding("item \u{1F6F8}\u{1F47D},", warmupCount, benchmarkCount);
+}
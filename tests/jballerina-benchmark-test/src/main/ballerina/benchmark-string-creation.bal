@@ -0,0 +1,92 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int CREATION_FRAGMENT_COUNT = 1000;
+
+const string ASCII_FRAGMENT = "name: item ";
+const string BMP_FRAGMENT = "nämé: ítém ";
+const string EMOJI_FRAGMENT = "\u{1F6F8}\u{1F47D}: \u{1F600} ";
+
+function decodeStrings(byte[] bytes, int count) returns int {
+    int length = 0;
+    int i = 0;
+    while (i < count) {
+        string|error decoded = string:fromBytes(bytes);
+        if (decoded is string) {
+            length += decoded.length();
+        }
+        i += 1;
+    }
+    return length;
+}
+
+function benchmarkStringCreation(string fragment, int warmupCount, int benchmarkCount) returns int {
+    // the string is decoded in a single call, so the cost is dominated by creating the ballerina string from it
+    byte[] bytes = buildString(fragment, CREATION_FRAGMENT_COUNT).toBytes();
+    int length = decodeStrings(bytes, warmupCount);
+
+    int startTime = nanoTime();
+    length = decodeStrings(bytes, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function benchmarkJsonStringCreation(string fragment, int warmupCount, int benchmarkCount) returns int {
+    string[] values = [];
+    int i = 0;
+    while (i < CREATION_FRAGMENT_COUNT) {
+        values.push(fragment);
+        i += 1;
+    }
+    string jsonString = values.toJsonString();
+
+    i = 0;
+    while (i < warmupCount) {
+        json|error result = jsonString.fromJsonString();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        json|error result = jsonString.fromJsonString();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStringCreationAscii(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkStringCreation(ASCII_FRAGMENT, warmupCount, benchmarkCount);
+}
+
+public function benchmarkStringCreationBmp(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkStringCreation(BMP_FRAGMENT, warmupCount, benchmarkCount);
+}
+
+public function benchmarkStringCreationEmoji(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkStringCreation(EMOJI_FRAGMENT, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonStringCreationAscii(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonStringCreation(ASCII_FRAGMENT, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonStringCreationBmp(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonStringCreation(BMP_FRAGMENT, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonStringCreationEmoji(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonStringCreation(EMOJI_FRAGMENT, warmupCount, benchmarkCount);
+}
@@ -0,0 +1,199 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Employee record {|
+    readonly int id;
+    string name;
+    float salary;
+|};
+
+type EmployeeTable table<Employee> key(id);
+
+const int TABLE_SIZE = 1000000;
+
+function populateEmployees(int count) returns EmployeeTable {
+    EmployeeTable employees = table [];
+    int i = 0;
+    while (i < count) {
+        employees.add({id: i, name: "employee", salary: 1000.0});
+        i += 1;
+    }
+    return employees;
+}
+
+function lookupEmployees(EmployeeTable employees, int count) returns float {
+    float total = 0.0;
+    int i = 0;
+    while (i < count) {
+        Employee? employee = employees[i];
+        if (employee is Employee) {
+            total += employee.salary;
+        }
+        i += 1;
+    }
+    return total;
+}
+
+function iterateEmployees(EmployeeTable employees) returns float {
+    float total = 0.0;
+    foreach Employee employee in employees {
+        total += employee.salary;
+    }
+    return total;
+}
+
+public function benchmarkTableAdd(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        EmployeeTable employees = populateEmployees(TABLE_SIZE);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        EmployeeTable employees = populateEmployees(TABLE_SIZE);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableKeyLookup(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable employees = populateEmployees(TABLE_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        float total = lookupEmployees(employees, TABLE_SIZE);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        float total = lookupEmployees(employees, TABLE_SIZE);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableIteration(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable employees = populateEmployees(TABLE_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        float total = iterateEmployees(employees);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        float total = iterateEmployees(employees);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+const int CONCURRENT_STRANDS = 8;
+
+function addEmployeeRange(EmployeeTable employees, int startId, int endId) {
+    int i = startId;
+    while (i < endId) {
+        employees.add({id: i, name: "employee", salary: 1000.0});
+        i += 1;
+    }
+}
+
+function lookupEmployeeRange(EmployeeTable employees, int startId, int endId) returns float {
+    float total = 0.0;
+    int i = startId;
+    while (i < endId) {
+        Employee? employee = employees[i];
+        if (employee is Employee) {
+            total += employee.salary;
+        }
+        i += 1;
+    }
+    return total;
+}
+
+function populateEmployeesConcurrently(int count) returns EmployeeTable {
+    EmployeeTable employees = newConcurrentTable();
+    int rangeSize = count / CONCURRENT_STRANDS;
+    future<()>[] futures = [];
+    int strand = 0;
+    while (strand < CONCURRENT_STRANDS) {
+        future<()> f = start addEmployeeRange(employees, strand * rangeSize, (strand + 1) * rangeSize);
+        futures.push(f);
+        strand += 1;
+    }
+    foreach future<()> f in futures {
+        error? result = wait f;
+    }
+    return employees;
+}
+
+function lookupEmployeesConcurrently(EmployeeTable employees, int count) returns float {
+    int rangeSize = count / CONCURRENT_STRANDS;
+    future<float>[] futures = [];
+    int strand = 0;
+    while (strand < CONCURRENT_STRANDS) {
+        future<float> f = start lookupEmployeeRange(employees, strand * rangeSize, (strand + 1) * rangeSize);
+        futures.push(f);
+        strand += 1;
+    }
+    float total = 0.0;
+    foreach future<float> f in futures {
+        float|error result = wait f;
+        if (result is float) {
+            total += result;
+        }
+    }
+    return total;
+}
+
+// Compare with benchmarkTableAdd and benchmarkTableKeyLookup, and vary BALLERINA_MAX_POOL_SIZE to see how the
+// throughput scales with the number of threads
+public function benchmarkConcurrentTableAdd(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        EmployeeTable employees = populateEmployeesConcurrently(TABLE_SIZE);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        EmployeeTable employees = populateEmployeesConcurrently(TABLE_SIZE);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkConcurrentTableKeyLookup(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable employees = populateEmployeesConcurrently(TABLE_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        float total = lookupEmployeesConcurrently(employees, TABLE_SIZE);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        float total = lookupEmployeesConcurrently(employees, TABLE_SIZE);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
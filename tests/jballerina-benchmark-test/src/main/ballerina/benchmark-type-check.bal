@@ -0,0 +1,121 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Vertex record {|
+    int x;
+    int y;
+|};
+
+type Circle record {|
+    Vertex centre;
+    float radius;
+|};
+
+type Shape Vertex|Circle|Vertex[]|map<Vertex>;
+
+type Payload int|string|int[]|string[]|map<int>|map<string>|json[];
+
+Payload[] payloads = [1, "one", [1, 2, 3], ["one", "two"], {a: 1, b: 2}, {a: "one"}, [1, "one", {a: true}]];
+
+Shape[] shapes = [{x: 1, y: 2}, {centre: {x: 0, y: 0}, radius: 1.5}, [{x: 1, y: 2}], {p: {x: 3, y: 4}}];
+
+public function benchmarkMatchUnionMembers() {
+    int count = 0;
+    foreach Payload payload in payloads {
+        match payload {
+            var v if v is int[] => {
+                count += v.length();
+            }
+            var v if v is string[] => {
+                count += v.length();
+            }
+            var v if v is map<int> => {
+                count += v.length();
+            }
+            var v if v is map<string> => {
+                count += v.length();
+            }
+            var v if v is json[] => {
+                count += v.length();
+            }
+            _ => {
+                count += 1;
+            }
+        }
+    }
+}
+
+public function benchmarkIsCheckUnionMembers() {
+    int count = 0;
+    foreach Shape shape in shapes {
+        if shape is Vertex[] {
+            count += shape.length();
+        } else if shape is map<Vertex> {
+            count += shape.length();
+        } else if shape is Circle {
+            count += 2;
+        } else {
+            count += 1;
+        }
+    }
+}
+
+public function benchmarkCastUnionToJson() {
+    int count = 0;
+    foreach Payload payload in payloads {
+        json value = <json>payload;
+        if value is json[] {
+            count += value.length();
+        }
+    }
+}
+
+type Event record {|
+    string name;
+    int timestamp;
+|};
+
+type Metric record {|
+    string name;
+    float value;
+|};
+
+type Message int|float|decimal|string|boolean|()|Event|Metric|Vertex[]|map<string>|xml;
+
+any[] messages = [10, 2.5, "text", true, (), <Event>{name: "start", timestamp: 1}, <Metric>{name: "load", value: 0.5},
+        <Vertex[]>[{x: 1, y: 2}], <map<string>>{"key": "value"}];
+
+anydata[] messageData = [10, 2.5, "text", true, (), {name: "start", timestamp: 1}, {"key": "value"}];
+
+public function benchmarkCastToLargeUnion() {
+    int count = 0;
+    foreach any message in messages {
+        Message value = <Message>message;
+        if value is int|float|decimal {
+            count += 1;
+        }
+    }
+}
+
+public function benchmarkCloneWithTypeToLargeUnion() {
+    int count = 0;
+    foreach anydata data in messageData {
+        Message|error value = data.cloneWithType(Message);
+        if value is Message {
+            count += 1;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkDecimalAddition() {
+    decimal b = 9.99;
+    decimal a = 10.15;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalMultiplication() {
+    decimal a = 2.5;
+    decimal b = 5.25;
+    decimal c = a * b;
+}
+
+public function benchmarkDecimalSubtraction() {
+    decimal a = 25.5;
+    decimal b = 15.25;
+    decimal c = a - b;
+}
+
+public function benchmarkDecimalDivision() {
+    decimal a = 25.5;
+    decimal b = 5.1;
+    decimal c = a / b;
+}
+
+public function benchmarkDecimalNonTerminatingDivision() {
+    decimal a = 10.0;
+    decimal b = 3.0;
+    decimal c = a / b;
+}
+
+public function benchmarkDecimalComparison() {
+    decimal a = 25.50;
+    decimal b = 25.5;
+    boolean c = a < b || a == b;
+}
+
+public function benchmarkDecimalInvoiceTotal() {
+    decimal total = 0;
+    int i = 0;
+    while (i < 100) {
+        decimal price = 19.99;
+        decimal quantity = <decimal>(i % 5 + 1);
+        total += price * quantity * 1.08;
+        i += 1;
+    }
+}
@@ -0,0 +1,75 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function passMessages(int count) returns int {
+    worker sender {
+        int i = 0;
+        while (i < count) {
+            i -> receiver;
+            i += 1;
+        }
+    }
+
+    worker receiver returns int {
+        int sum = 0;
+        int i = 0;
+        while (i < count) {
+            int value = <- sender;
+            sum += value;
+            i += 1;
+        }
+        return sum;
+    }
+
+    return wait receiver;
+}
+
+function passSyncMessages(int count) returns int {
+    worker sender returns error? {
+        int i = 0;
+        while (i < count) {
+            check i ->> receiver;
+            i += 1;
+        }
+    }
+
+    worker receiver returns int {
+        int sum = 0;
+        int i = 0;
+        while (i < count) {
+            int value = <- sender;
+            sum += value;
+            i += 1;
+        }
+        return sum;
+    }
+
+    return wait receiver;
+}
+
+public function benchmarkWorkerAsyncSendReceive(int warmupCount, int benchmarkCount) returns int {
+    int result = passMessages(warmupCount);
+    int startTime = nanoTime();
+    result = passMessages(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerSyncSendReceive(int warmupCount, int benchmarkCount) returns int {
+    int result = passSyncMessages(warmupCount);
+    int startTime = nanoTime();
+    result = passSyncMessages(benchmarkCount);
+    return (nanoTime() - startTime);
+}
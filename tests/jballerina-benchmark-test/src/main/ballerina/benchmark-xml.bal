@@ -0,0 +1,107 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int XML_ENTRY_COUNT = 10000;
+const int XML_RETAINED_TREE_COUNT = 100;
+
+function createFeedXml(int count) returns string {
+    string[] entries = [];
+    int i = 0;
+    while (i < count) {
+        entries.push(string `<entry id="${i}"><title>Entry ${i}</title><author><name>user-${i}</name></author>` +
+            string `<content type="text">A longer entry body with some &amp; escaped text in it.</content></entry>`);
+        i += 1;
+    }
+    return "<feed><title>Feed</title>" + string:'join("", ...entries) + "</feed>";
+}
+
+function createLinksXml(int count) returns string {
+    string[] entries = [];
+    int i = 0;
+    while (i < count) {
+        entries.push(string `<entry id="${i}" xml:lang="en"><link rel="alternate" href="/entries/${i}"/>` +
+            string `<category term="c${i % 10}"/><updated>2021-01-01</updated><summary/></entry>`);
+        i += 1;
+    }
+    return "<feed>" + string:'join("", ...entries) + "</feed>";
+}
+
+function readFirstEntryTitle(xml feed) returns string {
+    xml entries = feed/<entry>;
+    return (entries[0]/<title>).data();
+}
+
+function benchmarkXmlParse(string content, boolean lazy, int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        xml feed = lazy ? parseXmlLazily(content) : checkpanic xml:fromString(content);
+        string title = readFirstEntryTitle(feed);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        xml feed = lazy ? parseXmlLazily(content) : checkpanic xml:fromString(content);
+        string title = readFirstEntryTitle(feed);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkXmlParseEager(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkXmlParse(createFeedXml(XML_ENTRY_COUNT), false, warmupCount, benchmarkCount);
+}
+
+public function benchmarkXmlParseLazy(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkXmlParse(createFeedXml(XML_ENTRY_COUNT), true, warmupCount, benchmarkCount);
+}
+
+public function benchmarkXmlParseElements(int warmupCount, int benchmarkCount) returns int {
+    string content = createFeedXml(XML_ENTRY_COUNT);
+    int i = 0;
+    while (i < warmupCount) {
+        int count = countXmlElements(content, "entry");
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int count = countXmlElements(content, "entry");
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+// The last parsed trees are kept reachable, so that the heap usage in the GC logs shows the size of the parsed nodes.
+public function benchmarkXmlRetainedTrees(int warmupCount, int benchmarkCount) returns int {
+    string content = createLinksXml(XML_ENTRY_COUNT / 10);
+    xml[] trees = [];
+    int i = 0;
+    while (i < warmupCount) {
+        trees[i % XML_RETAINED_TREE_COUNT] = checkpanic xml:fromString(content);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        trees[i % XML_RETAINED_TREE_COUNT] = checkpanic xml:fromString(content);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Reads a JSON string directly as a value of the given type.
+#
+# ```ballerina
+#   Person person = readJson(jsonString);
+# ```
+#
+# + json - The JSON string
+# + targetType - The type of the value
+# + return - The value read from the JSON string
+public isolated function readJson(string json, typedesc<anydata> targetType = <>) returns targetType =
+@java:Method {
+    name: "readJson",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+# Parses a JSON string and converts the parsed JSON value to the given type.
+#
+# ```ballerina
+#   Person person = parseAndConvertJson(jsonString);
+# ```
+#
+# + json - The JSON string
+# + targetType - The type of the value
+# + return - The value converted from the JSON string
+public isolated function parseAndConvertJson(string json, typedesc<anydata> targetType = <>) returns targetType =
+@java:Method {
+    name: "parseAndConvertJson",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+# Parses UTF-8 encoded JSON content directly from the bytes.
+#
+# ```ballerina
+#   json value = parseJsonBytes(jsonString.toBytes());
+# ```
+#
+# + json - The UTF-8 encoded JSON content
+# + return - The parsed JSON value
+public isolated function parseJsonBytes(byte[] json) returns json = @java:Method {
+    name: "parseJsonBytes",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+# Parses UTF-8 encoded JSON content by reading it as a character stream.
+#
+# ```ballerina
+#   json value = parseJsonStream(jsonString.toBytes());
+# ```
+#
+# + json - The UTF-8 encoded JSON content
+# + return - The parsed JSON value
+public isolated function parseJsonStream(byte[] json) returns json = @java:Method {
+    name: "parseJsonStream",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+# Serializes a JSON value as UTF-8 bytes, which are discarded.
+#
+# + value - The JSON value
+public isolated function serializeJsonAsUtf8(json value) = @java:Method {
+    name: "serializeJsonAsUtf8",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+# Serializes a JSON value through a character writer, which discards the encoded bytes.
+#
+# + value - The JSON value
+public isolated function serializeJsonWithWriter(json value) = @java:Method {
+    name: "serializeJsonWithWriter",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
@@ -0,0 +1,37 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Starts observing a resource call with the metrics observer of the runtime.
+#
+# + serviceName - The name of the service
+# + resourcePath - The path of the resource
+# + return - The context of the observation
+public isolated function startResourceObservation(string serviceName, string resourcePath)
+        returns handle = @java:Method {
+    name: "startResourceObservation",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+# Stops observing a resource call, recording the metrics of the call.
+#
+# + observerContext - The context returned when the observation was started
+# + statusCode - The HTTP status code of the response
+public isolated function stopResourceObservation(handle observerContext, int statusCode) = @java:Method {
+    name: "stopResourceObservation",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
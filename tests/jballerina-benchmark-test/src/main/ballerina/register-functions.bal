@@ -36,6 +36,44 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStrandStartAndWait", benchmarkStrandStartAndWait);
+    addSingleExecFunction("benchmarkYieldingStrandStartAndWait", benchmarkYieldingStrandStartAndWait);
+    addSingleExecFunction("benchmarkWorkerAsyncSendReceive", benchmarkWorkerAsyncSendReceive);
+    addSingleExecFunction("benchmarkWorkerSyncSendReceive", benchmarkWorkerSyncSendReceive);
+    addSingleExecFunction("benchmarkRecordCreation", benchmarkRecordCreation);
+    addSingleExecFunction("benchmarkSmallMapCreation", benchmarkSmallMapCreation);
+    addSingleExecFunction("benchmarkMapGetPut", benchmarkMapGetPut);
+    addSingleExecFunction("benchmarkRecordGetPut", benchmarkRecordGetPut);
+    addSingleExecFunction("benchmarkRecordFieldAccess", benchmarkRecordFieldAccess);
+    addSingleExecFunction("benchmarkTableAdd", benchmarkTableAdd);
+    addSingleExecFunction("benchmarkTableKeyLookup", benchmarkTableKeyLookup);
+    addSingleExecFunction("benchmarkTableIteration", benchmarkTableIteration);
+    addSingleExecFunction("benchmarkConcurrentTableAdd", benchmarkConcurrentTableAdd);
+    addSingleExecFunction("benchmarkConcurrentTableKeyLookup", benchmarkConcurrentTableKeyLookup);
+    addSingleExecFunction("benchmarkStringBuildAscii", benchmarkStringBuildAscii);
+    addSingleExecFunction("benchmarkStringBuildNonBmp", benchmarkStringBuildNonBmp);
+    addSingleExecFunction("benchmarkStringCreationAscii", benchmarkStringCreationAscii);
+    addSingleExecFunction("benchmarkStringCreationBmp", benchmarkStringCreationBmp);
+    addSingleExecFunction("benchmarkStringCreationEmoji", benchmarkStringCreationEmoji);
+    addSingleExecFunction("benchmarkJsonStringCreationAscii", benchmarkJsonStringCreationAscii);
+    addSingleExecFunction("benchmarkJsonStringCreationBmp", benchmarkJsonStringCreationBmp);
+    addSingleExecFunction("benchmarkJsonStringCreationEmoji", benchmarkJsonStringCreationEmoji);
+    addSingleExecFunction("benchmarkJsonReadToRecords", benchmarkJsonReadToRecords);
+    addSingleExecFunction("benchmarkJsonParseAndConvertToRecords", benchmarkJsonParseAndConvertToRecords);
+    addSingleExecFunction("benchmarkJsonParseObjectsFromBytes", benchmarkJsonParseObjectsFromBytes);
+    addSingleExecFunction("benchmarkJsonParseObjectsFromStream", benchmarkJsonParseObjectsFromStream);
+    addSingleExecFunction("benchmarkJsonParseNumbersFromBytes", benchmarkJsonParseNumbersFromBytes);
+    addSingleExecFunction("benchmarkJsonParseNumbersFromStream", benchmarkJsonParseNumbersFromStream);
+    addSingleExecFunction("benchmarkJsonParseTextFromBytes", benchmarkJsonParseTextFromBytes);
+    addSingleExecFunction("benchmarkJsonParseTextFromStream", benchmarkJsonParseTextFromStream);
+    addSingleExecFunction("benchmarkJsonSerializeRecordsAsUtf8", benchmarkJsonSerializeRecordsAsUtf8);
+    addSingleExecFunction("benchmarkJsonSerializeRecordsWithWriter", benchmarkJsonSerializeRecordsWithWriter);
+    addSingleExecFunction("benchmarkJsonSerializeTextAsUtf8", benchmarkJsonSerializeTextAsUtf8);
+    addSingleExecFunction("benchmarkJsonSerializeTextWithWriter", benchmarkJsonSerializeTextWithWriter);
+    addSingleExecFunction("benchmarkXmlParseEager", benchmarkXmlParseEager);
+    addSingleExecFunction("benchmarkXmlParseLazy", benchmarkXmlParseLazy);
+    addSingleExecFunction("benchmarkXmlParseElements", benchmarkXmlParseElements);
+    addSingleExecFunction("benchmarkXmlRetainedTrees", benchmarkXmlRetainedTrees);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +101,31 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkDecimalAddition", benchmarkDecimalAddition);
+    addMultiExecFunction("benchmarkDecimalMultiplication", benchmarkDecimalMultiplication);
+    addMultiExecFunction("benchmarkDecimalSubtraction", benchmarkDecimalSubtraction);
+    addMultiExecFunction("benchmarkDecimalDivision", benchmarkDecimalDivision);
+    addMultiExecFunction("benchmarkDecimalNonTerminatingDivision", benchmarkDecimalNonTerminatingDivision);
+    addMultiExecFunction("benchmarkDecimalComparison", benchmarkDecimalComparison);
+    addMultiExecFunction("benchmarkDecimalInvoiceTotal", benchmarkDecimalInvoiceTotal);
+    addMultiExecFunction("benchmarkMatchUnionMembers", benchmarkMatchUnionMembers);
+    addMultiExecFunction("benchmarkIsCheckUnionMembers", benchmarkIsCheckUnionMembers);
+    addMultiExecFunction("benchmarkCastUnionToJson", benchmarkCastUnionToJson);
+    addMultiExecFunction("benchmarkCastToLargeUnion", benchmarkCastToLargeUnion);
+    addMultiExecFunction("benchmarkCloneWithTypeToLargeUnion", benchmarkCloneWithTypeToLargeUnion);
+    addMultiExecFunction("benchmarkResourceCallUnobserved", benchmarkResourceCallUnobserved);
+    addMultiExecFunction("benchmarkResourceCallObserved", benchmarkResourceCallObserved);
+    addMultiExecFunction("benchmarkArrayMap", benchmarkArrayMap);
+    addMultiExecFunction("benchmarkArrayMapIsolated", benchmarkArrayMapIsolated);
+    addMultiExecFunction("benchmarkArrayFilter", benchmarkArrayFilter);
+    addMultiExecFunction("benchmarkArrayFilterIsolated", benchmarkArrayFilterIsolated);
+    addMultiExecFunction("benchmarkArrayForEach", benchmarkArrayForEach);
+    addMultiExecFunction("benchmarkArrayForEachIsolated", benchmarkArrayForEachIsolated);
+    addMultiExecFunction("benchmarkArrayReduce", benchmarkArrayReduce);
+    addMultiExecFunction("benchmarkSortIntArray", benchmarkSortIntArray);
+    addMultiExecFunction("benchmarkSortIntArrayDescending", benchmarkSortIntArrayDescending);
+    addMultiExecFunction("benchmarkSortFloatArray", benchmarkSortFloatArray);
+    addMultiExecFunction("benchmarkSortStringArray", benchmarkSortStringArray);
+    addMultiExecFunction("benchmarkSortDecimalArray", benchmarkSortDecimalArray);
+    addMultiExecFunction("benchmarkSortIntArrayByKey", benchmarkSortIntArrayByKey);
 }
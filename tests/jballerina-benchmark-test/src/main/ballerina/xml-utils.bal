@@ -0,0 +1,40 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Parses an XML string, building the children of each element only when they are first accessed.
+#
+# ```ballerina
+#   xml feed = parseXmlLazily(xmlString);
+# ```
+#
+# + content - The XML string
+# + return - The parsed XML value
+public isolated function parseXmlLazily(string content) returns xml = @java:Method {
+    name: "parseXmlLazily",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+# Counts the elements with the given name by reading them from the XML string one at a time.
+#
+# + content - The XML string
+# + elementName - The name of the elements
+# + return - The number of elements
+public isolated function countXmlElements(string content, string elementName) returns int = @java:Method {
+    name: "countXmlElements",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
@@ -18,15 +18,34 @@ package org.ballerinalang.benchmark.nativeimpl;
 
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.IllegalFormatConversionException;
+import java.util.Iterator;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_PATH;
 
 /**
  * This class holds utility functionality that is required for benchmarking.
@@ -36,6 +55,7 @@ import java.util.IllegalFormatConversionException;
 public class Utils {
 
     private static final BString NOT_ENOUGH_FORMAT_ARGUMENTS = StringUtils.fromString("not enough format arguments");
+    private static final BallerinaMetricsObserver METRICS_OBSERVER = new BallerinaMetricsObserver();
 
     private Utils() {
     }
@@ -145,6 +165,62 @@ public class Utils {
         return StringUtils.fromString(result.toString());
     }
 
+    public static BTable newConcurrentTable(BTypedesc tableType) {
+        return ValueCreator.createConcurrentTableValue((TableType) tableType.getDescribingType());
+    }
+
+    public static Object readJson(BString json, BTypedesc targetType) {
+        return JsonUtils.parse(new StringReader(json.getValue()), targetType.getDescribingType());
+    }
+
+    public static Object parseAndConvertJson(BString json, BTypedesc targetType) {
+        return JsonUtils.convertJSON(JsonUtils.parse(json), targetType.getDescribingType());
+    }
+
+    public static Object parseJsonBytes(BArray json) {
+        return JsonUtils.parse(json.getBytes());
+    }
+
+    public static Object parseJsonStream(BArray json) {
+        return JsonUtils.parse(new ByteArrayInputStream(json.getBytes()), StandardCharsets.UTF_8.name());
+    }
+
+    public static void serializeJsonAsUtf8(Object json) {
+        JsonUtils.serialize(json, OutputStream.nullOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    public static void serializeJsonWithWriter(Object json) {
+        JsonUtils.serialize(json, new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    public static BXml parseXmlLazily(BString content) {
+        return XmlUtils.parseLazily(content.getValue());
+    }
+
+    public static long countXmlElements(BString content, BString elementName) {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader(content.getValue()), elementName.getValue());
+        long count = 0;
+        while (elements.hasNext()) {
+            elements.next();
+            count++;
+        }
+        return count;
+    }
+
+    public static ObserverContext startResourceObservation(BString serviceName, BString resourcePath) {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.addTag(TAG_KEY_SRC_OBJECT_NAME, serviceName.getValue());
+        observerContext.addTag(TAG_KEY_SRC_RESOURCE_PATH, resourcePath.getValue());
+        observerContext.setStarted();
+        METRICS_OBSERVER.startServerObservation(observerContext);
+        return observerContext;
+    }
+
+    public static void stopResourceObservation(ObserverContext observerContext, long statusCode) {
+        observerContext.addProperty(PROPERTY_KEY_HTTP_STATUS_CODE, (int) statusCode);
+        METRICS_OBSERVER.stopServerObservation(observerContext);
+    }
+
     private static void formatHexString(StringBuilder result, int k, StringBuilder padding, char x, Object... args) {
         final Object argsValues = args[k];
         final Type type = TypeUtils.getType(argsValues);
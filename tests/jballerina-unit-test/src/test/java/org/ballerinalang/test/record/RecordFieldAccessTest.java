@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.record;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for loading and storing fields of statically known record types, which the generated code accesses
+ * directly when the value is of the expected record class.
+ *
+ * @since 2201.0.1
+ */
+public class RecordFieldAccessTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/record/record_field_access.bal");
+    }
+
+    @Test(dataProvider = "recordFieldAccessTestFunctions")
+    public void testRecordFieldAccess(String testFunction) {
+        BRunUtil.invoke(result, testFunction);
+    }
+
+    @DataProvider(name = "recordFieldAccessTestFunctions")
+    public Object[][] recordFieldAccessTestFunctions() {
+        return new Object[][]{
+                {"testOptionalFieldAbsentAndPresent"},
+                {"testStoreToReadonlyRecord"},
+                {"testFieldAccessOnValueOfDifferentRecordType"},
+                {"testPrimitiveFieldLoadAndStore"},
+                {"testFillingReadOnNestedRecords"}
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -0,0 +1,239 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const INHERENT_TYPE_VIOLATION_REASON = "{ballerina/lang.map}InherentTypeViolation";
+
+type Profile record {|
+    int id;
+    string name?;
+    int age?;
+    float score?;
+    boolean active?;
+|};
+
+function testOptionalFieldAbsentAndPresent() {
+    Profile p = {id: 1};
+    assertEquality((), p?.name);
+    assertEquality((), p["age"]);
+    int? age = p.age;
+    assertEquality((), age);
+    float? score = p?.score;
+    assertEquality((), score);
+    assertFalse(p.hasKey("age"));
+
+    p.age = 30;
+    p.score = 4.5;
+    p.active = false;
+    age = p.age;
+    assertEquality(30, age);
+    score = p?.score;
+    assertEquality(4.5, score);
+    assertEquality(false, p?.active);
+    assertEquality((), p?.name);
+    assertTrue(p.hasKey("age"));
+    assertEquality(<Profile> {id: 1, age: 30, score: 4.5, active: false}, p);
+
+    _ = p.remove("age");
+    assertEquality((), p.age);
+    assertFalse(p.hasKey("age"));
+    p.age = 31;
+    assertEquality(31, p["age"]);
+    assertEquality(<Profile> {id: 1, age: 31, score: 4.5, active: false}, p);
+}
+
+type Point record {
+    int x;
+    int y;
+};
+
+function updateX(Point p, int x) {
+    p.x = x;
+}
+
+function testStoreToReadonlyRecord() {
+    Point p = {x: 1, y: 2};
+    updateX(p, 3);
+    assertEquality(3, p.x);
+
+    Point frozen = p.cloneReadOnly();
+    error? res = trap updateX(frozen, 4);
+    assertTrue(res is error);
+    error err = <error> res;
+    assertEquality(INHERENT_TYPE_VIOLATION_REASON, err.message());
+    assertEquality(3, frozen.x);
+
+    Point & readonly immutable = {x: 5, y: 6};
+    res = trap updateX(immutable, 7);
+    assertTrue(res is error);
+    err = <error> res;
+    assertEquality(INHERENT_TYPE_VIOLATION_REASON, err.message());
+    assertEquality(5, immutable.x);
+
+    // The original value is still mutable
+    updateX(p, 8);
+    assertEquality(8, p.x);
+}
+
+type Base record {
+    int id;
+    float score;
+};
+
+type Derived record {
+    int id;
+    float score;
+    string name = "derived";
+};
+
+function updateBase(Base b, int id, float score) returns [int, float] {
+    b.id = id;
+    b.score = score;
+    return [b.id, b.score];
+}
+
+function testFieldAccessOnValueOfDifferentRecordType() {
+    Derived d = {id: 1, score: 1.5};
+    Base b = d;
+    assertEquality(1, b.id);
+    float score = b.score;
+    assertEquality(1.5, score);
+    assertEquality("derived", b["name"]);
+
+    b["name"] = "updated";
+    assertEquality("updated", d.name);
+
+    // The same generated code is run with values of both record types
+    Base base = {id: 2, score: 2.5};
+    assertEquality(<[int, float]> [3, 3.5], updateBase(base, 3, 3.5));
+    assertEquality(<[int, float]> [4, 4.5], updateBase(d, 4, 4.5));
+    assertEquality(3, base.id);
+    assertEquality(4, d.id);
+    assertEquality(4.5, d.score);
+    assertEquality(<Derived> {id: 4, score: 4.5, name: "updated"}, d);
+}
+
+type Numbers record {|
+    byte b;
+    int i;
+    float f;
+    decimal d;
+    boolean flag;
+    int|float u;
+    anydata a;
+|};
+
+function testPrimitiveFieldLoadAndStore() {
+    Numbers n = {b: 1, i: 2, f: 3.5, d: 4.5, flag: true, u: 5, a: 6};
+
+    byte b = n.b;
+    int widenedByte = n.b;
+    int i = n.i;
+    float f = n.f;
+    decimal d = n.d;
+    boolean flag = n.flag;
+    int|float u = n.u;
+    any boxedInt = n.i;
+    anydata boxedFloat = n.f;
+    assertEquality(1, b);
+    assertEquality(1, widenedByte);
+    assertEquality(2, i);
+    assertEquality(3.5, f);
+    assertEquality(4.5d, d);
+    assertTrue(flag);
+    assertEquality(5, u);
+    assertEquality(2, boxedInt);
+    assertEquality(3.5, boxedFloat);
+
+    n.b = 255;
+    n.i = b;
+    n.f = f * 2;
+    n.d = d + 1;
+    n.flag = !flag;
+    n.u = f;
+    n.a = n.b;
+    assertEquality(255, n.b);
+    assertEquality(1, n.i);
+    assertEquality(7.0, n.f);
+    assertEquality(5.5d, n.d);
+    assertFalse(n.flag);
+    assertEquality(3.5, n.u);
+    assertTrue(n.a is byte);
+    assertEquality(255, n.a);
+
+    n.u = n.i;
+    n.a = n.f;
+    assertTrue(n.u is int);
+    assertEquality(1, n.u);
+    assertTrue(n.a is float);
+    assertEquality(7.0, n.a);
+    assertEquality(<Numbers> {b: 255, i: 1, f: 7.0, d: 5.5, flag: false, u: 1, a: 7.0}, n);
+}
+
+type Counter record {|
+    int count = 0;
+    string label = "counter";
+|};
+
+type Holder record {|
+    Counter counter = {};
+    Counter optCounter?;
+    map<Counter> counters = {};
+|};
+
+function testFillingReadOnNestedRecords() {
+    Holder h = {};
+    h.counter.count = 3;
+    assertEquality(3, h.counter.count);
+    h.counter.count += 2;
+    assertEquality(5, h.counter.count);
+
+    // The absent optional field is created with its filler value
+    h.optCounter.count = 4;
+    assertEquality(<Counter> {count: 4, label: "counter"}, h?.optCounter);
+    h.optCounter.label = "optional";
+    assertEquality(<Counter> {count: 4, label: "optional"}, h?.optCounter);
+
+    h.counters["a"].count = 2;
+    assertEquality(2, h.counters["a"]?.count);
+    assertEquality(<Holder> {
+        counter: {count: 5},
+        optCounter: {count: 4, label: "optional"},
+        counters: {a: {count: 2}}
+    }, h);
+}
+
+function assertTrue(any|error actual) {
+    assertEquality(true, actual);
+}
+
+function assertFalse(any|error actual) {
+    assertEquality(false, actual);
+}
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error("AssertionError", message = "expected '" + expectedValAsString + "', found '" +
+                actualValAsString + "'");
+}